@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.assertj.ConcurrentResultSoftAssertions;
+import com.leakyabstractions.result.assertj.ResultSoftAssertions;
+
+/**
+ * Contention benchmarks for {@link ConcurrentResultSoftAssertions}.
+ * <p>
+ * All threads share the same soft assertions object, which is replaced after each iteration. The {@code collect}
+ * benchmarks hand over a preallocated error, so that they measure the cost of collecting errors rather than the cost
+ * of creating them. The {@code synchronized} benchmarks guard a plain {@link ResultSoftAssertions} with a lock, as
+ * tests had to do before.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@Threads(64)
+@Fork(1)
+public class ConcurrentResultSoftAssertionsBenchmark {
+
+    private static final String EXPECTED = "expected";
+    private static final AssertionError ERROR = new AssertionError("error");
+
+    private final Result<String, Integer> expected = Results.success(EXPECTED);
+
+    private ConcurrentSoftly concurrent;
+    private Softly plain;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        this.concurrent = new ConcurrentSoftly();
+        this.plain = new Softly();
+    }
+
+    @Benchmark
+    public void concurrent_collect() {
+        this.concurrent.collectAssertionError(ERROR);
+    }
+
+    @Benchmark
+    public void synchronized_collect() {
+        synchronized (this.plain) {
+            this.plain.collectAssertionError(ERROR);
+        }
+    }
+
+    @Benchmark
+    public Object concurrent_hasSuccess_passing() {
+        return this.concurrent.assertThat(this.expected).hasSuccess(EXPECTED);
+    }
+
+    @Benchmark
+    public Object synchronized_hasSuccess_passing() {
+        synchronized (this.plain) {
+            return this.plain.assertThat(this.expected).hasSuccess(EXPECTED);
+        }
+    }
+
+    static class ConcurrentSoftly extends ConcurrentResultSoftAssertions {
+        /* Exposes the protected constructor */
+    }
+
+    static class Softly extends ResultSoftAssertions {
+        /* Exposes the protected constructor */
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj.benchmarks;
+
+import static com.leakyabstractions.result.assertj.ResultAssertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Benchmarks for failing {@code ResultAssert} assertions on large success values.
+ * <p>
+ * The {@code caught} benchmarks only catch the assertion error, while the {@code rendered} ones also request its
+ * message.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorMessageBenchmark {
+
+    /** Number of elements of the success value. */
+    @Param({"10", "10000"})
+    public int size;
+
+    private List<Integer> expected;
+    private Result<List<Integer>, String> different;
+    private Result<List<Integer>, String> unexpected;
+
+    /** Creates the results to assert on. */
+    @Setup
+    public void setUp() {
+        this.expected = new ArrayList<>(this.size);
+        final List<Integer> actual = new ArrayList<>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            this.expected.add(i);
+            actual.add(i == this.size / 2 ? -i : i);
+        }
+        this.different = Results.success(actual);
+        this.unexpected = Results.failure("failure");
+    }
+
+    @Benchmark
+    public Object hasSuccess_with_Object_mismatch_caught() {
+        try {
+            assertThat(this.different).hasSuccess(this.expected);
+        } catch (AssertionError error) {
+            return error;
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+
+    @Benchmark
+    public String hasSuccess_with_Object_mismatch_rendered() {
+        try {
+            assertThat(this.different).hasSuccess(this.expected);
+        } catch (AssertionError error) {
+            return error.getMessage();
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+
+    @Benchmark
+    public Object hasSuccess_failing_caught() {
+        try {
+            assertThat(this.unexpected).hasSuccess();
+        } catch (AssertionError error) {
+            return error;
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+
+    @Benchmark
+    public String hasSuccess_failing_rendered() {
+        try {
+            assertThat(this.unexpected).hasSuccess();
+        } catch (AssertionError error) {
+            return error.getMessage();
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+}
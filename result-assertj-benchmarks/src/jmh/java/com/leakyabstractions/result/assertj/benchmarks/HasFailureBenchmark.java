@@ -0,0 +1,268 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj.benchmarks;
+
+import static com.leakyabstractions.result.assertj.ResultAssertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.INTEGER;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.Condition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Benchmarks for the failure-side assertions of {@code ResultAssert}.
+ * <p>
+ * Each assertion is measured on three paths:
+ * <ul>
+ * <li>{@code passing}: the assertion holds.</li>
+ * <li>{@code failing}: the result is a success, so the assertion fails and its error message is rendered.</li>
+ * <li>{@code mismatch}: the result is a failure with a different value, so the assertion fails and its error message
+ * is rendered.</li>
+ * </ul>
+ * The {@code baseline} benchmarks assert on {@link Result#getFailure()} using plain AssertJ.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HasFailureBenchmark {
+
+    private static final Integer EXPECTED = Integer.valueOf(4321);
+    private static final Consumer<Integer> REQUIREMENT = x -> Assertions.assertThat(x).isEqualTo(EXPECTED);
+    private static final Condition<Integer> CONDITION = new Condition<>(EXPECTED::equals, "expected");
+
+    private final Result<String, Integer> expected = Results.failure(EXPECTED);
+    private final Result<String, Integer> different = Results.failure(Integer.valueOf(1234));
+    private final Result<String, Integer> unexpected = Results.success("expected");
+
+    @Benchmark
+    public Object hasFailure_passing() {
+        return assertThat(this.expected).hasFailure();
+    }
+
+    @Benchmark
+    public String hasFailure_failing() {
+        try {
+            assertThat(this.unexpected).hasFailure();
+        } catch (AssertionError error) {
+            return error.getMessage();
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+
+    @Benchmark
+    public Object hasFailure_with_Object_passing() {
+        return assertThat(this.expected).hasFailure(EXPECTED);
+    }
+
+    @Benchmark
+    public String hasFailure_with_Object_failing() {
+        try {
+            assertThat(this.unexpected).hasFailure(EXPECTED);
+        } catch (AssertionError error) {
+            return error.getMessage();
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+
+    @Benchmark
+    public String hasFailure_with_Object_mismatch() {
+        try {
+            assertThat(this.different).hasFailure(EXPECTED);
+        } catch (AssertionError error) {
+            return error.getMessage();
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+
+    @Benchmark
+    public Object hasFailureSameAs_passing() {
+        return assertThat(this.expected).hasFailureSameAs(EXPECTED);
+    }
+
+    @Benchmark
+    public String hasFailureSameAs_failing() {
+        try {
+            assertThat(this.unexpected).hasFailureSameAs(EXPECTED);
+        } catch (AssertionError error) {
+            return error.getMessage();
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+
+    @Benchmark
+    public String hasFailureSameAs_mismatch() {
+        try {
+            assertThat(this.different).hasFailureSameAs(EXPECTED);
+        } catch (AssertionError error) {
+            return error.getMessage();
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+
+    @Benchmark
+    public Object hasFailureSatisfying_with_Consumer_passing() {
+        return assertThat(this.expected).hasFailureSatisfying(REQUIREMENT);
+    }
+
+    @Benchmark
+    public String hasFailureSatisfying_with_Consumer_failing() {
+        try {
+            assertThat(this.unexpected).hasFailureSatisfying(REQUIREMENT);
+        } catch (AssertionError error) {
+            return error.getMessage();
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+
+    @Benchmark
+    public String hasFailureSatisfying_with_Consumer_mismatch() {
+        try {
+            assertThat(this.different).hasFailureSatisfying(REQUIREMENT);
+        } catch (AssertionError error) {
+            return error.getMessage();
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+
+    @Benchmark
+    public Object hasFailureSatisfying_with_Condition_passing() {
+        return assertThat(this.expected).hasFailureSatisfying(CONDITION);
+    }
+
+    @Benchmark
+    public String hasFailureSatisfying_with_Condition_failing() {
+        try {
+            assertThat(this.unexpected).hasFailureSatisfying(CONDITION);
+        } catch (AssertionError error) {
+            return error.getMessage();
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+
+    @Benchmark
+    public String hasFailureSatisfying_with_Condition_mismatch() {
+        try {
+            assertThat(this.different).hasFailureSatisfying(CONDITION);
+        } catch (AssertionError error) {
+            return error.getMessage();
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+
+    @Benchmark
+    public Object hasFailureInstanceOf_passing() {
+        return assertThat(this.expected).hasFailureInstanceOf(Integer.class);
+    }
+
+    @Benchmark
+    public String hasFailureInstanceOf_failing() {
+        try {
+            assertThat(this.unexpected).hasFailureInstanceOf(Integer.class);
+        } catch (AssertionError error) {
+            return error.getMessage();
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+
+    @Benchmark
+    public String hasFailureInstanceOf_mismatch() {
+        try {
+            assertThat(this.different).hasFailureInstanceOf(Long.class);
+        } catch (AssertionError error) {
+            return error.getMessage();
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+
+    @Benchmark
+    public Object hasFailureThat_passing() {
+        return assertThat(this.expected).hasFailureThat();
+    }
+
+    @Benchmark
+    public String hasFailureThat_failing() {
+        try {
+            assertThat(this.unexpected).hasFailureThat();
+        } catch (AssertionError error) {
+            return error.getMessage();
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+
+    @Benchmark
+    public Object hasFailureThat_with_InstanceOfAssertFactory_passing() {
+        return assertThat(this.expected).hasFailureThat(INTEGER);
+    }
+
+    @Benchmark
+    public String hasFailureThat_with_InstanceOfAssertFactory_failing() {
+        try {
+            assertThat(this.unexpected).hasFailureThat(INTEGER);
+        } catch (AssertionError error) {
+            return error.getMessage();
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+
+    @Benchmark
+    public Object baseline_isPresent_passing() {
+        return Assertions.assertThat(this.expected.getFailure()).isPresent();
+    }
+
+    @Benchmark
+    public Object baseline_contains_passing() {
+        return Assertions.assertThat(this.expected.getFailure()).contains(EXPECTED);
+    }
+
+    @Benchmark
+    public String baseline_isPresent_failing() {
+        try {
+            Assertions.assertThat(this.unexpected.getFailure()).isPresent();
+        } catch (AssertionError error) {
+            return error.getMessage();
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+
+    @Benchmark
+    public String baseline_contains_mismatch() {
+        try {
+            Assertions.assertThat(this.different.getFailure()).contains(EXPECTED);
+        } catch (AssertionError error) {
+            return error.getMessage();
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+}
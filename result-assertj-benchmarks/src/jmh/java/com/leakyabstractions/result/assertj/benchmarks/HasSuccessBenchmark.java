@@ -0,0 +1,283 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj.benchmarks;
+
+import static com.leakyabstractions.result.assertj.ResultAssertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.STRING;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.Condition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Benchmarks for the success-side assertions of {@code ResultAssert}.
+ * <p>
+ * Each assertion is measured on three paths:
+ * <ul>
+ * <li>{@code passing}: the assertion holds.</li>
+ * <li>{@code failing}: the result is a failure, so the assertion fails and its error message is rendered.</li>
+ * <li>{@code mismatch}: the result is a success with a different value, so the assertion fails and its error message
+ * is rendered.</li>
+ * </ul>
+ * The {@code baseline} benchmarks assert on {@link Result#getSuccess()} using plain AssertJ.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HasSuccessBenchmark {
+
+    private static final String EXPECTED = "expected";
+    private static final Consumer<String> REQUIREMENT = x -> Assertions.assertThat(x).isEqualTo(EXPECTED);
+    private static final Condition<String> CONDITION = new Condition<>(EXPECTED::equals, "expected");
+
+    private final Result<String, Integer> expected = Results.success(EXPECTED);
+    private final Result<String, Integer> different = Results.success("different");
+    private final Result<String, Integer> unexpected = Results.failure(Integer.valueOf(4321));
+
+    @Benchmark
+    public Object hasSuccess_passing() {
+        return assertThat(this.expected).hasSuccess();
+    }
+
+    @Benchmark
+    public String hasSuccess_failing() {
+        try {
+            assertThat(this.unexpected).hasSuccess();
+        } catch (AssertionError error) {
+            return error.getMessage();
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+
+    @Benchmark
+    public Object hasSuccess_with_Object_passing() {
+        return assertThat(this.expected).hasSuccess(EXPECTED);
+    }
+
+    @Benchmark
+    public String hasSuccess_with_Object_failing() {
+        try {
+            assertThat(this.unexpected).hasSuccess(EXPECTED);
+        } catch (AssertionError error) {
+            return error.getMessage();
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+
+    @Benchmark
+    public String hasSuccess_with_Object_mismatch() {
+        try {
+            assertThat(this.different).hasSuccess(EXPECTED);
+        } catch (AssertionError error) {
+            return error.getMessage();
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+
+    @Benchmark
+    public Object hasSuccessSameAs_passing() {
+        return assertThat(this.expected).hasSuccessSameAs(EXPECTED);
+    }
+
+    @Benchmark
+    public String hasSuccessSameAs_failing() {
+        try {
+            assertThat(this.unexpected).hasSuccessSameAs(EXPECTED);
+        } catch (AssertionError error) {
+            return error.getMessage();
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+
+    @Benchmark
+    public String hasSuccessSameAs_mismatch() {
+        try {
+            assertThat(this.different).hasSuccessSameAs(EXPECTED);
+        } catch (AssertionError error) {
+            return error.getMessage();
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+
+    @Benchmark
+    public Object hasSuccessSatisfying_with_Consumer_passing() {
+        return assertThat(this.expected).hasSuccessSatisfying(REQUIREMENT);
+    }
+
+    @Benchmark
+    public String hasSuccessSatisfying_with_Consumer_failing() {
+        try {
+            assertThat(this.unexpected).hasSuccessSatisfying(REQUIREMENT);
+        } catch (AssertionError error) {
+            return error.getMessage();
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+
+    @Benchmark
+    public String hasSuccessSatisfying_with_Consumer_mismatch() {
+        try {
+            assertThat(this.different).hasSuccessSatisfying(REQUIREMENT);
+        } catch (AssertionError error) {
+            return error.getMessage();
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+
+    @Benchmark
+    public Object hasSuccessSatisfying_with_Condition_passing() {
+        return assertThat(this.expected).hasSuccessSatisfying(CONDITION);
+    }
+
+    @Benchmark
+    public String hasSuccessSatisfying_with_Condition_failing() {
+        try {
+            assertThat(this.unexpected).hasSuccessSatisfying(CONDITION);
+        } catch (AssertionError error) {
+            return error.getMessage();
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+
+    @Benchmark
+    public String hasSuccessSatisfying_with_Condition_mismatch() {
+        try {
+            assertThat(this.different).hasSuccessSatisfying(CONDITION);
+        } catch (AssertionError error) {
+            return error.getMessage();
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+
+    @Benchmark
+    public Object hasSuccessInstanceOf_passing() {
+        return assertThat(this.expected).hasSuccessInstanceOf(String.class);
+    }
+
+    @Benchmark
+    public String hasSuccessInstanceOf_failing() {
+        try {
+            assertThat(this.unexpected).hasSuccessInstanceOf(String.class);
+        } catch (AssertionError error) {
+            return error.getMessage();
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+
+    @Benchmark
+    public String hasSuccessInstanceOf_mismatch() {
+        try {
+            assertThat(this.different).hasSuccessInstanceOf(Long.class);
+        } catch (AssertionError error) {
+            return error.getMessage();
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+
+    @Benchmark
+    public Object hasSuccessThat_passing() {
+        return assertThat(this.expected).hasSuccessThat();
+    }
+
+    @Benchmark
+    public String hasSuccessThat_failing() {
+        try {
+            assertThat(this.unexpected).hasSuccessThat();
+        } catch (AssertionError error) {
+            return error.getMessage();
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+
+    @Benchmark
+    public Object hasSuccessThat_with_InstanceOfAssertFactory_passing() {
+        return assertThat(this.expected).hasSuccessThat(STRING);
+    }
+
+    @Benchmark
+    public String hasSuccessThat_with_InstanceOfAssertFactory_failing() {
+        try {
+            assertThat(this.unexpected).hasSuccessThat(STRING);
+        } catch (AssertionError error) {
+            return error.getMessage();
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+
+    @Benchmark
+    public Object hasSuccessThatString_passing() {
+        return assertThat(this.expected).hasSuccessThatString();
+    }
+
+    @Benchmark
+    public String hasSuccessThatString_failing() {
+        try {
+            assertThat(this.unexpected).hasSuccessThatString();
+        } catch (AssertionError error) {
+            return error.getMessage();
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+
+    @Benchmark
+    public Object baseline_isPresent_passing() {
+        return Assertions.assertThat(this.expected.getSuccess()).isPresent();
+    }
+
+    @Benchmark
+    public Object baseline_contains_passing() {
+        return Assertions.assertThat(this.expected.getSuccess()).contains(EXPECTED);
+    }
+
+    @Benchmark
+    public String baseline_isPresent_failing() {
+        try {
+            Assertions.assertThat(this.unexpected.getSuccess()).isPresent();
+        } catch (AssertionError error) {
+            return error.getMessage();
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+
+    @Benchmark
+    public String baseline_contains_mismatch() {
+        try {
+            Assertions.assertThat(this.different.getSuccess()).contains(EXPECTED);
+        } catch (AssertionError error) {
+            return error.getMessage();
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+}
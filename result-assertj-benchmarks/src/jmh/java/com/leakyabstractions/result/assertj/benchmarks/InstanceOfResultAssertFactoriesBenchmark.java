@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj.benchmarks;
+
+import static com.leakyabstractions.result.assertj.InstanceOfResultAssertFactories.RESULT;
+import static com.leakyabstractions.result.assertj.InstanceOfResultAssertFactories.resultOf;
+
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.Assertions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.assertj.InstanceOfResultAssertFactories;
+
+/**
+ * Benchmarks for {@link InstanceOfResultAssertFactories}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstanceOfResultAssertFactoriesBenchmark {
+
+    private static final String EXPECTED = "expected";
+
+    private final Object expected = Results.success(EXPECTED);
+    private final Object unexpected = Results.failure(Integer.valueOf(4321));
+
+    @Benchmark
+    public Object resultOf_create() {
+        return resultOf(String.class, Integer.class);
+    }
+
+    @Benchmark
+    public Object resultOf_hasSuccess_passing() {
+        return Assertions.assertThat(this.expected)
+                .asInstanceOf(resultOf(String.class, Integer.class))
+                .hasSuccess(EXPECTED);
+    }
+
+    @Benchmark
+    public String resultOf_hasSuccess_failing() {
+        try {
+            Assertions.assertThat(this.unexpected)
+                    .asInstanceOf(resultOf(String.class, Integer.class))
+                    .hasSuccess(EXPECTED);
+        } catch (AssertionError error) {
+            return error.getMessage();
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+
+    @Benchmark
+    public Object RESULT_hasSuccess_passing() {
+        return Assertions.assertThat(this.expected).asInstanceOf(RESULT).hasSuccess(EXPECTED);
+    }
+
+    @Benchmark
+    public Object baseline_isInstanceOf_passing() {
+        return Assertions.assertThat(this.expected).isInstanceOf(Result.class);
+    }
+}
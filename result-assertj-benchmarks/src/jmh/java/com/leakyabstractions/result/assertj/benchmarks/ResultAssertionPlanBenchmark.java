@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj.benchmarks;
+
+import static com.leakyabstractions.result.assertj.ResultAssertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.assertj.core.api.Condition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.assertj.ResultAssertionPlan;
+
+/**
+ * Benchmarks for {@code ResultAssertionPlan} and its predicate compared to chaining the same assertions on
+ * {@code ResultAssert}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultAssertionPlanBenchmark {
+
+    private static final Condition<Object> NOT_EMPTY = new Condition<>(x -> !((String) x).isEmpty(), "not empty");
+
+    private final Result<Object, Integer> result = Results.success("expected");
+    private final ResultAssertionPlan<Object, Integer> plan = ResultAssertionPlan.<Object, Integer>create()
+            .hasSuccessInstanceOf(String.class)
+            .hasSuccessSatisfying(NOT_EMPTY);
+    private final Predicate<Result<Object, Integer>> predicate = this.plan.asPredicate();
+
+    @Benchmark
+    public Object chained_assert() {
+        return assertThat(this.result).hasSuccessInstanceOf(String.class).hasSuccessSatisfying(NOT_EMPTY);
+    }
+
+    @Benchmark
+    public Object plan_verify() {
+        this.plan.verify(this.result);
+        return this.plan;
+    }
+
+    @Benchmark
+    public boolean predicate_test() {
+        return this.predicate.test(this.result);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj.benchmarks;
+
+import static com.leakyabstractions.result.assertj.ResultAssertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.assertj.ResultChecks;
+
+/**
+ * Benchmarks for {@code ResultChecks} compared to catching the errors thrown by {@code ResultAssert}.
+ * <p>
+ * Mismatches are only counted, so error messages are not rendered.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultChecksBenchmark {
+
+    private static final String EXPECTED = "expected";
+
+    private final Result<String, Integer> expected = Results.success(EXPECTED);
+    private final Result<String, Integer> different = Results.success("different");
+
+    @Benchmark
+    public boolean hasSuccess_with_Object_passing_assert() {
+        try {
+            assertThat(this.expected).hasSuccess(EXPECTED);
+            return true;
+        } catch (AssertionError error) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public boolean hasSuccess_with_Object_passing_check() {
+        return ResultChecks.of(this.expected).hasSuccess(EXPECTED).passed();
+    }
+
+    @Benchmark
+    public boolean hasSuccess_with_Object_mismatch_assert() {
+        try {
+            assertThat(this.different).hasSuccess(EXPECTED);
+            return true;
+        } catch (AssertionError error) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public boolean hasSuccess_with_Object_mismatch_check() {
+        return ResultChecks.of(this.different).hasSuccess(EXPECTED).passed();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj.benchmarks;
+
+import static com.leakyabstractions.result.assertj.ResultAssertions.assertThatResults;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.assertj.ResultIterableAssert;
+
+/**
+ * Scaling benchmarks for {@link ResultIterableAssert#inParallel()}.
+ * <p>
+ * The {@code parallelism} parameter sets the number of worker threads of the fork/join pool; compare its results with
+ * the {@code sequential} benchmark to see how parallel inspection scales with the number of cores.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ResultIterableParallelBenchmark {
+
+    @Param({"1000000", "10000000"})
+    private int size;
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    private int parallelism;
+
+    private List<Result<Integer, Integer>> results;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.results = new ArrayList<>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            this.results.add(Results.success(Integer.valueOf(i)));
+        }
+        this.pool = new ForkJoinPool(this.parallelism);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.pool.shutdown();
+    }
+
+    @Benchmark
+    public Object sequential_allSucceed() {
+        return assertThatResults(this.results).allSucceed();
+    }
+
+    @Benchmark
+    public Object parallel_allSucceed() {
+        return assertThatResults(this.results).inParallel(this.pool).allSucceed();
+    }
+}
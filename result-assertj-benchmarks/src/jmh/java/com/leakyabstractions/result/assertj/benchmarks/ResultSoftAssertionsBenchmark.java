@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.SoftAssertions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.assertj.ResultAssert;
+import com.leakyabstractions.result.assertj.ResultSoftAssertions;
+
+/**
+ * Benchmarks for {@link ResultSoftAssertions#assertThat(Result)}.
+ * <p>
+ * Each benchmark creates a new soft assertions object, so that collected errors do not pile up across invocations.
+ * The {@code proxy} benchmarks use a runtime proxy of {@link ResultAssert}, as soft assertions used to do. The
+ * {@code baseline} benchmarks assert on {@link Result#getSuccess()} using plain AssertJ soft assertions.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultSoftAssertionsBenchmark {
+
+    private static final String EXPECTED = "expected";
+
+    private final Result<String, Integer> expected = Results.success(EXPECTED);
+    private final Result<String, Integer> unexpected = Results.failure(Integer.valueOf(4321));
+
+    @Benchmark
+    public List<AssertionError> assertThat_hasSuccess_passing() {
+        final Softly softly = new Softly();
+        softly.assertThat(this.expected).hasSuccess(EXPECTED);
+        return softly.assertionErrorsCollected();
+    }
+
+    @Benchmark
+    public List<AssertionError> assertThat_hasSuccess_failing() {
+        final Softly softly = new Softly();
+        softly.assertThat(this.unexpected).hasSuccess(EXPECTED);
+        return softly.assertionErrorsCollected();
+    }
+
+    @Benchmark
+    public String assertThat_hasSuccess_failing_assertAll() {
+        final Softly softly = new Softly();
+        softly.assertThat(this.unexpected).hasSuccess(EXPECTED);
+        try {
+            softly.assertAll();
+        } catch (AssertionError error) {
+            return error.getMessage();
+        }
+        throw new IllegalStateException("Assertion should have failed");
+    }
+
+    @Benchmark
+    public List<AssertionError> proxy_hasSuccess_passing() {
+        final Softly softly = new Softly();
+        softly.proxy(this.expected).hasSuccess(EXPECTED);
+        return softly.assertionErrorsCollected();
+    }
+
+    @Benchmark
+    public List<AssertionError> proxy_hasSuccess_failing() {
+        final Softly softly = new Softly();
+        softly.proxy(this.unexpected).hasSuccess(EXPECTED);
+        return softly.assertionErrorsCollected();
+    }
+
+    @Benchmark
+    public List<AssertionError> baseline_contains_passing() {
+        final SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(this.expected.getSuccess()).contains(EXPECTED);
+        return softly.assertionErrorsCollected();
+    }
+
+    @Benchmark
+    public List<AssertionError> baseline_contains_failing() {
+        final SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(this.unexpected.getSuccess()).contains(EXPECTED);
+        return softly.assertionErrorsCollected();
+    }
+
+    static class Softly extends ResultSoftAssertions {
+
+        @SuppressWarnings("unchecked")
+        <S, F> ResultAssert<S, F> proxy(Result<S, F> actual) {
+            return this.proxy(ResultAssert.class, Result.class, actual);
+        }
+    }
+}
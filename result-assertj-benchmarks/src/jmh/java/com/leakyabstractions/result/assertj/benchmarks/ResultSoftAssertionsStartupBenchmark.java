@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.assertj.ResultSoftAssertions;
+
+/**
+ * Startup benchmarks for {@link ResultSoftAssertions#assertThat(Result)}.
+ * <p>
+ * Each fork measures a single invocation in a fresh JVM, so the results include class loading and, for the
+ * {@code proxy} benchmarks, runtime proxy generation.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class ResultSoftAssertionsStartupBenchmark {
+
+    private static final String EXPECTED = "expected";
+
+    private final Result<String, Integer> expected = Results.success(EXPECTED);
+
+    @Benchmark
+    public List<AssertionError> assertThat_first_call() {
+        final ResultSoftAssertionsBenchmark.Softly softly = new ResultSoftAssertionsBenchmark.Softly();
+        softly.assertThat(this.expected).hasSuccess(EXPECTED);
+        return softly.assertionErrorsCollected();
+    }
+
+    @Benchmark
+    public List<AssertionError> proxy_first_call() {
+        final ResultSoftAssertionsBenchmark.Softly softly = new ResultSoftAssertionsBenchmark.Softly();
+        softly.proxy(this.expected).hasSuccess(EXPECTED);
+        return softly.assertionErrorsCollected();
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj.benchmarks;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Minimal {@link Result} implementation for benchmarking purposes.
+ *
+ * @param <S> the success type.
+ * @param <F> the failure type.
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+abstract class Results<S, F> implements Result<S, F> {
+
+    static <S, F> Result<S, F> success(S value) {
+        return new Success<>(value);
+    }
+
+    static <S, F> Result<S, F> failure(F value) {
+        return new Failure<>(value);
+    }
+
+    @Override
+    public Stream<S> streamSuccess() {
+        return this.getSuccess().map(Stream::of).orElseGet(Stream::empty);
+    }
+
+    @Override
+    public Stream<F> streamFailure() {
+        return this.getFailure().map(Stream::of).orElseGet(Stream::empty);
+    }
+
+    @Override
+    public Result<S, F> ifSuccess(Consumer<? super S> action) {
+        this.getSuccess().ifPresent(action);
+        return this;
+    }
+
+    @Override
+    public Result<S, F> ifFailure(Consumer<? super F> action) {
+        this.getFailure().ifPresent(action);
+        return this;
+    }
+
+    @Override
+    public Result<S, F> ifSuccessOrElse(
+            Consumer<? super S> successAction, Consumer<? super F> failureAction) {
+        return this.ifSuccess(successAction).ifFailure(failureAction);
+    }
+
+    @Override
+    public Result<S, F> filter(
+            Predicate<? super S> isAcceptable, Function<? super S, ? extends F> mapper) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Result<S, F> recover(
+            Predicate<? super F> isRecoverable, Function<? super F, ? extends S> mapper) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <S2> Result<S2, F> mapSuccess(Function<? super S, ? extends S2> mapper) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <F2> Result<S, F2> mapFailure(Function<? super F, ? extends F2> mapper) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <S2, F2> Result<S2, F2> map(
+            Function<? super S, ? extends S2> successMapper,
+            Function<? super F, ? extends F2> failureMapper) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <S2> Result<S2, F> flatMapSuccess(
+            Function<? super S, ? extends Result<? extends S2, ? extends F>> mapper) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <F2> Result<S, F2> flatMapFailure(
+            Function<? super F, ? extends Result<? extends S, ? extends F2>> mapper) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <S2, F2> Result<S2, F2> flatMap(
+            Function<? super S, ? extends Result<? extends S2, ? extends F2>> successMapper,
+            Function<? super F, ? extends Result<? extends S2, ? extends F2>> failureMapper) {
+        throw new UnsupportedOperationException();
+    }
+
+    private static final class Success<S, F> extends Results<S, F> {
+
+        private final S value;
+
+        Success(S value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean hasSuccess() {
+            return true;
+        }
+
+        @Override
+        public boolean hasFailure() {
+            return false;
+        }
+
+        @Override
+        public Optional<S> getSuccess() {
+            return Optional.of(value);
+        }
+
+        @Override
+        public Optional<F> getFailure() {
+            return Optional.empty();
+        }
+
+        @Override
+        public S orElse(S other) {
+            return value;
+        }
+
+        @Override
+        public S orElseMap(Function<? super F, ? extends S> mapper) {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return "Success[" + value + "]";
+        }
+    }
+
+    private static final class Failure<S, F> extends Results<S, F> {
+
+        private final F value;
+
+        Failure(F value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean hasSuccess() {
+            return false;
+        }
+
+        @Override
+        public boolean hasFailure() {
+            return true;
+        }
+
+        @Override
+        public Optional<S> getSuccess() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<F> getFailure() {
+            return Optional.of(value);
+        }
+
+        @Override
+        public S orElse(S other) {
+            return other;
+        }
+
+        @Override
+        public S orElseMap(Function<? super F, ? extends S> mapper) {
+            return mapper.apply(value);
+        }
+
+        @Override
+        public String toString() {
+            return "Failure[" + value + "]";
+        }
+    }
+}
@@ -16,24 +16,47 @@
 
 package com.leakyabstractions.result.assertj;
 
-import static com.leakyabstractions.result.assertj.ResultShouldBe.shouldBeFailure;
-import static com.leakyabstractions.result.assertj.ResultShouldBe.shouldBeSuccess;
-import static com.leakyabstractions.result.assertj.ResultShouldHave.shouldHave;
-import static com.leakyabstractions.result.assertj.ResultShouldHave.shouldHaveInstanceOf;
-import static com.leakyabstractions.result.assertj.ResultShouldHave.shouldHaveSame;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_FAILURE;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_FAILURE_EQUAL_TO;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_FAILURE_IN;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_FAILURE_INSTANCE_OF;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_FAILURE_NOT_IN;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_FAILURE_SAME_AS;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_FAILURE_SATISFYING;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_SUCCESS;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_SUCCESS_EQUAL_TO;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_SUCCESS_IN;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_SUCCESS_INSTANCE_OF;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_SUCCESS_NOT_IN;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_SUCCESS_SAME_AS;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_SUCCESS_SATISFYING;
+import static com.leakyabstractions.result.assertj.ResultValues.failureOf;
+import static com.leakyabstractions.result.assertj.ResultValues.successOf;
 import static org.assertj.core.api.ObjectAssertProxy.assertWithAssertionState;
-import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.core.api.ObjectAssertProxy.withAssertionState;
 
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import org.assertj.core.annotation.CheckReturnValue;
 import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.api.AbstractIntegerAssert;
+import org.assertj.core.api.AbstractLongAssert;
+import org.assertj.core.api.AbstractStringAssert;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.Condition;
 import org.assertj.core.api.InstanceOfAssertFactory;
+import org.assertj.core.api.ListAssert;
+import org.assertj.core.api.MapAssert;
 import org.assertj.core.api.ObjectAssert;
 import org.assertj.core.api.ObjectAssertProxy;
-import org.assertj.core.internal.Conditions;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
+import org.assertj.core.internal.ComparisonStrategy;
 import org.assertj.core.internal.StandardComparisonStrategy;
 
 import com.leakyabstractions.result.api.Result;
@@ -50,6 +73,9 @@ import com.leakyabstractions.result.api.Result;
 abstract class AbstractResultAssert<SELF extends AbstractResultAssert<SELF, S, F>, S, F>
         extends AbstractAssert<SELF, Result<S, F>> {
 
+    private ComparisonStrategy successComparisonStrategy = StandardComparisonStrategy.instance();
+    private ComparisonStrategy failureComparisonStrategy = StandardComparisonStrategy.instance();
+
     protected AbstractResultAssert(Result<S, F> actual, Class<?> selfType) {
         super(actual, selfType);
     }
@@ -78,8 +104,7 @@ abstract class AbstractResultAssert<SELF extends AbstractResultAssert<SELF, S, F
      * @return this assertion object.
      */
     public SELF hasSuccess() {
-        this.assertHasSuccess();
-        return myself;
+        return this.timed("hasSuccess", () -> this.assertHasSuccess());
     }
 
     /**
@@ -103,16 +128,16 @@ abstract class AbstractResultAssert<SELF extends AbstractResultAssert<SELF, S, F
      * </code>
      * </pre>
      *
+     * <p>
+     * Values are compared with {@link Object#equals(Object)}, unless a custom comparator was set with
+     * {@link #usingSuccessComparator(Comparator)}.
+     *
      * @param expectedValue the expected success value inside the {@link Result}.
      * @return this assertion object.
      */
     public SELF hasSuccess(S expectedValue) {
-        final S value = this.assertHasSuccess();
-        this.checkNotNull(expectedValue);
-        if (!StandardComparisonStrategy.instance().areEqual(value, expectedValue)) {
-            throw this.assertionError(shouldHave(this.actual(), expectedValue, value));
-        }
-        return myself;
+        return this.timed(
+                "hasSuccess", () -> this.check(HAS_SUCCESS_EQUAL_TO, expectedValue, this.successComparisonStrategy));
     }
 
     /**
@@ -151,12 +176,9 @@ abstract class AbstractResultAssert<SELF extends AbstractResultAssert<SELF, S, F
      * @return this assertion object.
      */
     public SELF hasSuccessSameAs(S expectedValue) {
-        final S value = this.assertHasSuccess();
-        this.checkNotNull(expectedValue);
-        if (value != expectedValue) {
-            throw assertionError(shouldHaveSame(this.actual(), expectedValue));
-        }
-        return myself;
+        return this.timed(
+                "hasSuccessSameAs",
+                () -> this.check(HAS_SUCCESS_SAME_AS, expectedValue, this.successComparisonStrategy));
     }
 
     /**
@@ -199,9 +221,10 @@ abstract class AbstractResultAssert<SELF extends AbstractResultAssert<SELF, S, F
      * @return this assertion object.
      */
     public SELF hasSuccessSatisfying(Consumer<S> requirement) {
-        final S value = this.assertHasSuccess();
-        requirement.accept(value);
-        return myself;
+        return this.timed("hasSuccessSatisfying", () -> {
+            final S value = this.assertHasSuccess();
+            requirement("hasSuccessSatisfying", () -> requirement.accept(value));
+        });
     }
 
     /**
@@ -239,9 +262,12 @@ abstract class AbstractResultAssert<SELF extends AbstractResultAssert<SELF, S, F
      * @return this assertion object.
      */
     public SELF hasSuccessSatisfying(Condition<? super S> condition) {
-        final S value = this.assertHasSuccess();
-        Conditions.instance().assertIs(this.getWritableAssertionInfo(), value, condition);
-        return myself;
+        return this.timed("hasSuccessSatisfying", () -> {
+            this.assertHasSuccess();
+            requirement(
+                    "hasSuccessSatisfying",
+                    () -> this.check(HAS_SUCCESS_SATISFYING, condition, this.successComparisonStrategy));
+        });
     }
 
     /**
@@ -272,12 +298,72 @@ abstract class AbstractResultAssert<SELF extends AbstractResultAssert<SELF, S, F
      * @return this assertion object.
      */
     public SELF hasSuccessInstanceOf(Class<?> clazz) {
-        final S value = this.assertHasSuccess();
-        this.checkNotNull(clazz);
-        if (!clazz.isInstance(value)) {
-            throw assertionError(shouldHaveInstanceOf(this.actual(), clazz, value));
-        }
-        return myself;
+        return this.timed(
+                "hasSuccessInstanceOf",
+                () -> this.check(HAS_SUCCESS_INSTANCE_OF, clazz, this.successComparisonStrategy));
+    }
+
+    /**
+     * Verifies that the actual {@link Result} is a successful result containing one of the given values.
+     * <p>
+     * Membership is checked with the {@code contains} method of the given collection. Large collections of allowed
+     * values shared by many assertions can be indexed once with {@link ResultValueIndex#of(Collection)}. The error
+     * message only shows the success value and the number of allowed values.
+     * <p>
+     * If a custom comparator was set with {@link #usingSuccessComparator(Comparator)}, the values are scanned instead.
+     * <p>
+     * Assertions will pass:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThat(Results.success("EUR")).hasSuccessIn(Arrays.asList("EUR", "USD"));
+     * </code>
+     * </pre>
+     *
+     * Assertions will fail:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThat(Results.success("XYZ")).hasSuccessIn(Arrays.asList("EUR", "USD"));
+     * assertThat(Results.failure("EUR")).hasSuccessIn(Arrays.asList("EUR", "USD"));
+     * </code>
+     * </pre>
+     *
+     * @param values the allowed success values.
+     * @return this assertion object.
+     */
+    public SELF hasSuccessIn(Collection<? extends S> values) {
+        return this.timed("hasSuccessIn", () -> this.check(HAS_SUCCESS_IN, values, this.successComparisonStrategy));
+    }
+
+    /**
+     * Verifies that the actual {@link Result} is a successful result containing none of the given values.
+     * <p>
+     * Membership is checked just like in {@link #hasSuccessIn(Collection)}.
+     * <p>
+     * Assertions will pass:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThat(Results.success("EUR")).hasSuccessNotIn(Arrays.asList("XYZ", "ABC"));
+     * </code>
+     * </pre>
+     *
+     * Assertions will fail:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThat(Results.success("XYZ")).hasSuccessNotIn(Arrays.asList("XYZ", "ABC"));
+     * assertThat(Results.failure("EUR")).hasSuccessNotIn(Arrays.asList("XYZ", "ABC"));
+     * </code>
+     * </pre>
+     *
+     * @param values the forbidden success values.
+     * @return this assertion object.
+     */
+    public SELF hasSuccessNotIn(Collection<? extends S> values) {
+        return this.timed(
+                "hasSuccessNotIn", () -> this.check(HAS_SUCCESS_NOT_IN, values, this.successComparisonStrategy));
     }
 
     /**
@@ -307,8 +393,10 @@ abstract class AbstractResultAssert<SELF extends AbstractResultAssert<SELF, S, F
      */
     @CheckReturnValue
     public ObjectAssert<S> hasSuccessThat() {
-        final S value = this.assertHasSuccess();
-        return assertWithAssertionState(myself, value);
+        return timedNavigation("hasSuccessThat", () -> {
+            final S value = this.assertHasSuccess();
+            return assertWithAssertionState(myself, value);
+        });
     }
 
     /**
@@ -346,8 +434,186 @@ abstract class AbstractResultAssert<SELF extends AbstractResultAssert<SELF, S, F
     @CheckReturnValue
     public <T extends AbstractAssert<?, ?>> T hasSuccessThat(
             InstanceOfAssertFactory<?, T> assertFactory) {
-        final S value = this.assertHasSuccess();
-        return assertWithAssertionState(myself, value).asInstanceOf(assertFactory);
+        return timedNavigation("hasSuccessThat", () -> {
+            final S value = this.assertHasSuccess();
+            return assertWithAssertionState(myself, value).asInstanceOf(assertFactory);
+        });
+    }
+
+    /**
+     * Verifies that the actual {@link Result} is a successful result containing a String and returns a new
+     * assertion instance to chain assertions on its success value.
+     * <p>
+     * This is equivalent to {@code hasSuccessThat(InstanceOfAssertFactories.STRING)}, but creates the narrowed
+     * assertion directly.
+     * <p>
+     * Assertion will pass:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThat(Results.success("hello")).hasSuccessThatString().startsWith("h");
+     * </code>
+     * </pre>
+     *
+     * Assertions will fail:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThat(Results.success(123)).hasSuccessThatString().startsWith("h");
+     * assertThat(Results.failure("hello")).hasSuccessThatString().startsWith("h");
+     * </code>
+     * </pre>
+     *
+     * @return a new {@link AbstractStringAssert} for assertions chaining on the success value.
+     * @see #hasSuccessThat(InstanceOfAssertFactory)
+     */
+    @CheckReturnValue
+    public AbstractStringAssert<?> hasSuccessThatString() {
+        return timedNavigation("hasSuccessThatString", () -> {
+            final String value = this.successInstanceOf(String.class);
+            return withAssertionState(Assertions.assertThat(value), myself);
+        });
+    }
+
+    /**
+     * Verifies that the actual {@link Result} is a successful result containing an Integer and returns a new
+     * assertion instance to chain assertions on its success value.
+     * <p>
+     * This is equivalent to {@code hasSuccessThat(InstanceOfAssertFactories.INTEGER)}, but creates the narrowed
+     * assertion directly.
+     * <p>
+     * Assertion will pass:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThat(Results.success(0)).hasSuccessThatInteger().isZero();
+     * </code>
+     * </pre>
+     *
+     * Assertions will fail:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThat(Results.success(0L)).hasSuccessThatInteger().isZero();
+     * assertThat(Results.failure(0)).hasSuccessThatInteger().isZero();
+     * </code>
+     * </pre>
+     *
+     * @return a new {@link AbstractIntegerAssert} for assertions chaining on the success value.
+     * @see #hasSuccessThat(InstanceOfAssertFactory)
+     */
+    @CheckReturnValue
+    public AbstractIntegerAssert<?> hasSuccessThatInteger() {
+        return timedNavigation("hasSuccessThatInteger", () -> {
+            final Integer value = this.successInstanceOf(Integer.class);
+            return withAssertionState(Assertions.assertThat(value), myself);
+        });
+    }
+
+    /**
+     * Verifies that the actual {@link Result} is a successful result containing a Long and returns a new
+     * assertion instance to chain assertions on its success value.
+     * <p>
+     * This is equivalent to {@code hasSuccessThat(InstanceOfAssertFactories.LONG)}, but creates the narrowed
+     * assertion directly.
+     * <p>
+     * Assertion will pass:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThat(Results.success(0L)).hasSuccessThatLong().isZero();
+     * </code>
+     * </pre>
+     *
+     * Assertions will fail:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThat(Results.success(0)).hasSuccessThatLong().isZero();
+     * assertThat(Results.failure(0L)).hasSuccessThatLong().isZero();
+     * </code>
+     * </pre>
+     *
+     * @return a new {@link AbstractLongAssert} for assertions chaining on the success value.
+     * @see #hasSuccessThat(InstanceOfAssertFactory)
+     */
+    @CheckReturnValue
+    public AbstractLongAssert<?> hasSuccessThatLong() {
+        return timedNavigation("hasSuccessThatLong", () -> {
+            final Long value = this.successInstanceOf(Long.class);
+            return withAssertionState(Assertions.assertThat(value), myself);
+        });
+    }
+
+    /**
+     * Verifies that the actual {@link Result} is a successful result containing a List and returns a new
+     * assertion instance to chain assertions on its success value.
+     * <p>
+     * This is equivalent to {@code hasSuccessThat(InstanceOfAssertFactories.LIST)}, but creates the narrowed
+     * assertion directly.
+     * <p>
+     * Assertion will pass:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThat(Results.success(Arrays.asList(1, 2))).hasSuccessThatList().containsExactly(1, 2);
+     * </code>
+     * </pre>
+     *
+     * Assertions will fail:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThat(Results.success("hello")).hasSuccessThatList().containsExactly(1, 2);
+     * assertThat(Results.failure(Arrays.asList(1, 2))).hasSuccessThatList().containsExactly(1, 2);
+     * </code>
+     * </pre>
+     *
+     * @return a new {@link ListAssert} for assertions chaining on the success value.
+     * @see #hasSuccessThat(InstanceOfAssertFactory)
+     */
+    @CheckReturnValue
+    public ListAssert<Object> hasSuccessThatList() {
+        return timedNavigation("hasSuccessThatList", () -> {
+            final List<?> value = this.successInstanceOf(List.class);
+            return ObjectAssertProxy.<Object>assertListWithAssertionState(myself, value);
+        });
+    }
+
+    /**
+     * Verifies that the actual {@link Result} is a successful result containing a Map and returns a new
+     * assertion instance to chain assertions on its success value.
+     * <p>
+     * This is equivalent to {@code hasSuccessThat(InstanceOfAssertFactories.MAP)}, but creates the narrowed
+     * assertion directly.
+     * <p>
+     * Assertion will pass:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThat(Results.success(Collections.singletonMap("k", "v"))).hasSuccessThatMap().containsEntry("k", "v");
+     * </code>
+     * </pre>
+     *
+     * Assertions will fail:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThat(Results.success("hello")).hasSuccessThatMap().containsEntry("k", "v");
+     * assertThat(Results.failure(Collections.singletonMap("k", "v"))).hasSuccessThatMap().containsEntry("k", "v");
+     * </code>
+     * </pre>
+     *
+     * @return a new {@link MapAssert} for assertions chaining on the success value.
+     * @see #hasSuccessThat(InstanceOfAssertFactory)
+     */
+    @CheckReturnValue
+    @SuppressWarnings("unchecked") // The map is only read
+    public MapAssert<Object, Object> hasSuccessThatMap() {
+        return timedNavigation("hasSuccessThatMap", () -> {
+            final Map<Object, Object> value = this.successInstanceOf(Map.class);
+            return withAssertionState(Assertions.assertThat(value), myself);
+        });
     }
 
     /**
@@ -374,8 +640,7 @@ abstract class AbstractResultAssert<SELF extends AbstractResultAssert<SELF, S, F
      * @return this assertion object.
      */
     public SELF hasFailure() {
-        this.assertHasFailure();
-        return myself;
+        return this.timed("hasFailure", () -> this.assertHasFailure());
     }
 
     /**
@@ -399,16 +664,16 @@ abstract class AbstractResultAssert<SELF extends AbstractResultAssert<SELF, S, F
      * </code>
      * </pre>
      *
+     * <p>
+     * Values are compared with {@link Object#equals(Object)}, unless a custom comparator was set with
+     * {@link #usingFailureComparator(Comparator)}.
+     *
      * @param expectedValue the expected failure value inside the {@link Result}.
      * @return this assertion object.
      */
     public SELF hasFailure(F expectedValue) {
-        final F value = this.assertHasFailure();
-        this.checkNotNull(expectedValue);
-        if (!StandardComparisonStrategy.instance().areEqual(value, expectedValue)) {
-            throw this.assertionError(shouldHave(this.actual(), expectedValue, value));
-        }
-        return myself;
+        return this.timed(
+                "hasFailure", () -> this.check(HAS_FAILURE_EQUAL_TO, expectedValue, this.failureComparisonStrategy));
     }
 
     /**
@@ -448,12 +713,9 @@ abstract class AbstractResultAssert<SELF extends AbstractResultAssert<SELF, S, F
      * @return this assertion object.
      */
     public SELF hasFailureSameAs(F expectedValue) {
-        final F value = this.assertHasFailure();
-        this.checkNotNull(expectedValue);
-        if (value != expectedValue) {
-            throw assertionError(shouldHaveSame(this.actual(), expectedValue));
-        }
-        return myself;
+        return this.timed(
+                "hasFailureSameAs",
+                () -> this.check(HAS_FAILURE_SAME_AS, expectedValue, this.failureComparisonStrategy));
     }
 
     /**
@@ -496,9 +758,10 @@ abstract class AbstractResultAssert<SELF extends AbstractResultAssert<SELF, S, F
      * @return this assertion object.
      */
     public SELF hasFailureSatisfying(Consumer<F> requirement) {
-        final F value = this.assertHasFailure();
-        requirement.accept(value);
-        return myself;
+        return this.timed("hasFailureSatisfying", () -> {
+            final F value = this.assertHasFailure();
+            requirement("hasFailureSatisfying", () -> requirement.accept(value));
+        });
     }
 
     /**
@@ -536,9 +799,12 @@ abstract class AbstractResultAssert<SELF extends AbstractResultAssert<SELF, S, F
      * @return this assertion object.
      */
     public SELF hasFailureSatisfying(Condition<? super F> condition) {
-        final F value = this.assertHasFailure();
-        Conditions.instance().assertIs(this.getWritableAssertionInfo(), value, condition);
-        return myself;
+        return this.timed("hasFailureSatisfying", () -> {
+            this.assertHasFailure();
+            requirement(
+                    "hasFailureSatisfying",
+                    () -> this.check(HAS_FAILURE_SATISFYING, condition, this.failureComparisonStrategy));
+        });
     }
 
     /**
@@ -569,12 +835,72 @@ abstract class AbstractResultAssert<SELF extends AbstractResultAssert<SELF, S, F
      * @return this assertion object.
      */
     public SELF hasFailureInstanceOf(Class<?> clazz) {
-        final F value = this.assertHasFailure();
-        this.checkNotNull(clazz);
-        if (!clazz.isInstance(value)) {
-            throw assertionError(shouldHaveInstanceOf(this.actual(), clazz, value));
-        }
-        return myself;
+        return this.timed(
+                "hasFailureInstanceOf",
+                () -> this.check(HAS_FAILURE_INSTANCE_OF, clazz, this.failureComparisonStrategy));
+    }
+
+    /**
+     * Verifies that the actual {@link Result} is a failed result containing one of the given values.
+     * <p>
+     * Membership is checked with the {@code contains} method of the given collection. Large collections of allowed
+     * values shared by many assertions can be indexed once with {@link ResultValueIndex#of(Collection)}. The error
+     * message only shows the failure value and the number of allowed values.
+     * <p>
+     * If a custom comparator was set with {@link #usingFailureComparator(Comparator)}, the values are scanned instead.
+     * <p>
+     * Assertions will pass:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThat(Results.failure("EUR")).hasFailureIn(Arrays.asList("EUR", "USD"));
+     * </code>
+     * </pre>
+     *
+     * Assertions will fail:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThat(Results.failure("XYZ")).hasFailureIn(Arrays.asList("EUR", "USD"));
+     * assertThat(Results.success("EUR")).hasFailureIn(Arrays.asList("EUR", "USD"));
+     * </code>
+     * </pre>
+     *
+     * @param values the allowed failure values.
+     * @return this assertion object.
+     */
+    public SELF hasFailureIn(Collection<? extends F> values) {
+        return this.timed("hasFailureIn", () -> this.check(HAS_FAILURE_IN, values, this.failureComparisonStrategy));
+    }
+
+    /**
+     * Verifies that the actual {@link Result} is a failed result containing none of the given values.
+     * <p>
+     * Membership is checked just like in {@link #hasFailureIn(Collection)}.
+     * <p>
+     * Assertions will pass:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThat(Results.failure("EUR")).hasFailureNotIn(Arrays.asList("XYZ", "ABC"));
+     * </code>
+     * </pre>
+     *
+     * Assertions will fail:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThat(Results.failure("XYZ")).hasFailureNotIn(Arrays.asList("XYZ", "ABC"));
+     * assertThat(Results.success("EUR")).hasFailureNotIn(Arrays.asList("XYZ", "ABC"));
+     * </code>
+     * </pre>
+     *
+     * @param values the forbidden failure values.
+     * @return this assertion object.
+     */
+    public SELF hasFailureNotIn(Collection<? extends F> values) {
+        return this.timed(
+                "hasFailureNotIn", () -> this.check(HAS_FAILURE_NOT_IN, values, this.failureComparisonStrategy));
     }
 
     /**
@@ -604,8 +930,10 @@ abstract class AbstractResultAssert<SELF extends AbstractResultAssert<SELF, S, F
      */
     @CheckReturnValue
     public ObjectAssert<F> hasFailureThat() {
-        final F value = this.assertHasFailure();
-        return assertWithAssertionState(myself, value);
+        return timedNavigation("hasFailureThat", () -> {
+            final F value = this.assertHasFailure();
+            return assertWithAssertionState(myself, value);
+        });
     }
 
     /**
@@ -643,25 +971,346 @@ abstract class AbstractResultAssert<SELF extends AbstractResultAssert<SELF, S, F
     @CheckReturnValue
     public <T extends AbstractAssert<?, ?>> T hasFailureThat(
             InstanceOfAssertFactory<?, T> assertFactory) {
-        final F value = this.assertHasFailure();
-        return assertWithAssertionState(myself, value).asInstanceOf(assertFactory);
+        return timedNavigation("hasFailureThat", () -> {
+            final F value = this.assertHasFailure();
+            return assertWithAssertionState(myself, value).asInstanceOf(assertFactory);
+        });
     }
 
-    private void checkNotNull(Object expectedValue) {
-        checkArgument(expectedValue != null, "The expected value should not be <null>.");
+    /**
+     * Verifies that the actual {@link Result} is a failed result containing a String and returns a new
+     * assertion instance to chain assertions on its failure value.
+     * <p>
+     * This is equivalent to {@code hasFailureThat(InstanceOfAssertFactories.STRING)}, but creates the narrowed
+     * assertion directly.
+     * <p>
+     * Assertion will pass:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThat(Results.failure("hello")).hasFailureThatString().startsWith("h");
+     * </code>
+     * </pre>
+     *
+     * Assertions will fail:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThat(Results.failure(123)).hasFailureThatString().startsWith("h");
+     * assertThat(Results.success("hello")).hasFailureThatString().startsWith("h");
+     * </code>
+     * </pre>
+     *
+     * @return a new {@link AbstractStringAssert} for assertions chaining on the failure value.
+     * @see #hasFailureThat(InstanceOfAssertFactory)
+     */
+    @CheckReturnValue
+    public AbstractStringAssert<?> hasFailureThatString() {
+        return timedNavigation("hasFailureThatString", () -> {
+            final String value = this.failureInstanceOf(String.class);
+            return withAssertionState(Assertions.assertThat(value), myself);
+        });
     }
 
-    private S assertHasSuccess() {
+    /**
+     * Verifies that the actual {@link Result} is a failed result containing an Integer and returns a new
+     * assertion instance to chain assertions on its failure value.
+     * <p>
+     * This is equivalent to {@code hasFailureThat(InstanceOfAssertFactories.INTEGER)}, but creates the narrowed
+     * assertion directly.
+     * <p>
+     * Assertion will pass:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThat(Results.failure(0)).hasFailureThatInteger().isZero();
+     * </code>
+     * </pre>
+     *
+     * Assertions will fail:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThat(Results.failure(0L)).hasFailureThatInteger().isZero();
+     * assertThat(Results.success(0)).hasFailureThatInteger().isZero();
+     * </code>
+     * </pre>
+     *
+     * @return a new {@link AbstractIntegerAssert} for assertions chaining on the failure value.
+     * @see #hasFailureThat(InstanceOfAssertFactory)
+     */
+    @CheckReturnValue
+    public AbstractIntegerAssert<?> hasFailureThatInteger() {
+        return timedNavigation("hasFailureThatInteger", () -> {
+            final Integer value = this.failureInstanceOf(Integer.class);
+            return withAssertionState(Assertions.assertThat(value), myself);
+        });
+    }
+
+    /**
+     * Verifies that the actual {@link Result} is a failed result containing a Long and returns a new
+     * assertion instance to chain assertions on its failure value.
+     * <p>
+     * This is equivalent to {@code hasFailureThat(InstanceOfAssertFactories.LONG)}, but creates the narrowed
+     * assertion directly.
+     * <p>
+     * Assertion will pass:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThat(Results.failure(0L)).hasFailureThatLong().isZero();
+     * </code>
+     * </pre>
+     *
+     * Assertions will fail:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThat(Results.failure(0)).hasFailureThatLong().isZero();
+     * assertThat(Results.success(0L)).hasFailureThatLong().isZero();
+     * </code>
+     * </pre>
+     *
+     * @return a new {@link AbstractLongAssert} for assertions chaining on the failure value.
+     * @see #hasFailureThat(InstanceOfAssertFactory)
+     */
+    @CheckReturnValue
+    public AbstractLongAssert<?> hasFailureThatLong() {
+        return timedNavigation("hasFailureThatLong", () -> {
+            final Long value = this.failureInstanceOf(Long.class);
+            return withAssertionState(Assertions.assertThat(value), myself);
+        });
+    }
+
+    /**
+     * Verifies that the actual {@link Result} is a failed result containing a List and returns a new
+     * assertion instance to chain assertions on its failure value.
+     * <p>
+     * This is equivalent to {@code hasFailureThat(InstanceOfAssertFactories.LIST)}, but creates the narrowed
+     * assertion directly.
+     * <p>
+     * Assertion will pass:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThat(Results.failure(Arrays.asList(1, 2))).hasFailureThatList().containsExactly(1, 2);
+     * </code>
+     * </pre>
+     *
+     * Assertions will fail:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThat(Results.failure("hello")).hasFailureThatList().containsExactly(1, 2);
+     * assertThat(Results.success(Arrays.asList(1, 2))).hasFailureThatList().containsExactly(1, 2);
+     * </code>
+     * </pre>
+     *
+     * @return a new {@link ListAssert} for assertions chaining on the failure value.
+     * @see #hasFailureThat(InstanceOfAssertFactory)
+     */
+    @CheckReturnValue
+    public ListAssert<Object> hasFailureThatList() {
+        return timedNavigation("hasFailureThatList", () -> {
+            final List<?> value = this.failureInstanceOf(List.class);
+            return ObjectAssertProxy.<Object>assertListWithAssertionState(myself, value);
+        });
+    }
+
+    /**
+     * Verifies that the actual {@link Result} is a failed result containing a Map and returns a new
+     * assertion instance to chain assertions on its failure value.
+     * <p>
+     * This is equivalent to {@code hasFailureThat(InstanceOfAssertFactories.MAP)}, but creates the narrowed
+     * assertion directly.
+     * <p>
+     * Assertion will pass:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThat(Results.failure(Collections.singletonMap("k", "v"))).hasFailureThatMap().containsEntry("k", "v");
+     * </code>
+     * </pre>
+     *
+     * Assertions will fail:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThat(Results.failure("hello")).hasFailureThatMap().containsEntry("k", "v");
+     * assertThat(Results.success(Collections.singletonMap("k", "v"))).hasFailureThatMap().containsEntry("k", "v");
+     * </code>
+     * </pre>
+     *
+     * @return a new {@link MapAssert} for assertions chaining on the failure value.
+     * @see #hasFailureThat(InstanceOfAssertFactory)
+     */
+    @CheckReturnValue
+    @SuppressWarnings("unchecked") // The map is only read
+    public MapAssert<Object, Object> hasFailureThatMap() {
+        return timedNavigation("hasFailureThatMap", () -> {
+            final Map<Object, Object> value = this.failureInstanceOf(Map.class);
+            return withAssertionState(Assertions.assertThat(value), myself);
+        });
+    }
+
+    /**
+     * Uses the given comparator instead of {@link Object#equals(Object)} to compare success values in
+     * {@link #hasSuccess(Object)}, {@link #hasSuccessIn(Collection)} and {@link #hasSuccessNotIn(Collection)}.
+     * <p>
+     * A cheap comparator, such as one that only compares identifiers and versions, can speed up assertions on large
+     * values whose {@code equals} method is expensive.
+     * <p>
+     * Usage:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThat(Results.success("yay")).usingSuccessComparator(String.CASE_INSENSITIVE_ORDER).hasSuccess("YAY");
+     * </code>
+     * </pre>
+     *
+     * @param comparator the comparator to use for success values.
+     * @return this assertion object.
+     */
+    public SELF usingSuccessComparator(Comparator<? super S> comparator) {
+        this.checkNotNull(comparator, "comparator");
+        this.successComparisonStrategy = new ComparatorBasedComparisonStrategy(comparator);
+        return myself;
+    }
+
+    /**
+     * Uses the given comparator instead of {@link Object#equals(Object)} to compare success values in
+     * {@link #hasSuccess(Object)}, {@link #hasSuccessIn(Collection)} and {@link #hasSuccessNotIn(Collection)}.
+     * <p>
+     * The description of the comparator will be included in error messages.
+     *
+     * @param comparator the comparator to use for success values.
+     * @param description the description of the comparator.
+     * @return this assertion object.
+     */
+    public SELF usingSuccessComparator(Comparator<? super S> comparator, String description) {
+        this.checkNotNull(comparator, "comparator");
+        this.successComparisonStrategy = new ComparatorBasedComparisonStrategy(comparator, description);
+        return myself;
+    }
+
+    /**
+     * Uses the given comparator instead of {@link Object#equals(Object)} to compare failure values in
+     * {@link #hasFailure(Object)}, {@link #hasFailureIn(Collection)} and {@link #hasFailureNotIn(Collection)}.
+     * <p>
+     * Usage:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThat(Results.failure("nay")).usingFailureComparator(String.CASE_INSENSITIVE_ORDER).hasFailure("NAY");
+     * </code>
+     * </pre>
+     *
+     * @param comparator the comparator to use for failure values.
+     * @return this assertion object.
+     */
+    public SELF usingFailureComparator(Comparator<? super F> comparator) {
+        this.checkNotNull(comparator, "comparator");
+        this.failureComparisonStrategy = new ComparatorBasedComparisonStrategy(comparator);
+        return myself;
+    }
+
+    /**
+     * Uses the given comparator instead of {@link Object#equals(Object)} to compare failure values in
+     * {@link #hasFailure(Object)}, {@link #hasFailureIn(Collection)} and {@link #hasFailureNotIn(Collection)}.
+     * <p>
+     * The description of the comparator will be included in error messages.
+     *
+     * @param comparator the comparator to use for failure values.
+     * @param description the description of the comparator.
+     * @return this assertion object.
+     */
+    public SELF usingFailureComparator(Comparator<? super F> comparator, String description) {
+        this.checkNotNull(comparator, "comparator");
+        this.failureComparisonStrategy = new ComparatorBasedComparisonStrategy(comparator, description);
+        return myself;
+    }
+
+    /**
+     * Reverts to using {@link Object#equals(Object)} to compare success and failure values, undoing the effects of
+     * {@link #usingSuccessComparator(Comparator)} and {@link #usingFailureComparator(Comparator)}.
+     *
+     * @return this assertion object.
+     */
+    public SELF usingDefaultComparators() {
+        this.successComparisonStrategy = StandardComparisonStrategy.instance();
+        this.failureComparisonStrategy = StandardComparisonStrategy.instance();
+        return myself;
+    }
+
+    private SELF timed(String method, Runnable assertion) {
+        return timedNavigation(method, () -> {
+            assertion.run();
+            return myself;
+        });
+    }
+
+    private static <T> T timedNavigation(String method, Supplier<T> assertion) {
+        if (!ResultAssertionListeners.ENABLED) {
+            return assertion.get();
+        }
+        final long start = System.nanoTime();
+        boolean passed = false;
+        try {
+            final T outcome = assertion.get();
+            passed = true;
+            return outcome;
+        } finally {
+            ResultAssertionListeners.fire(method, passed, System.nanoTime() - start);
+        }
+    }
+
+    private static void requirement(String method, Runnable requirement) {
+        final Object event = ResultAssertionEvents.beginRequirement();
+        boolean passed = false;
+        try {
+            requirement.run();
+            passed = true;
+        } finally {
+            ResultAssertionEvents.endRequirement(event, method, passed);
+        }
+    }
+
+    private void checkNotNull(Object argument, String name) {
+        if (argument == null) {
+            throw new IllegalArgumentException("The " + name + " should not be <null>.");
+        }
+    }
+
+    private void check(ResultCheck check, Object argument, ComparisonStrategy comparisonStrategy) {
         isNotNull();
-        return this.actual()
-                .getSuccess()
-                .orElseThrow(() -> this.assertionError(shouldBeSuccess(this.actual())));
+        final ResultVerdict verdict = check.verdict(this.actual(), argument, comparisonStrategy);
+        if (verdict.failed()) {
+            throw this.resultAssertionError(verdict.kind(), verdict.factory());
+        }
+    }
+
+    private AssertionError resultAssertionError(String kind, ErrorMessageFactory factory) {
+        ResultAssertionEvents.assertionFailed(kind, this.getWritableAssertionInfo());
+        return ResultAssertionError.failure(this.getWritableAssertionInfo(), factory);
+    }
+
+    private S assertHasSuccess() {
+        this.check(HAS_SUCCESS, null, this.successComparisonStrategy);
+        return successOf(this.actual());
     }
 
     private F assertHasFailure() {
-        isNotNull();
-        return this.actual()
-                .getFailure()
-                .orElseThrow(() -> this.assertionError(shouldBeFailure(this.actual())));
+        this.check(HAS_FAILURE, null, this.failureComparisonStrategy);
+        return failureOf(this.actual());
+    }
+
+    private <T> T successInstanceOf(Class<T> type) {
+        this.check(HAS_SUCCESS_INSTANCE_OF, type, this.successComparisonStrategy);
+        return type.cast(successOf(this.actual()));
+    }
+
+    private <T> T failureInstanceOf(Class<T> type) {
+        this.check(HAS_FAILURE_INSTANCE_OF, type, this.failureComparisonStrategy);
+        return type.cast(failureOf(this.actual()));
     }
 }
@@ -0,0 +1,364 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultValues.failureOf;
+import static com.leakyabstractions.result.assertj.ResultValues.successOf;
+import static com.leakyabstractions.result.assertj.ResultsShouldBe.shouldAllBeFailures;
+import static com.leakyabstractions.result.assertj.ResultsShouldBe.shouldAllBeFailuresSatisfying;
+import static com.leakyabstractions.result.assertj.ResultsShouldBe.shouldAllBeSuccesses;
+import static com.leakyabstractions.result.assertj.ResultsShouldBe.shouldAllBeSuccessesSatisfying;
+import static com.leakyabstractions.result.assertj.ResultsShouldBe.shouldAllSatisfy;
+import static com.leakyabstractions.result.assertj.ResultsShouldHave.shouldHaveFailureCount;
+import static com.leakyabstractions.result.assertj.ResultsShouldHave.shouldHaveFailureCountAtMost;
+import static com.leakyabstractions.result.assertj.ResultsShouldHave.shouldHaveSuccessCount;
+import static org.assertj.core.api.ObjectAssertProxy.assertListWithAssertionState;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.assertj.core.annotation.CheckReturnValue;
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.api.Condition;
+import org.assertj.core.api.ListAssert;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.core.internal.Conditions;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Bulk assertions for sequences of {@link Result} objects.
+ * <p>
+ * Each assertion traverses the sequence at most once, without creating an assertion object per element. When an
+ * assertion fails, the error message reports the indices of the first offending elements and a bounded sample of
+ * them.
+ *
+ * @param <SELF> the "self" type of this assertion class.
+ * @param <ACTUAL> the type of the sequence of {@link Result} objects.
+ * @param <S> type of the success value contained in the {@link Result} objects.
+ * @param <F> type of the failure value contained in the {@link Result} objects.
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+@SuppressWarnings("java:S119") // Type parameter names should comply with a naming convention
+abstract class AbstractResultsAssert<SELF extends AbstractResultsAssert<SELF, ACTUAL, S, F>, ACTUAL, S, F>
+        extends AbstractAssert<SELF, ACTUAL> {
+
+    protected AbstractResultsAssert(ACTUAL actual, Class<?> selfType) {
+        super(actual, selfType);
+    }
+
+    /**
+     * Verifies that all the {@link Result} objects in the actual sequence are successful.
+     * <p>
+     * Fail-fast implementations may stop inspecting elements as soon as one of them is not successful.
+     * <p>
+     * Assertion will pass:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThatResults(asList(Results.success(1), Results.success(2))).allSucceed();
+     * </code>
+     * </pre>
+     *
+     * Assertion will fail:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThatResults(asList(Results.success(1), Results.failure(2))).allSucceed();
+     * </code>
+     * </pre>
+     *
+     * @return this assertion object.
+     */
+    public SELF allSucceed() {
+        final ResultScan<S, F> scan = this.scan(Result::hasSuccess, false, 0);
+        if (scan.offending() > 0) {
+            throw this.resultAssertionError(shouldAllBeSuccesses(scan));
+        }
+        return myself;
+    }
+
+    /**
+     * Verifies that all the {@link Result} objects in the actual sequence are failed.
+     * <p>
+     * Fail-fast implementations may stop inspecting elements as soon as one of them is not failed.
+     * <p>
+     * Assertion will pass:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThatResults(asList(Results.failure(1), Results.failure(2))).allFail();
+     * </code>
+     * </pre>
+     *
+     * Assertion will fail:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThatResults(asList(Results.failure(1), Results.success(2))).allFail();
+     * </code>
+     * </pre>
+     *
+     * @return this assertion object.
+     */
+    public SELF allFail() {
+        final ResultScan<S, F> scan = this.scan(Result::hasFailure, false, 0);
+        if (scan.offending() > 0) {
+            throw this.resultAssertionError(shouldAllBeFailures(scan));
+        }
+        return myself;
+    }
+
+    /**
+     * Verifies that all the {@link Result} objects in the actual sequence are successful results whose success values
+     * satisfy the given {@link Condition}.
+     *
+     * @param condition the given condition
+     * @return this assertion object.
+     */
+    public SELF allSucceedSatisfying(Condition<? super S> condition) {
+        Conditions.instance().assertIsNotNull(condition);
+        final ResultScan<S, F> scan = this.scan(r -> r.hasSuccess() && condition.matches(successOf(r)), false, 0);
+        if (scan.offending() > 0) {
+            throw this.resultAssertionError(shouldAllBeSuccessesSatisfying(condition, scan));
+        }
+        return myself;
+    }
+
+    /**
+     * Verifies that all the {@link Result} objects in the actual sequence are failed results whose failure values
+     * satisfy the given {@link Condition}.
+     *
+     * @param condition the given condition
+     * @return this assertion object.
+     */
+    public SELF allFailSatisfying(Condition<? super F> condition) {
+        Conditions.instance().assertIsNotNull(condition);
+        final ResultScan<S, F> scan = this.scan(r -> r.hasFailure() && condition.matches(failureOf(r)), false, 0);
+        if (scan.offending() > 0) {
+            throw this.resultAssertionError(shouldAllBeFailuresSatisfying(condition, scan));
+        }
+        return myself;
+    }
+
+    /**
+     * Verifies that all the {@link Result} objects in the actual sequence satisfy the given
+     * {@link ResultAssertionPlan}.
+     * <p>
+     * Assertion will pass:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * ResultAssertionPlan&lt;Integer, String&gt; plan = ResultAssertionPlan.&lt;Integer, String&gt;create().hasSuccess();
+     * assertThatResults(asList(Results.success(1), Results.success(2))).allSatisfy(plan);
+     * </code>
+     * </pre>
+     *
+     * @param plan the given plan
+     * @return this assertion object.
+     */
+    public SELF allSatisfy(ResultAssertionPlan<S, F> plan) {
+        if (plan == null) {
+            throw new IllegalArgumentException("The plan should not be <null>.");
+        }
+        final ResultScan<S, F> scan = this.scan(plan::matches, false, 0);
+        if (scan.offending() > 0) {
+            throw this.resultAssertionError(shouldAllSatisfy(plan, scan));
+        }
+        return myself;
+    }
+
+    /**
+     * Verifies that the actual sequence contains exactly the given number of successful {@link Result} objects.
+     * <p>
+     * Assertion will pass:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThatResults(asList(Results.success(1), Results.failure(2))).hasSuccessCount(1);
+     * </code>
+     * </pre>
+     *
+     * @param expected the expected number of successful results
+     * @return this assertion object.
+     */
+    public SELF hasSuccessCount(long expected) {
+        checkCount(expected);
+        final ResultScan<S, F> scan = this.scan(Result::hasSuccess, false, Long.MAX_VALUE);
+        if (scan.successes() != expected) {
+            throw this.resultAssertionError(shouldHaveSuccessCount(expected, scan));
+        }
+        return myself;
+    }
+
+    /**
+     * Verifies that the actual sequence contains exactly the given number of failed {@link Result} objects.
+     * <p>
+     * Null elements are not failures; the error message reports how many of them were found.
+     * <p>
+     * Assertion will pass:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThatResults(asList(Results.success(1), Results.failure(2))).hasFailureCount(1);
+     * </code>
+     * </pre>
+     *
+     * @param expected the expected number of failed results
+     * @return this assertion object.
+     */
+    public SELF hasFailureCount(long expected) {
+        checkCount(expected);
+        final ResultScan<S, F> scan = this.scan(r -> !r.hasFailure(), true, Long.MAX_VALUE);
+        if (scan.failures() != expected) {
+            throw this.resultAssertionError(shouldHaveFailureCount(expected, scan));
+        }
+        return myself;
+    }
+
+    /**
+     * Verifies that the actual sequence contains at most the given number of failed {@link Result} objects.
+     * <p>
+     * Null elements are not failures; the error message reports how many of them were found.
+     * <p>
+     * Assertion will pass:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThatResults(asList(Results.success(1), Results.failure(2))).hasFailureCountAtMost(1);
+     * </code>
+     * </pre>
+     *
+     * Assertion will fail:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThatResults(asList(Results.failure(1), Results.failure(2))).hasFailureCountAtMost(1);
+     * </code>
+     * </pre>
+     *
+     * @param max the maximum number of failed results
+     * @return this assertion object.
+     */
+    public SELF hasFailureCountAtMost(long max) {
+        checkCount(max);
+        final ResultScan<S, F> scan = this.scan(r -> !r.hasFailure(), true, max);
+        if (scan.failures() > max) {
+            throw this.resultAssertionError(shouldHaveFailureCountAtMost(max, scan));
+        }
+        return myself;
+    }
+
+    /**
+     * Returns a list assertion to chain assertions on the success values of the actual sequence, in order.
+     * <p>
+     * Failed results are skipped.
+     * <p>
+     * Unlike the other assertions, this one traverses the whole sequence and keeps every success value in memory, so
+     * it is not suitable for unbounded streams. Use {@link #allSucceedSatisfying(Condition)} or
+     * {@link #hasSuccessCount(long)} to inspect large sequences without collecting them.
+     *
+     * @return a new {@link ListAssert} for assertions chaining on the success values.
+     */
+    @CheckReturnValue
+    public ListAssert<S> successes() {
+        isNotNull();
+        final List<S> values = new ArrayList<>();
+        try (Stream<? extends Result<S, F>> elements = this.elements()) {
+            for (final Iterator<? extends Result<S, F>> i = elements.iterator(); i.hasNext(); ) {
+                final Result<S, F> element = i.next();
+                if (element != null && element.hasSuccess()) {
+                    values.add(successOf(element));
+                }
+            }
+        }
+        return assertListWithAssertionState(myself, values);
+    }
+
+    /**
+     * Returns a list assertion to chain assertions on the failure values of the actual sequence, in order.
+     * <p>
+     * Successful results are skipped.
+     * <p>
+     * Unlike the other assertions, this one traverses the whole sequence and keeps every failure value in memory, so
+     * it is not suitable for unbounded streams. Use {@link #allFailSatisfying(Condition)} or
+     * {@link #hasFailureCountAtMost(long)} to inspect large sequences without collecting them.
+     *
+     * @return a new {@link ListAssert} for assertions chaining on the failure values.
+     */
+    @CheckReturnValue
+    public ListAssert<F> failures() {
+        isNotNull();
+        final List<F> values = new ArrayList<>();
+        try (Stream<? extends Result<S, F>> elements = this.elements()) {
+            for (final Iterator<? extends Result<S, F>> i = elements.iterator(); i.hasNext(); ) {
+                final Result<S, F> element = i.next();
+                if (element != null && element.hasFailure()) {
+                    values.add(failureOf(element));
+                }
+            }
+        }
+        return assertListWithAssertionState(myself, values);
+    }
+
+    /**
+     * Returns the elements of the actual sequence.
+     * <p>
+     * Assertions close the returned stream as soon as they are done traversing it.
+     *
+     * @return a sequential stream over the non-null actual sequence.
+     */
+    abstract Stream<? extends Result<S, F>> elements();
+
+    /**
+     * Tells whether the actual sequence should be inspected in full.
+     * <p>
+     * Fail-fast implementations stop inspecting elements as soon as the outcome of an assertion is known.
+     *
+     * @return {@code true} if inspection may stop early.
+     */
+    abstract boolean isFailFast();
+
+    /**
+     * Inspects the actual sequence.
+     *
+     * @param isExpected the predicate that tells expected non-null elements from offending ones.
+     * @param isNullExpected whether null elements are expected rather than offending.
+     * @param limit the number of offending elements after which fail-fast inspection stops.
+     * @return the tally of the inspected elements.
+     */
+    ResultScan<S, F> scan(Predicate<? super Result<S, F>> isExpected, boolean isNullExpected, long limit) {
+        isNotNull();
+        try (Stream<? extends Result<S, F>> elements = this.elements()) {
+            return new ResultScan<S, F>(isExpected, isNullExpected)
+                    .inspectAll(elements.iterator(), this.isFailFast() ? limit : Long.MAX_VALUE);
+        }
+    }
+
+    private static void checkCount(long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("The expected count should not be negative.");
+        }
+    }
+
+    private AssertionError resultAssertionError(ErrorMessageFactory factory) {
+        return ResultAssertionError.failure(this.getWritableAssertionInfo(), factory);
+    }
+}
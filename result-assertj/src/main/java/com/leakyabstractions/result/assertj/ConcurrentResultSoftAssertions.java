@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Soft assertions for {@link Result} that can be used concurrently from any thread.
+ * <p>
+ * Each thread collects its errors into its own buffer, so threads do not contend with each other when assertions
+ * fail. Buffers are created when threads retain their first error, so threads whose assertions pass leave nothing
+ * behind. Collected errors are returned ordered by thread ID and then by the order in which each thread collected them.
+ * <p>
+ * The soft assertions can be shared by many threads, but each assertion object returned by
+ * {@link #assertThat(Result)} should be used by a single thread. Errors are only guaranteed to be visible to
+ * {@link #assertAll()} after the threads that collected them are joined, e.g. by waiting for their tasks to complete.
+ * Error thresholds and limits should be configured before the soft assertions are shared.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+public class ConcurrentResultSoftAssertions extends ResultSoftAssertions {
+
+    private static final Comparator<ThreadErrors> BY_THREAD_ID = Comparator.comparingLong(e -> e.threadId);
+
+    private final ConcurrentLinkedQueue<ThreadErrors> buffers = new ConcurrentLinkedQueue<>();
+    // Buffers are only created for threads that retain errors
+    private final ThreadLocal<ThreadErrors> buffer = new ThreadLocal<>();
+    private final ThreadLocal<Boolean> lastFailed = new ThreadLocal<>();
+    private final LongAdder collectedErrors = new LongAdder();
+    private final LongAdder skippedAssertions = new LongAdder();
+
+    /** Creates a new instance. */
+    protected ConcurrentResultSoftAssertions() {
+        /* do nothing */
+    }
+
+    @Override
+    public synchronized ResultSoftAssertions withMaxRetainedErrors(int maxErrors) {
+        return super.withMaxRetainedErrors(maxErrors);
+    }
+
+    @Override
+    public long skippedAssertions() {
+        return this.skippedAssertions.sum();
+    }
+
+    @Override
+    public void succeeded() {
+        if (this.lastFailed.get() != null) {
+            this.lastFailed.remove();
+        }
+    }
+
+    @Override
+    public boolean wasSuccess() {
+        return this.lastFailed.get() == null;
+    }
+
+    @Override
+    synchronized ResultSoftAssertions withErrorThreshold(int threshold, boolean abort) {
+        return super.withErrorThreshold(threshold, abort);
+    }
+
+    @Override
+    void countCollectedError() {
+        this.collectedErrors.increment();
+    }
+
+    @Override
+    long collectedErrors() {
+        return this.collectedErrors.sum();
+    }
+
+    @Override
+    void countSkippedAssertion() {
+        this.skippedAssertions.increment();
+    }
+
+    @Override
+    void retain(AssertionError error) {
+        this.lastFailed.set(Boolean.TRUE);
+        ThreadErrors errors = this.buffer.get();
+        if (errors == null) {
+            errors = this.register();
+        }
+        errors.add(error);
+    }
+
+    @Override
+    void discard(AssertionError error) {
+        this.lastFailed.set(Boolean.TRUE);
+    }
+
+    @Override
+    List<AssertionError> retainedErrors() {
+        final List<ThreadErrors> sorted = new ArrayList<>(this.buffers);
+        sorted.sort(BY_THREAD_ID);
+        final List<AssertionError> errors = new ArrayList<>();
+        for (final ThreadErrors threadErrors : sorted) {
+            threadErrors.copyTo(errors);
+        }
+        return this.decorateErrorsCollected(errors);
+    }
+
+    /**
+     * Returns the number of threads that retained errors.
+     *
+     * @return the number of per-thread error buffers.
+     */
+    int threadBuffers() {
+        return this.buffers.size();
+    }
+
+    private ThreadErrors register() {
+        final ThreadErrors errors = new ThreadErrors(Thread.currentThread().getId());
+        this.buffer.set(errors);
+        this.buffers.add(errors);
+        return errors;
+    }
+
+    /** Errors collected by a single thread. */
+    private static final class ThreadErrors {
+
+        final long threadId;
+        private final List<AssertionError> errors = new ArrayList<>();
+
+        ThreadErrors(long threadId) {
+            this.threadId = threadId;
+        }
+
+        // Uncontended, except while errors are being read
+        synchronized void add(AssertionError error) {
+            this.errors.add(error);
+        }
+
+        synchronized void copyTo(List<AssertionError> target) {
+            target.addAll(this.errors);
+        }
+    }
+}
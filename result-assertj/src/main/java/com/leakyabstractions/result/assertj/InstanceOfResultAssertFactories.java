@@ -54,6 +54,8 @@ public interface InstanceOfResultAssertFactories extends InstanceOfAssertFactori
 
     /**
      * {@link InstanceOfAssertFactory} for a {@link Result}.
+     * <p>
+     * Since type parameters are erased at runtime, the same factory instance is returned for any given types.
      *
      * @param <S> the success type.
      * @param <F> the failure type.
@@ -65,6 +67,6 @@ public interface InstanceOfResultAssertFactories extends InstanceOfAssertFactori
     @SuppressWarnings({ "rawtypes", "unused", "unchecked" })
     static <S, F> InstanceOfAssertFactory<Result, ResultAssert<S, F>> resultOf(
             Class<S> success, Class<F> failure) {
-        return new InstanceOfAssertFactory<>(Result.class, ResultAssert::<S, F> assertThatResult);
+        return (InstanceOfAssertFactory) ResultAssertFactory.INSTANCE;
     }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+/**
+ * Histogram of latencies with logarithmic buckets, similar to an HDR histogram.
+ * <p>
+ * Values below {@code 256} are recorded exactly. Larger values are recorded in buckets whose width doubles with each
+ * power of two, so that the relative error of any reported value is below 1%. Recording a value takes constant time
+ * and does not allocate memory.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int EXACT = SUB_BUCKETS << 1;
+    private static final int MAX_SHIFT = Long.SIZE - 1 - (SUB_BUCKET_BITS + 1);
+
+    private final long[] counts = new long[EXACT + MAX_SHIFT * SUB_BUCKETS];
+    private long count;
+    private long min = Long.MAX_VALUE;
+    private long max;
+    private long sum;
+
+    /**
+     * Records a value.
+     *
+     * @param value the value to record; negative values are recorded as zero.
+     */
+    void record(long value) {
+        final long recorded = Math.max(value, 0);
+        this.counts[indexOf(recorded)]++;
+        this.count++;
+        this.sum += recorded;
+        this.min = Math.min(this.min, recorded);
+        this.max = Math.max(this.max, recorded);
+    }
+
+    long count() {
+        return this.count;
+    }
+
+    long min() {
+        return this.count == 0 ? 0 : this.min;
+    }
+
+    long max() {
+        return this.max;
+    }
+
+    double mean() {
+        return this.count == 0 ? 0 : (double) this.sum / this.count;
+    }
+
+    /**
+     * Returns the value at the given percentile.
+     * <p>
+     * The returned value is the highest value equivalent to the recorded ones at that percentile, so it may slightly
+     * overestimate the actual value, but never underestimates it.
+     *
+     * @param percentile the percentile, between {@code 0} and {@code 1}.
+     * @return the value at the given percentile; or zero if no values were recorded.
+     */
+    long valueAt(double percentile) {
+        if (this.count == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(percentile * this.count));
+        long cumulative = 0;
+        for (int index = 0; index < this.counts.length; index++) {
+            cumulative += this.counts[index];
+            if (cumulative >= rank) {
+                return Math.min(highestEquivalentValue(index), this.max);
+            }
+        }
+        return this.max;
+    }
+
+    static int indexOf(long value) {
+        if (value < EXACT) {
+            return (int) value;
+        }
+        final int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS + 1);
+        return EXACT + (shift - 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < EXACT) {
+            return index;
+        }
+        final int shift = (index - EXACT) / SUB_BUCKETS + 1;
+        final long subBucket = (index - EXACT) % SUB_BUCKETS + SUB_BUCKETS;
+        return (subBucket << shift) + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import org.assertj.core.api.InstanceOfAssertFactory;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Holds the shared {@link InstanceOfAssertFactory} for {@link Result}.
+ * <p>
+ * The factory is stateless, so a single instance can serve {@link InstanceOfResultAssertFactories#resultOf(Class,
+ * Class)} for any success and failure types.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+final class ResultAssertFactory {
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    static final InstanceOfAssertFactory<Result, ResultAssert<Object, Object>> INSTANCE =
+            new InstanceOfAssertFactory<>(Result.class, ResultAssert::<Object, Object> assertThatResult);
+
+    private ResultAssertFactory() {
+        /* do nothing */
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.description.Description;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.core.internal.Failures;
+import org.assertj.core.presentation.Representation;
+import org.assertj.core.util.Throwables;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Assertion error for {@link Result} whose message and structured report are rendered only when they are requested
+ * for the first time.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+class ResultAssertionError extends AssertionError {
+
+    private static final long serialVersionUID = 1L;
+
+    private transient ErrorMessageFactory factory;
+    private transient Description description;
+    private transient Representation representation;
+    private final String kind;
+    private final String template;
+    private String message;
+    private ResultFailureReport report;
+    private boolean reported;
+
+    private ResultAssertionError(
+            ErrorMessageFactory factory, Description description, Representation representation) {
+        this.kind = factory.getClass().getSimpleName();
+        this.template = factory instanceof ResultErrorMessageFactory
+                ? ((ResultErrorMessageFactory) factory).template()
+                : factory.getClass().getName();
+        this.factory = factory;
+        this.description = description;
+        this.representation = representation;
+    }
+
+    private ResultAssertionError(ResultAssertionError error, String message) {
+        this.kind = error.kind;
+        this.template = error.template;
+        this.message = message;
+        this.report = error.report();
+        this.reported = true;
+        this.setStackTrace(error.getStackTrace());
+        for (final Throwable suppressed : error.getSuppressed()) {
+            this.addSuppressed(suppressed);
+        }
+    }
+
+    /**
+     * Creates an assertion error for the given assertion info.
+     * <p>
+     * The error message will be rendered lazily, unless it was overridden.
+     *
+     * @param info the assertion info.
+     * @param factory the error message factory.
+     * @return the created assertion error.
+     */
+    static AssertionError failure(AssertionInfo info, ErrorMessageFactory factory) {
+        final Failures failures = Failures.instance();
+        final AssertionError overridden = failures.failureIfErrorMessageIsOverridden(info);
+        final AssertionError error;
+        if (overridden != null) {
+            error = overridden;
+        } else {
+            failures.printThreadDumpIfNeeded();
+            error = new ResultAssertionError(factory, info.description(), info.representation());
+        }
+        failures.removeAssertJRelatedElementsFromStackTraceIfNeeded(error);
+        return error;
+    }
+
+    /**
+     * Renders the message and the structured report of this error right away.
+     * <p>
+     * Errors that are not thrown immediately, such as the ones collected by soft assertions, must be rendered before
+     * the actual values can change.
+     */
+    void render() {
+        this.getMessage();
+        this.report();
+    }
+
+    /**
+     * Returns a copy of this error whose message ends with the location of the failed assertion in the test code.
+     * <p>
+     * Soft assertions add this location to the messages of collected errors by creating new instances of them through
+     * reflection, which is not possible for this error; the copy also keeps the structured report.
+     *
+     * @return the copy of this error; or this error if the location cannot be determined.
+     */
+    AssertionError withLineNumber() {
+        final StackTraceElement element = Throwables.getFirstStackTraceElementFromTest(this.callerStackTrace());
+        if (element == null) {
+            return this;
+        }
+        final String className = element.getClassName();
+        final String testClassName = className.substring(className.lastIndexOf('.') + 1);
+        return new ResultAssertionError(this, String.format(
+                "%s%nat %s.%s(%s.java:%s)",
+                this.getMessage(),
+                testClassName,
+                element.getMethodName(),
+                testClassName,
+                element.getLineNumber()));
+    }
+
+    /**
+     * Returns the kind of failure, i.e. the simple name of the error message factory.
+     *
+     * @return the kind of failure.
+     */
+    String kind() {
+        return this.kind;
+    }
+
+    /**
+     * Returns the message template, which does not depend on the actual values.
+     *
+     * @return the message template.
+     */
+    String template() {
+        return this.template;
+    }
+
+    /**
+     * Returns the structured report of this error, which is created only when it is requested for the first time.
+     *
+     * @return the structured report; or {@code null} if this kind of failure has no structured form.
+     */
+    synchronized ResultFailureReport report() {
+        if (!this.reported && this.factory != null) {
+            if (this.factory instanceof ResultErrorMessageFactory) {
+                this.report = ((ResultErrorMessageFactory) this.factory).report(this.description, this.representation);
+            }
+            this.reported = true;
+            this.release();
+        }
+        return this.report;
+    }
+
+    // Drops the topmost elements of the stack trace that belong to this library, so tests in the same package are found
+    private StackTraceElement[] callerStackTrace() {
+        final StackTraceElement[] stackTrace = this.getStackTrace();
+        int first = 0;
+        while (first < stackTrace.length && isLibraryClass(stackTrace[first].getClassName())) {
+            first++;
+        }
+        return Arrays.copyOfRange(stackTrace, first, stackTrace.length);
+    }
+
+    private static boolean isLibraryClass(String className) {
+        if (!className.startsWith(ResultAssertionError.class.getPackage().getName() + '.')) {
+            return false;
+        }
+        try {
+            final Class<?> type = Class.forName(className, false, ResultAssertionError.class.getClassLoader());
+            return Objects.equals(
+                    type.getProtectionDomain().getCodeSource(),
+                    ResultAssertionError.class.getProtectionDomain().getCodeSource());
+        } catch (ClassNotFoundException | LinkageError | SecurityException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public synchronized String getMessage() {
+        if (this.message == null && this.factory != null) {
+            this.message = this.factory.create(this.description, this.representation);
+            this.release();
+        }
+        return this.message;
+    }
+
+    // The factory is no longer needed once both the message and the report have been created
+    private void release() {
+        if (this.message != null && this.reported) {
+            this.factory = null;
+            this.description = null;
+            this.representation = null;
+        }
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        this.getMessage();
+        this.report();
+        out.defaultWriteObject();
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Listener notified of every {@link Result} assertion.
+ * <p>
+ * Implementations are discovered via {@link java.util.ServiceLoader}: declare them in a provider-configuration file
+ * named {@code META-INF/services/com.leakyabstractions.result.assertj.ResultAssertionListener}. When no listener is
+ * declared, assertions are not timed at all.
+ * <p>
+ * Listeners may be notified concurrently from different threads, so implementations must be thread-safe. They should
+ * also be cheap, since they are notified synchronously.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @see ResultAssertionMetrics
+ */
+public interface ResultAssertionListener {
+
+    /**
+     * Invoked after a {@link Result} assertion is performed.
+     * <p>
+     * The elapsed time includes the time spent inside requirements passed to the assertion, such as the consumers
+     * passed to {@link ResultAssert#hasSuccessSatisfying(java.util.function.Consumer) hasSuccessSatisfying}.
+     *
+     * @param method the name of the assertion method, e.g. {@code "hasSuccess"}.
+     * @param passed {@code true} if the assertion passed; {@code false} if it failed.
+     * @param elapsedNanos the time spent performing the assertion, in nanoseconds.
+     */
+    void onAssertion(String method, boolean passed, long elapsedNanos);
+}
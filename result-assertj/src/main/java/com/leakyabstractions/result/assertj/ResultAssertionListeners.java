@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.management.JMException;
+
+/**
+ * Registry of the {@link ResultAssertionListener} implementations discovered via {@link ServiceLoader}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+final class ResultAssertionListeners {
+
+    private static final Logger LOGGER = Logger.getLogger(ResultAssertionListener.class.getName());
+
+    private static final ResultAssertionListener[] LISTENERS = load();
+
+    /** Constant flag that lets the JIT compiler remove timing code when there are no listeners. */
+    static final boolean ENABLED = LISTENERS.length > 0;
+
+    private ResultAssertionListeners() {
+        /* do nothing */
+    }
+
+    /**
+     * Notifies all listeners.
+     *
+     * @param method the name of the assertion method.
+     * @param passed {@code true} if the assertion passed.
+     * @param elapsedNanos the time spent performing the assertion, in nanoseconds.
+     */
+    static void fire(String method, boolean passed, long elapsedNanos) {
+        for (final ResultAssertionListener listener : LISTENERS) {
+            try {
+                listener.onAssertion(method, passed, elapsedNanos);
+            } catch (RuntimeException e) {
+                // A faulty listener must not replace the outcome of the assertion
+                LOGGER.log(Level.WARNING, e, () -> "Listener " + listener.getClass().getName() + " failed");
+            }
+        }
+    }
+
+    private static ResultAssertionListener[] load() {
+        final List<ResultAssertionListener> listeners = new ArrayList<>();
+        for (final ResultAssertionListener listener :
+                ServiceLoader.load(ResultAssertionListener.class, ResultAssertionListener.class.getClassLoader())) {
+            if (listener instanceof ResultAssertionMetrics) {
+                register((ResultAssertionMetrics) listener);
+            }
+            listeners.add(listener);
+        }
+        return listeners.toArray(new ResultAssertionListener[0]);
+    }
+
+    private static void register(ResultAssertionMetrics metrics) {
+        try {
+            metrics.register();
+        } catch (JMException e) {
+            // Metrics are still collected; they are just not exposed
+            LOGGER.log(Level.WARNING, e, () -> "Could not register " + ResultAssertionMetrics.OBJECT_NAME);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * {@link ResultAssertionListener} that counts and times {@link com.leakyabstractions.result.api.Result Result}
+ * assertions using lock-free counters.
+ * <p>
+ * To enable it, add a provider-configuration file named
+ * {@code META-INF/services/com.leakyabstractions.result.assertj.ResultAssertionListener} containing the line
+ * {@code com.leakyabstractions.result.assertj.ResultAssertionMetrics} to the test class path. The instance created by
+ * {@link java.util.ServiceLoader} is registered in the platform MBean server as {@value #OBJECT_NAME} right after
+ * it is created; if it cannot be registered, a warning is logged and assertions are still counted and timed.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+public class ResultAssertionMetrics implements ResultAssertionListener, ResultAssertionMetricsMXBean {
+
+    /** Object name of the MBean. */
+    public static final String OBJECT_NAME = "com.leakyabstractions.result.assertj:type=ResultAssertionMetrics";
+
+    private final ConcurrentMap<String, Counters> counters = new ConcurrentHashMap<>();
+
+    /** Creates a new instance, which is not registered in the platform MBean server until {@link #register()} is. */
+    public ResultAssertionMetrics() {
+        /* do nothing */
+    }
+
+    /**
+     * Registers this instance in the platform MBean server as {@value #OBJECT_NAME}.
+     *
+     * @return this instance.
+     * @throws JMException if this instance could not be registered, e.g. because another one already was.
+     */
+    public ResultAssertionMetrics register() throws JMException {
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+        return this;
+    }
+
+    @Override
+    public void onAssertion(String method, boolean passed, long elapsedNanos) {
+        Counters methodCounters = this.counters.get(method);
+        if (methodCounters == null) {
+            methodCounters = this.counters.computeIfAbsent(method, x -> new Counters());
+        }
+        (passed ? methodCounters.passed : methodCounters.failed).increment();
+        methodCounters.elapsedNanos.add(elapsedNanos);
+    }
+
+    @Override
+    public Map<String, Long> getPassedCounts() {
+        return this.snapshot(c -> c.passed.sum());
+    }
+
+    @Override
+    public Map<String, Long> getFailedCounts() {
+        return this.snapshot(c -> c.failed.sum());
+    }
+
+    @Override
+    public Map<String, Long> getElapsedNanos() {
+        return this.snapshot(c -> c.elapsedNanos.sum());
+    }
+
+    @Override
+    public long getAssertionCount() {
+        long count = 0;
+        for (final Counters methodCounters : this.counters.values()) {
+            count += methodCounters.passed.sum() + methodCounters.failed.sum();
+        }
+        return count;
+    }
+
+    @Override
+    public void reset() {
+        for (final Counters methodCounters : this.counters.values()) {
+            methodCounters.passed.reset();
+            methodCounters.failed.reset();
+            methodCounters.elapsedNanos.reset();
+        }
+    }
+
+    private Map<String, Long> snapshot(ToLongFunction<Counters> counter) {
+        final Map<String, Long> snapshot = new TreeMap<>();
+        for (final Map.Entry<String, Counters> entry : this.counters.entrySet()) {
+            snapshot.put(entry.getKey(), counter.applyAsLong(entry.getValue()));
+        }
+        return snapshot;
+    }
+
+    private static final class Counters {
+        final LongAdder passed = new LongAdder();
+        final LongAdder failed = new LongAdder();
+        final LongAdder elapsedNanos = new LongAdder();
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import java.util.Map;
+
+/**
+ * Management interface of {@link ResultAssertionMetrics}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+public interface ResultAssertionMetricsMXBean {
+
+    /**
+     * Returns the number of passed assertions, by assertion method.
+     *
+     * @return a map from assertion method names to counts.
+     */
+    Map<String, Long> getPassedCounts();
+
+    /**
+     * Returns the number of failed assertions, by assertion method.
+     *
+     * @return a map from assertion method names to counts.
+     */
+    Map<String, Long> getFailedCounts();
+
+    /**
+     * Returns the total time spent performing assertions, by assertion method.
+     *
+     * @return a map from assertion method names to nanoseconds.
+     */
+    Map<String, Long> getElapsedNanos();
+
+    /**
+     * Returns the total number of assertions performed.
+     *
+     * @return the number of passed and failed assertions.
+     */
+    long getAssertionCount();
+
+    /** Resets all counters to zero. */
+    void reset();
+}
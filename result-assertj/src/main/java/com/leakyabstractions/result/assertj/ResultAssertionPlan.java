@@ -0,0 +1,370 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_FAILURE;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_FAILURE_EQUAL_TO;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_FAILURE_INSTANCE_OF;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_FAILURE_IN;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_FAILURE_NOT_IN;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_FAILURE_SAME_AS;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_FAILURE_SATISFYING;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_SUCCESS;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_SUCCESS_EQUAL_TO;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_SUCCESS_INSTANCE_OF;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_SUCCESS_IN;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_SUCCESS_NOT_IN;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_SUCCESS_SAME_AS;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_SUCCESS_SATISFYING;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.assertj.core.api.Condition;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Reusable expectation on {@link Result} objects, defined once and verified against many results.
+ * <p>
+ * Plans are built with the same vocabulary as {@link AbstractResultAssert}, but each step returns a new immutable plan
+ * instead of asserting anything, so the same plan can be shared across tests and threads. Verifying a result that
+ * meets the expectation does not create assertion objects, nor any other object; error messages are only rendered
+ * when a result does not meet the expectation, using the same wording as the corresponding {@link Result} assertions.
+ * <p>
+ * Usage:
+ *
+ * <pre class="row-color rowColor">
+ * <code>&nbsp;
+ * ResultAssertionPlan&lt;Order, String&gt; plan = ResultAssertionPlan.&lt;Order, String&gt;create()
+ *         .hasSuccessInstanceOf(Order.class)
+ *         .hasSuccessSatisfying(paid);
+ * orders.forEach(plan::verify);
+ * assertThatResults(orders).inParallel().allSatisfy(plan);
+ * </code>
+ * </pre>
+ * <p>
+ * The same plan can also be turned into a plain {@link Predicate} to guard production code paths, where throwing
+ * assertion errors would be too expensive:
+ *
+ * <pre class="row-color rowColor">
+ * <code>&nbsp;
+ * Predicate&lt;Result&lt;Order, String&gt;&gt; wellFormed = plan.asPredicate();
+ * responses.stream().filter(wellFormed.negate()).forEach(alerts::raise);
+ * </code>
+ * </pre>
+ *
+ * @param <S> type of the success value contained in the {@link Result}.
+ * @param <F> type of the failure value contained in the {@link Result}.
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+public final class ResultAssertionPlan<S, F> {
+
+    private static final ResultAssertionPlan<?, ?> EMPTY =
+            new ResultAssertionPlan<>(new ResultCheck[0], new Object[0]);
+
+    private final ResultCheck[] checks;
+    private final Object[] arguments;
+
+    private ResultAssertionPlan(ResultCheck[] checks, Object[] arguments) {
+        this.checks = checks;
+        this.arguments = arguments;
+    }
+
+    /**
+     * Creates an empty plan, which only expects results not to be {@code null}.
+     *
+     * @param <S> type of the success value contained in the {@link Result}.
+     * @param <F> type of the failure value contained in the {@link Result}.
+     * @return the empty plan.
+     */
+    @SuppressWarnings("unchecked")
+    public static <S, F> ResultAssertionPlan<S, F> create() {
+        return (ResultAssertionPlan<S, F>) EMPTY;
+    }
+
+    /**
+     * Returns a plan that also expects results to be successful.
+     *
+     * @return the extended plan.
+     * @see AbstractResultAssert#hasSuccess()
+     */
+    public ResultAssertionPlan<S, F> hasSuccess() {
+        return this.then(HAS_SUCCESS, null);
+    }
+
+    /**
+     * Returns a plan that also expects results to be successful and contain the given value.
+     *
+     * @param expectedValue the expected success value.
+     * @return the extended plan.
+     * @see AbstractResultAssert#hasSuccess(Object)
+     */
+    public ResultAssertionPlan<S, F> hasSuccess(S expectedValue) {
+        return this.then(HAS_SUCCESS_EQUAL_TO, expectedValue);
+    }
+
+    /**
+     * Returns a plan that also expects results to be successful and contain the given instance.
+     *
+     * @param expectedValue the expected success instance.
+     * @return the extended plan.
+     * @see AbstractResultAssert#hasSuccessSameAs(Object)
+     */
+    public ResultAssertionPlan<S, F> hasSuccessSameAs(S expectedValue) {
+        return this.then(HAS_SUCCESS_SAME_AS, expectedValue);
+    }
+
+    /**
+     * Returns a plan that also expects results to be successful and contain a value that is an instance of the given
+     * class.
+     *
+     * @param clazz the expected class of the success value.
+     * @return the extended plan.
+     * @see AbstractResultAssert#hasSuccessInstanceOf(Class)
+     */
+    public ResultAssertionPlan<S, F> hasSuccessInstanceOf(Class<?> clazz) {
+        return this.then(HAS_SUCCESS_INSTANCE_OF, clazz);
+    }
+
+    /**
+     * Returns a plan that also expects results to be successful and contain a value that satisfies the given
+     * condition.
+     *
+     * @param condition the condition.
+     * @return the extended plan.
+     * @see AbstractResultAssert#hasSuccessSatisfying(Condition)
+     */
+    public ResultAssertionPlan<S, F> hasSuccessSatisfying(Condition<? super S> condition) {
+        return this.then(HAS_SUCCESS_SATISFYING, condition);
+    }
+
+    /**
+     * Returns a plan that also expects results to be successful and contain one of the given values.
+     * <p>
+     * The given values are copied when the plan is built and compared using {@link Object#equals(Object)}.
+     *
+     * @param values the allowed success values.
+     * @return the extended plan.
+     * @see AbstractResultAssert#hasSuccessIn(Collection)
+     */
+    public ResultAssertionPlan<S, F> hasSuccessIn(Collection<? extends S> values) {
+        return this.then(HAS_SUCCESS_IN, snapshot(values));
+    }
+
+    /**
+     * Returns a plan that also expects results to be successful and contain none of the given values.
+     * <p>
+     * The given values are copied when the plan is built and compared using {@link Object#equals(Object)}.
+     *
+     * @param values the forbidden success values.
+     * @return the extended plan.
+     * @see AbstractResultAssert#hasSuccessNotIn(Collection)
+     */
+    public ResultAssertionPlan<S, F> hasSuccessNotIn(Collection<? extends S> values) {
+        return this.then(HAS_SUCCESS_NOT_IN, snapshot(values));
+    }
+
+    /**
+     * Returns a plan that also expects results to be failed.
+     *
+     * @return the extended plan.
+     * @see AbstractResultAssert#hasFailure()
+     */
+    public ResultAssertionPlan<S, F> hasFailure() {
+        return this.then(HAS_FAILURE, null);
+    }
+
+    /**
+     * Returns a plan that also expects results to be failed and contain the given value.
+     *
+     * @param expectedValue the expected failure value.
+     * @return the extended plan.
+     * @see AbstractResultAssert#hasFailure(Object)
+     */
+    public ResultAssertionPlan<S, F> hasFailure(F expectedValue) {
+        return this.then(HAS_FAILURE_EQUAL_TO, expectedValue);
+    }
+
+    /**
+     * Returns a plan that also expects results to be failed and contain the given instance.
+     *
+     * @param expectedValue the expected failure instance.
+     * @return the extended plan.
+     * @see AbstractResultAssert#hasFailureSameAs(Object)
+     */
+    public ResultAssertionPlan<S, F> hasFailureSameAs(F expectedValue) {
+        return this.then(HAS_FAILURE_SAME_AS, expectedValue);
+    }
+
+    /**
+     * Returns a plan that also expects results to be failed and contain a value that is an instance of the given
+     * class.
+     *
+     * @param clazz the expected class of the failure value.
+     * @return the extended plan.
+     * @see AbstractResultAssert#hasFailureInstanceOf(Class)
+     */
+    public ResultAssertionPlan<S, F> hasFailureInstanceOf(Class<?> clazz) {
+        return this.then(HAS_FAILURE_INSTANCE_OF, clazz);
+    }
+
+    /**
+     * Returns a plan that also expects results to be failed and contain a value that satisfies the given condition.
+     *
+     * @param condition the condition.
+     * @return the extended plan.
+     * @see AbstractResultAssert#hasFailureSatisfying(Condition)
+     */
+    public ResultAssertionPlan<S, F> hasFailureSatisfying(Condition<? super F> condition) {
+        return this.then(HAS_FAILURE_SATISFYING, condition);
+    }
+
+    /**
+     * Returns a plan that also expects results to be failed and contain one of the given values.
+     * <p>
+     * The given values are copied when the plan is built and compared using {@link Object#equals(Object)}.
+     *
+     * @param values the allowed failure values.
+     * @return the extended plan.
+     * @see AbstractResultAssert#hasFailureIn(Collection)
+     */
+    public ResultAssertionPlan<S, F> hasFailureIn(Collection<? extends F> values) {
+        return this.then(HAS_FAILURE_IN, snapshot(values));
+    }
+
+    /**
+     * Returns a plan that also expects results to be failed and contain none of the given values.
+     * <p>
+     * The given values are copied when the plan is built and compared using {@link Object#equals(Object)}.
+     *
+     * @param values the forbidden failure values.
+     * @return the extended plan.
+     * @see AbstractResultAssert#hasFailureNotIn(Collection)
+     */
+    public ResultAssertionPlan<S, F> hasFailureNotIn(Collection<? extends F> values) {
+        return this.then(HAS_FAILURE_NOT_IN, snapshot(values));
+    }
+
+    /**
+     * Returns whether the given {@link Result} meets this plan.
+     *
+     * @param actual the result to inspect.
+     * @return {@code true} if the result is not {@code null} and meets every expectation of this plan.
+     */
+    public boolean matches(Result<S, F> actual) {
+        return actual != null && this.firstMismatch(actual) < 0;
+    }
+
+    /**
+     * Returns a plain {@link Predicate} that tests whether {@link Result} objects meet this plan.
+     * <p>
+     * The predicate never throws assertion errors, rejects {@code null} results, and does not create any object when
+     * testing a result; it does not involve assertion objects either, so it can be used outside tests.
+     *
+     * @return the predicate.
+     */
+    public Predicate<Result<S, F>> asPredicate() {
+        return new ResultPredicate<>(this.checks, this.arguments, this.toString());
+    }
+
+    /**
+     * Checks the given {@link Result} against this plan, without throwing an {@link AssertionError}.
+     *
+     * @param actual the result to inspect.
+     * @return the verdict of the first expectation that does not hold; or a passed verdict.
+     */
+    public ResultVerdict check(Result<S, F> actual) {
+        if (actual == null) {
+            return ResultCheck.NOT_NULL;
+        }
+        final int index = this.firstMismatch(actual);
+        return index < 0 ? ResultVerdict.PASSED : this.checks[index].verdict(actual, this.arguments[index]);
+    }
+
+    /**
+     * Verifies that the given {@link Result} meets this plan.
+     *
+     * @param actual the result to inspect.
+     * @throws AssertionError if the result is {@code null} or does not meet every expectation of this plan.
+     */
+    public void verify(Result<S, F> actual) {
+        if (!this.matches(actual)) {
+            this.check(actual).orElseThrow();
+        }
+    }
+
+    /**
+     * Returns the number of expectations in this plan.
+     *
+     * @return the number of expectations.
+     */
+    int size() {
+        return this.checks.length;
+    }
+
+    @Override
+    public String toString() {
+        if (this.checks.length == 0) {
+            return "isNotNull()";
+        }
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < this.checks.length; i++) {
+            if (i > 0) {
+                builder.append('.');
+            }
+            builder.append(this.checks[i].method).append('(');
+            final Object argument = this.arguments[i];
+            if (argument instanceof Class) {
+                builder.append(((Class<?>) argument).getName());
+            } else if (argument instanceof Set) {
+                builder.append(((Set<?>) argument).size()).append(" values");
+            } else if (argument != null) {
+                builder.append(argument);
+            }
+            builder.append(')');
+        }
+        return builder.toString();
+    }
+
+    private int firstMismatch(Result<S, F> actual) {
+        final ResultCheck[] checks = this.checks;
+        final Object[] args = this.arguments;
+        for (int i = 0; i < checks.length; i++) {
+            if (!checks[i].holds(actual, args[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private ResultAssertionPlan<S, F> then(ResultCheck check, Object argument) {
+        final int length = this.checks.length;
+        final ResultCheck[] checks = Arrays.copyOf(this.checks, length + 1);
+        final Object[] args = Arrays.copyOf(this.arguments, length + 1);
+        checks[length] = check;
+        args[length] = check.checkArgument(argument);
+        return new ResultAssertionPlan<>(checks, args);
+    }
+
+    private static Set<Object> snapshot(Collection<?> values) {
+        // Null values are rejected by the check itself
+        return values == null ? null : ResultValueIndex.of(values);
+    }
+}
@@ -16,6 +16,11 @@
 
 package com.leakyabstractions.result.assertj;
 
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
 import org.assertj.core.api.Assertions;
 
 import com.leakyabstractions.result.api.Result;
@@ -43,4 +48,106 @@ public class ResultAssertions extends Assertions {
     public static <S, F> ResultAssert<S, F> assertThat(Result<S, F> actual) {
         return ResultAssert.assertThatResult(actual);
     }
+
+    /**
+     * Create bulk assertion for {@link Iterable} sequences of {@link Result} objects.
+     *
+     * @param <S> type of the success value contained in the {@link Result} objects.
+     * @param <F> type of the failure value contained in the {@link Result} objects.
+     * @param actual the actual value.
+     * @return the created assertion object.
+     */
+    public static <S, F> ResultIterableAssert<S, F> assertThatResults(Iterable<? extends Result<S, F>> actual) {
+        return ResultIterableAssert.assertThatResultIterable(actual);
+    }
+
+    /**
+     * Create bulk assertion for arrays of {@link Result} objects.
+     *
+     * @param <S> type of the success value contained in the {@link Result} objects.
+     * @param <F> type of the failure value contained in the {@link Result} objects.
+     * @param actual the actual value.
+     * @return the created assertion object.
+     */
+    public static <S, F> ResultIterableAssert<S, F> assertThatResults(Result<S, F>[] actual) {
+        return ResultIterableAssert.assertThatResultIterable(actual == null ? null : Arrays.asList(actual));
+    }
+
+    /**
+     * Create bulk assertion for {@link Stream streams} of {@link Result} objects.
+     * <p>
+     * Elements are consumed lazily, so memory use does not depend on the length of the stream.
+     *
+     * @param <S> type of the success value contained in the {@link Result} objects.
+     * @param <F> type of the failure value contained in the {@link Result} objects.
+     * @param actual the actual value.
+     * @return the created assertion object.
+     */
+    public static <S, F> ResultStreamAssert<S, F> assertThatResults(Stream<? extends Result<S, F>> actual) {
+        return ResultStreamAssert.assertThatResultStream(actual);
+    }
+
+    /**
+     * Create assertion for {@link CompletableFuture futures} of {@link Result} objects.
+     *
+     * @param <S> type of the success value contained in the {@link Result}.
+     * @param <F> type of the failure value contained in the {@link Result}.
+     * @param actual the actual value.
+     * @return the created assertion object.
+     */
+    public static <S, F> ResultFutureAssert<S, F> assertThatResultFuture(
+            CompletableFuture<? extends Result<S, F>> actual) {
+        return ResultFutureAssert.assertThatResultFuture(actual);
+    }
+
+    /**
+     * Create bulk assertion for {@link Iterable} sequences of {@link CompletableFuture futures} of {@link Result}
+     * objects.
+     *
+     * @param <S> type of the success value contained in the {@link Result} objects.
+     * @param <F> type of the failure value contained in the {@link Result} objects.
+     * @param actual the actual value.
+     * @return the created assertion object.
+     */
+    public static <S, F> ResultFuturesAssert<S, F> assertThatResultFutures(
+            Iterable<? extends CompletableFuture<? extends Result<S, F>>> actual) {
+        return ResultFuturesAssert.assertThatResultFutures(actual);
+    }
+
+    /**
+     * Create polling assertion for {@link Supplier suppliers} of {@link Result} objects.
+     *
+     * @param <S> type of the success value contained in the {@link Result}.
+     * @param <F> type of the failure value contained in the {@link Result}.
+     * @param actual the supplier to poll.
+     * @return the created assertion object.
+     */
+    public static <S, F> ResultAwait<S, F> awaitResult(Supplier<? extends Result<S, F>> actual) {
+        return ResultAwait.awaitResult(actual);
+    }
+
+    /**
+     * Create performance assertion for {@link Supplier suppliers} of {@link Result} objects.
+     *
+     * @param <S> type of the success value contained in the {@link Result}.
+     * @param <F> type of the failure value contained in the {@link Result}.
+     * @param actual the supplier to measure.
+     * @return the created assertion object.
+     */
+    public static <S, F> ResultPerformanceAssert<S, F> assertThatResultPerformance(
+            Supplier<? extends Result<S, F>> actual) {
+        return ResultPerformanceAssert.assertThatResultPerformance(actual);
+    }
+
+    /**
+     * Create allocation-budget assertion for {@link Supplier suppliers} of {@link Result} objects.
+     *
+     * @param <S> type of the success value contained in the {@link Result}.
+     * @param <F> type of the failure value contained in the {@link Result}.
+     * @param actual the supplier to measure.
+     * @return the created assertion object.
+     */
+    public static <S, F> ResultCallAssert<S, F> assertThatResultCall(Supplier<? extends Result<S, F>> actual) {
+        return ResultCallAssert.assertThatResultCall(actual);
+    }
 }
@@ -0,0 +1,338 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultFutureAssert.checkTimeout;
+import static com.leakyabstractions.result.assertj.ResultShouldEventually.shouldEventuallyBeSuccess;
+import static com.leakyabstractions.result.assertj.ResultShouldEventually.shouldEventuallyBeSuccessSatisfying;
+import static com.leakyabstractions.result.assertj.ResultValues.successOf;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.assertj.core.api.ObjectAssertProxy.withAssertionState;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.api.Condition;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.core.internal.Conditions;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Polling assertions for {@link Supplier suppliers} of {@link Result} objects.
+ * <p>
+ * The supplier is polled until the supplied {@link Result} satisfies the assertion or the timeout expires. Polls run
+ * on a shared scheduler (on virtual threads, when available), while the calling thread waits only until the
+ * assertion is satisfied.
+ * <p>
+ * Example:
+ *
+ * <pre class="row-color rowColor">
+ * <code>&nbsp;
+ * awaitResult(() -&gt; cache.get("key"))
+ *         .atMost(Duration.ofSeconds(5))
+ *         .exponentialBackoff(Duration.ofMillis(10), Duration.ofSeconds(1))
+ *         .withJitter(0.2)
+ *         .untilSuccess()
+ *         .hasSuccess("value");
+ * </code>
+ * </pre>
+ *
+ * @param <S> type of the success value contained in the {@link Result}.
+ * @param <F> type of the failure value contained in the {@link Result}.
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+public class ResultAwait<S, F> extends AbstractAssert<ResultAwait<S, F>, Supplier<? extends Result<S, F>>> {
+
+    /** Default maximum time to wait. */
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+
+    /** Default interval between polls. */
+    public static final Duration DEFAULT_POLL_INTERVAL = Duration.ofMillis(100);
+
+    private Duration timeout = DEFAULT_TIMEOUT;
+    private long initialDelay = DEFAULT_POLL_INTERVAL.toNanos();
+    private long maxDelay = DEFAULT_POLL_INTERVAL.toNanos();
+    private double factor = 1;
+    private double jitter;
+
+    ResultAwait(Supplier<? extends Result<S, F>> actual) {
+        super(actual, ResultAwait.class);
+    }
+
+    /**
+     * Create polling assertion for {@link Supplier suppliers} of {@link Result} objects.
+     * <p>
+     * This static method is provided for convenience, in case {@link ResultAssertions#awaitResult(Supplier)} can't be
+     * statically imported.
+     *
+     * @param <S> type of the success value contained in the {@link Result}.
+     * @param <F> type of the failure value contained in the {@link Result}.
+     * @param actual the supplier to poll.
+     * @return the created assertion object.
+     */
+    public static <S, F> ResultAwait<S, F> awaitResult(Supplier<? extends Result<S, F>> actual) {
+        return new ResultAwait<>(actual);
+    }
+
+    /**
+     * Sets the maximum time to wait for the supplied {@link Result} to satisfy the assertion.
+     *
+     * @param timeout the maximum time to wait.
+     * @return this assertion object.
+     */
+    public ResultAwait<S, F> atMost(Duration timeout) {
+        this.timeout = checkTimeout(timeout);
+        return myself;
+    }
+
+    /**
+     * Polls the supplier at a fixed interval.
+     *
+     * @param interval the interval between polls.
+     * @return this assertion object.
+     */
+    public ResultAwait<S, F> pollInterval(Duration interval) {
+        this.initialDelay = checkTimeout(interval).toNanos();
+        this.maxDelay = this.initialDelay;
+        this.factor = 1;
+        return myself;
+    }
+
+    /**
+     * Polls the supplier at exponentially increasing intervals.
+     * <p>
+     * The interval starts at {@code initial} and doubles after each poll, up to {@code max}.
+     *
+     * @param initial the interval between the first and the second polls.
+     * @param max the maximum interval between polls.
+     * @return this assertion object.
+     */
+    public ResultAwait<S, F> exponentialBackoff(Duration initial, Duration max) {
+        final long initialNanos = checkTimeout(initial).toNanos();
+        final long maxNanos = checkTimeout(max).toNanos();
+        if (maxNanos < initialNanos) {
+            throw new IllegalArgumentException("The maximum interval should not be less than the initial interval.");
+        }
+        this.initialDelay = initialNanos;
+        this.maxDelay = maxNanos;
+        this.factor = 2;
+        return myself;
+    }
+
+    /**
+     * Randomly shortens each interval between polls by up to the given fraction.
+     *
+     * @param jitter the maximum fraction of each interval to shorten, between {@code 0} and {@code 1}.
+     * @return this assertion object.
+     */
+    public ResultAwait<S, F> withJitter(double jitter) {
+        if (!(jitter >= 0 && jitter <= 1)) {
+            throw new IllegalArgumentException("The jitter should be between 0 and 1.");
+        }
+        this.jitter = jitter;
+        return myself;
+    }
+
+    /**
+     * Polls the actual supplier until it supplies a successful {@link Result} and returns a new assertion object to
+     * chain assertions on it.
+     *
+     * @return a new {@link ResultAssert} for assertions chaining on the successful {@link Result}.
+     */
+    public ResultAssert<S, F> untilSuccess() {
+        final Poll poll = this.poll(Result::hasSuccess);
+        if (!this.await(poll)) {
+            throw this.resultAssertionError(shouldEventuallyBeSuccess(this.timeout, poll.attempts, poll.last));
+        }
+        return this.assertThatOutcome(poll);
+    }
+
+    /**
+     * Polls the actual supplier until it supplies a successful {@link Result} whose success value satisfies the given
+     * {@link Condition}, and returns a new assertion object to chain assertions on it.
+     *
+     * @param condition the given condition.
+     * @return a new {@link ResultAssert} for assertions chaining on the successful {@link Result}.
+     */
+    public ResultAssert<S, F> untilSuccessSatisfying(Condition<? super S> condition) {
+        Conditions.instance().assertIsNotNull(condition);
+        final Poll poll = this.poll(r -> r.hasSuccess() && condition.matches(successOf(r)));
+        if (!this.await(poll)) {
+            throw this.resultAssertionError(
+                    shouldEventuallyBeSuccessSatisfying(condition, this.timeout, poll.attempts, poll.last));
+        }
+        return this.assertThatOutcome(poll);
+    }
+
+    /**
+     * Polls the actual supplier until it supplies a successful {@link Result} whose success value satisfies the given
+     * requirements, and returns a new assertion object to chain assertions on it.
+     * <p>
+     * Requirements are not satisfied while they throw an {@link AssertionError}.
+     *
+     * @param requirements to assert on the success value held by the {@link Result}.
+     * @return a new {@link ResultAssert} for assertions chaining on the successful {@link Result}.
+     */
+    public ResultAssert<S, F> untilSuccessSatisfying(Consumer<S> requirements) {
+        if (requirements == null) {
+            throw new IllegalArgumentException("The requirements should not be <null>.");
+        }
+        final Poll poll = this.poll(r -> {
+            if (!r.hasSuccess()) {
+                return false;
+            }
+            requirements.accept(successOf(r));
+            return true;
+        });
+        if (!this.await(poll)) {
+            final AssertionError error = poll.error;
+            throw this.resultAssertionError(shouldEventuallyBeSuccessSatisfying(
+                    this.timeout, poll.attempts, poll.last, error == null ? "none" : error.getMessage()));
+        }
+        return this.assertThatOutcome(poll);
+    }
+
+    private Poll poll(Predicate<? super Result<S, F>> isExpected) {
+        isNotNull();
+        final Poll poll = new Poll(isExpected);
+        Polling.EXECUTOR.execute(poll);
+        return poll;
+    }
+
+    private boolean await(Poll poll) {
+        try {
+            poll.outcome.get(this.timeout.toNanos(), NANOSECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (TimeoutException e) {
+            // Timeout is reported by the caller
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw (RuntimeException) cause;
+        }
+        // The poll may have completed right when the timeout expired
+        return !poll.outcome.cancel(false) && this.await(poll);
+    }
+
+    private ResultAssert<S, F> assertThatOutcome(Poll poll) {
+        return withAssertionState(new ResultAssert<>(poll.outcome.join()), myself);
+    }
+
+    private AssertionError resultAssertionError(ErrorMessageFactory factory) {
+        return ResultAssertionError.failure(this.getWritableAssertionInfo(), factory);
+    }
+
+    /** Successive polls of the actual supplier. */
+    private final class Poll implements Runnable {
+
+        private final CompletableFuture<Result<S, F>> outcome = new CompletableFuture<>();
+        private final Predicate<? super Result<S, F>> isExpected;
+        private long delay = ResultAwait.this.initialDelay;
+        private volatile int attempts;
+        private volatile Result<S, F> last;
+        private volatile AssertionError error;
+
+        Poll(Predicate<? super Result<S, F>> isExpected) {
+            this.isExpected = isExpected;
+        }
+
+        @Override
+        public void run() {
+            if (this.outcome.isDone()) {
+                return;
+            }
+            final Result<S, F> result;
+            try {
+                result = ResultAwait.this.actual.get();
+            } catch (RuntimeException | Error e) {
+                this.outcome.completeExceptionally(e);
+                return;
+            }
+            this.last = result;
+            this.attempts++;
+            if (this.test(result)) {
+                this.outcome.complete(result);
+            } else if (!this.outcome.isDone()) {
+                Polling.SCHEDULER.schedule(() -> Polling.EXECUTOR.execute(this), this.nextDelay(), NANOSECONDS);
+            }
+        }
+
+        private boolean test(Result<S, F> result) {
+            try {
+                return result != null && this.isExpected.test(result);
+            } catch (AssertionError e) {
+                this.error = e;
+                return false;
+            } catch (RuntimeException | Error e) {
+                this.outcome.completeExceptionally(e);
+                return false;
+            }
+        }
+
+        private long nextDelay() {
+            final long current = this.delay;
+            this.delay = (long) Math.min(current * ResultAwait.this.factor, ResultAwait.this.maxDelay);
+            final double jitter = ResultAwait.this.jitter;
+            return jitter == 0 ? current : (long) (current * (1 - jitter * ThreadLocalRandom.current().nextDouble()));
+        }
+    }
+
+    /** Shared scheduler and executor that run polls. */
+    private static final class Polling {
+
+        static final ScheduledExecutorService SCHEDULER =
+                Executors.newSingleThreadScheduledExecutor(daemon("result-await-scheduler"));
+        static final Executor EXECUTOR = executor();
+
+        private Polling() {
+            /* do nothing */
+        }
+
+        private static Executor executor() {
+            try {
+                // Virtual threads are available since Java 21
+                return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                return Executors.newCachedThreadPool(daemon("result-await-poller"));
+            }
+        }
+
+        private static ThreadFactory daemon(String name) {
+            return runnable -> {
+                final Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+    }
+}
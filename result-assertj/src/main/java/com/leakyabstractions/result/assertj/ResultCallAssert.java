@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultCallShouldAllocate.shouldAllocateAtMost;
+import static com.leakyabstractions.result.assertj.ResultShouldBe.shouldBeSuccess;
+import static org.assertj.core.api.Assumptions.assumeThat;
+import static org.assertj.core.api.ObjectAssertProxy.withAssertionState;
+import static org.assertj.core.error.ShouldNotBeNull.shouldNotBeNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Allocation-budget assertions for {@link Supplier suppliers} of {@link Result} objects.
+ * <p>
+ * The supplier is called on the current thread a number of times to warm up, so that the JIT compiler can optimize
+ * it, and then a number of times to measure the bytes it allocates on average per call. Allocations are measured with
+ * {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}; if the JVM does not support it, assertions
+ * are skipped as failed assumptions.
+ * <p>
+ * Example:
+ *
+ * <pre class="row-color rowColor">
+ * <code>&nbsp;
+ * assertThatResultCall(() -&gt; parser.parse(input))
+ *         .allocatesAtMostBytesPerCall(64);
+ * </code>
+ * </pre>
+ *
+ * @param <S> type of the success value contained in the {@link Result}.
+ * @param <F> type of the failure value contained in the {@link Result}.
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+public class ResultCallAssert<S, F> extends AbstractAssert<ResultCallAssert<S, F>, Supplier<? extends Result<S, F>>> {
+
+    /** Default number of calls to make before measuring. */
+    public static final int DEFAULT_WARM_UP = 10_000;
+
+    /** Default number of calls to measure. */
+    public static final int DEFAULT_ITERATIONS = 10_000;
+
+    private int warmUp = DEFAULT_WARM_UP;
+    private int iterations = DEFAULT_ITERATIONS;
+
+    /** The last supplied result; written on every call so that the JIT compiler cannot elide its allocation. */
+    private Result<S, F> last;
+
+    /** The first supplied result that was not a success. */
+    private Result<S, F> unexpected;
+    private boolean allSucceeded;
+
+    ResultCallAssert(Supplier<? extends Result<S, F>> actual) {
+        super(actual, ResultCallAssert.class);
+    }
+
+    /**
+     * Create allocation-budget assertion for {@link Supplier suppliers} of {@link Result} objects.
+     * <p>
+     * This static method is provided for convenience, in case {@link ResultAssertions#assertThatResultCall(Supplier)}
+     * can't be statically imported.
+     *
+     * @param <S> type of the success value contained in the {@link Result}.
+     * @param <F> type of the failure value contained in the {@link Result}.
+     * @param actual the supplier to measure.
+     * @return the created assertion object.
+     */
+    public static <S, F> ResultCallAssert<S, F> assertThatResultCall(Supplier<? extends Result<S, F>> actual) {
+        return new ResultCallAssert<>(actual);
+    }
+
+    /**
+     * Sets the number of calls to make before measuring.
+     *
+     * @param calls the number of warm-up calls.
+     * @return this assertion object.
+     */
+    public ResultCallAssert<S, F> warmUp(int calls) {
+        if (calls < 0) {
+            throw new IllegalArgumentException("The number of warm-up calls should not be negative.");
+        }
+        this.warmUp = calls;
+        return myself;
+    }
+
+    /**
+     * Sets the number of calls to measure.
+     *
+     * @param calls the number of measured calls.
+     * @return this assertion object.
+     */
+    public ResultCallAssert<S, F> iterations(int calls) {
+        if (calls <= 0) {
+            throw new IllegalArgumentException("The number of measured calls should be positive.");
+        }
+        this.iterations = calls;
+        return myself;
+    }
+
+    /**
+     * Verifies that each call to the actual supplier allocates at most the given number of bytes, on average.
+     *
+     * @param bytes the maximum number of bytes per call.
+     * @return this assertion object.
+     */
+    public ResultCallAssert<S, F> allocatesAtMostBytesPerCall(long bytes) {
+        this.assertAllocatesAtMost(bytes);
+        return myself;
+    }
+
+    /**
+     * Verifies that every call to the actual supplier returns a successful {@link Result} and allocates at most the
+     * given number of bytes, on average, and returns a new assertion object to chain assertions on the last supplied
+     * {@link Result}.
+     *
+     * @param bytes the maximum number of bytes per call.
+     * @return a new {@link ResultAssert} for assertions chaining on the last supplied {@link Result}.
+     */
+    public ResultAssert<S, F> hasSuccessAllocatingAtMost(long bytes) {
+        this.assertAllocatesAtMost(bytes);
+        if (!this.allSucceeded) {
+            throw this.resultAssertionError(
+                    this.unexpected == null ? shouldNotBeNull() : shouldBeSuccess(this.unexpected));
+        }
+        return withAssertionState(new ResultAssert<>(this.last), myself);
+    }
+
+    private void assertAllocatesAtMost(long bytes) {
+        if (bytes < 0) {
+            throw new IllegalArgumentException("The allocation budget should not be negative.");
+        }
+        isNotNull();
+        final com.sun.management.ThreadMXBean threads = Allocations.THREADS;
+        assumeThat(threads != null && threads.isThreadAllocatedMemoryEnabled())
+                .as("Thread allocated memory measurement is supported and enabled")
+                .isTrue();
+        final long allocated = this.measure(threads);
+        // Compare totals rather than averages so that fractions of a byte per call are not rounded away
+        final boolean unbounded = bytes > Long.MAX_VALUE / this.iterations;
+        if (!unbounded && allocated > bytes * this.iterations) {
+            throw this.resultAssertionError(shouldAllocateAtMost(bytes, this.iterations, allocated));
+        }
+    }
+
+    private long measure(com.sun.management.ThreadMXBean threads) {
+        this.unexpected = null;
+        this.allSucceeded = true;
+        for (int i = 0; i < this.warmUp; i++) {
+            this.call();
+        }
+        // Thread.threadId() requires Java 19; getId() is deprecated since then but is still the same platform id
+        @SuppressWarnings("deprecation")
+        final long threadId = Thread.currentThread().getId();
+        // The bytes allocated by the measurement itself
+        final long start = threads.getThreadAllocatedBytes(threadId);
+        final long overhead = threads.getThreadAllocatedBytes(threadId) - start;
+        final long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < this.iterations; i++) {
+            this.call();
+        }
+        final long after = threads.getThreadAllocatedBytes(threadId);
+        return Math.max(0, after - before - overhead);
+    }
+
+    private void call() {
+        final Result<S, F> result = this.actual.get();
+        this.last = result;
+        if (this.allSucceeded && (result == null || !result.hasSuccess())) {
+            this.allSucceeded = false;
+            this.unexpected = result;
+        }
+    }
+
+    private AssertionError resultAssertionError(ErrorMessageFactory factory) {
+        return ResultAssertionError.failure(this.getWritableAssertionInfo(), factory);
+    }
+
+    /** Lazily initialized access to the thread allocation counters. */
+    private static final class Allocations {
+
+        static final com.sun.management.ThreadMXBean THREADS = threads();
+
+        private Allocations() {
+            /* do nothing */
+        }
+
+        private static com.sun.management.ThreadMXBean threads() {
+            try {
+                final java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+                if (threads instanceof com.sun.management.ThreadMXBean) {
+                    final com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+                    return allocations.isThreadAllocatedMemorySupported() ? allocations : null;
+                }
+            } catch (LinkageError e) {
+                // The JVM does not provide com.sun.management
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Build error message when calls to a supplier of {@link com.leakyabstractions.result.api.Result Result} objects
+ * should allocate at most a number of bytes.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+class ResultCallShouldAllocate extends ResultErrorMessageFactory {
+
+    private static final String EXPECTING_AT_MOST = "%nExpecting each call to the supplier to allocate at most:%n  <%s bytes>%nbut on average over %s calls it allocated:%n  <%s bytes>";
+
+    // Averages are rounded up, so that they never look like they fit in the budget
+    private static final int AVERAGE_SCALE = 3;
+
+    private ResultCallShouldAllocate(long budget, long calls, long allocated) {
+        super(
+                EXPECTING_AT_MOST,
+                unquotedString(Long.toString(budget)),
+                unquotedString(Long.toString(calls)),
+                unquotedString(average(allocated, calls)));
+    }
+
+    private static String average(long allocated, long calls) {
+        return BigDecimal.valueOf(allocated)
+                .divide(BigDecimal.valueOf(calls), AVERAGE_SCALE, RoundingMode.UP)
+                .stripTrailingZeros()
+                .toPlainString();
+    }
+
+    /**
+     * Indicates that calls to a supplier should allocate at most a number of bytes.
+     *
+     * @return a error message factory.
+     * @param budget the maximum number of bytes per call
+     * @param calls the number of measured calls
+     * @param allocated the total number of bytes allocated by all measured calls
+     */
+    static ResultCallShouldAllocate shouldAllocateAtMost(long budget, long calls, long allocated) {
+        return new ResultCallShouldAllocate(budget, calls, allocated);
+    }
+}
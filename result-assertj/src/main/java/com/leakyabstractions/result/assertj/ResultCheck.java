@@ -0,0 +1,273 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultShouldBe.shouldBeFailure;
+import static com.leakyabstractions.result.assertj.ResultShouldBe.shouldBeSuccess;
+import static com.leakyabstractions.result.assertj.ResultShouldHave.shouldHave;
+import static com.leakyabstractions.result.assertj.ResultShouldHave.shouldHaveIn;
+import static com.leakyabstractions.result.assertj.ResultShouldHave.shouldHaveInstanceOf;
+import static com.leakyabstractions.result.assertj.ResultShouldHave.shouldHaveNotIn;
+import static com.leakyabstractions.result.assertj.ResultShouldHave.shouldHaveSame;
+import static com.leakyabstractions.result.assertj.ResultValues.failureOf;
+import static com.leakyabstractions.result.assertj.ResultValues.successOf;
+import static org.assertj.core.error.ShouldBe.shouldBe;
+import static org.assertj.core.error.ShouldNotBeNull.shouldNotBeNull;
+
+import java.util.Collection;
+
+import org.assertj.core.api.Condition;
+import org.assertj.core.internal.ComparisonStrategy;
+import org.assertj.core.internal.Conditions;
+import org.assertj.core.internal.StandardComparisonStrategy;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Expectations on {@link Result} objects shared by {@link AbstractResultAssert}, {@link ResultChecks} and
+ * {@link ResultAssertionPlan}.
+ * <p>
+ * Every check first expects the actual result not to be {@code null}, then to be a success or a failure, and only then
+ * validates its argument and matches the success or failure value against it.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+enum ResultCheck {
+
+    HAS_SUCCESS("hasSuccess", true, Match.ANY),
+    HAS_SUCCESS_EQUAL_TO("hasSuccess", true, Match.EQUAL),
+    HAS_SUCCESS_SAME_AS("hasSuccessSameAs", true, Match.SAME),
+    HAS_SUCCESS_INSTANCE_OF("hasSuccessInstanceOf", true, Match.INSTANCE_OF),
+    HAS_SUCCESS_SATISFYING("hasSuccessSatisfying", true, Match.SATISFYING),
+    HAS_SUCCESS_IN("hasSuccessIn", true, Match.IN),
+    HAS_SUCCESS_NOT_IN("hasSuccessNotIn", true, Match.NOT_IN),
+    HAS_FAILURE("hasFailure", false, Match.ANY),
+    HAS_FAILURE_EQUAL_TO("hasFailure", false, Match.EQUAL),
+    HAS_FAILURE_SAME_AS("hasFailureSameAs", false, Match.SAME),
+    HAS_FAILURE_INSTANCE_OF("hasFailureInstanceOf", false, Match.INSTANCE_OF),
+    HAS_FAILURE_SATISFYING("hasFailureSatisfying", false, Match.SATISFYING),
+    HAS_FAILURE_IN("hasFailureIn", false, Match.IN),
+    HAS_FAILURE_NOT_IN("hasFailureNotIn", false, Match.NOT_IN);
+
+    static final ResultVerdict NOT_NULL = ResultVerdict.failed("shouldNotBeNull", shouldNotBeNull());
+
+    /** The name of the corresponding assertion method. */
+    final String method;
+    private final boolean success;
+    private final Match match;
+
+    ResultCheck(String method, boolean success, Match match) {
+        this.method = method;
+        this.success = success;
+        this.match = match;
+    }
+
+    /**
+     * Validates the argument of this check.
+     *
+     * @param argument the expected value, class, condition or values.
+     * @return the given argument.
+     * @throws IllegalArgumentException if this check takes an argument and it is {@code null}.
+     * @throws NullPointerException if this check takes a condition and it is {@code null}.
+     */
+    Object checkArgument(Object argument) {
+        this.match.checkArgument(argument);
+        return argument;
+    }
+
+    /**
+     * Tests whether the given {@link Result} meets this check, without creating any object.
+     *
+     * @param actual the result to inspect; must not be {@code null}.
+     * @param argument the validated argument.
+     * @return {@code true} if the result meets this check.
+     */
+    boolean holds(Result<?, ?> actual, Object argument) {
+        if (this.success ? !actual.hasSuccess() : !actual.hasFailure()) {
+            return false;
+        }
+        return this.match.matches(this.valueOf(actual), argument, StandardComparisonStrategy.instance());
+    }
+
+    /**
+     * Checks the given {@link Result}, comparing values with {@link Object#equals(Object)}.
+     *
+     * @param actual the result to inspect.
+     * @param argument the argument.
+     * @return the verdict.
+     */
+    ResultVerdict verdict(Result<?, ?> actual, Object argument) {
+        return this.verdict(actual, argument, StandardComparisonStrategy.instance());
+    }
+
+    /**
+     * Checks the given {@link Result}.
+     *
+     * @param actual the result to inspect.
+     * @param argument the argument.
+     * @param comparisonStrategy the strategy to compare values.
+     * @return the verdict.
+     */
+    ResultVerdict verdict(Result<?, ?> actual, Object argument, ComparisonStrategy comparisonStrategy) {
+        if (actual == null) {
+            return NOT_NULL;
+        }
+        if (this.success && !actual.hasSuccess()) {
+            return ResultVerdict.failed("shouldBeSuccess", shouldBeSuccess(actual));
+        }
+        if (!this.success && !actual.hasFailure()) {
+            return ResultVerdict.failed("shouldBeFailure", shouldBeFailure(actual));
+        }
+        this.match.checkArgument(argument);
+        final Object value = this.valueOf(actual);
+        if (this.match.matches(value, argument, comparisonStrategy)) {
+            return ResultVerdict.PASSED;
+        }
+        return this.match.mismatch(actual, value, argument, comparisonStrategy);
+    }
+
+    private Object valueOf(Result<?, ?> actual) {
+        return this.success ? successOf(actual) : failureOf(actual);
+    }
+
+    /** How the success or failure value is matched against the argument. */
+    private enum Match {
+
+        ANY(null) {
+            @Override
+            boolean matches(Object value, Object argument, ComparisonStrategy comparisonStrategy) {
+                return true;
+            }
+
+            @Override
+            ResultVerdict mismatch(Result<?, ?> actual, Object value, Object argument, ComparisonStrategy strategy) {
+                return ResultVerdict.PASSED;
+            }
+        },
+
+        EQUAL("expected value") {
+            @Override
+            boolean matches(Object value, Object argument, ComparisonStrategy comparisonStrategy) {
+                return comparisonStrategy.areEqual(value, argument);
+            }
+
+            @Override
+            ResultVerdict mismatch(Result<?, ?> actual, Object value, Object argument, ComparisonStrategy strategy) {
+                return ResultVerdict.failed("shouldHave", shouldHave(actual, argument, value, strategy));
+            }
+        },
+
+        SAME("expected value") {
+            @Override
+            boolean matches(Object value, Object argument, ComparisonStrategy comparisonStrategy) {
+                return value == argument;
+            }
+
+            @Override
+            ResultVerdict mismatch(Result<?, ?> actual, Object value, Object argument, ComparisonStrategy strategy) {
+                return ResultVerdict.failed("shouldHaveSame", shouldHaveSame(actual, argument));
+            }
+        },
+
+        INSTANCE_OF("expected value") {
+            @Override
+            boolean matches(Object value, Object argument, ComparisonStrategy comparisonStrategy) {
+                return ((Class<?>) argument).isInstance(value);
+            }
+
+            @Override
+            ResultVerdict mismatch(Result<?, ?> actual, Object value, Object argument, ComparisonStrategy strategy) {
+                return ResultVerdict.failed(
+                        "shouldHaveInstanceOf", shouldHaveInstanceOf(actual, (Class<?>) argument, value));
+            }
+        },
+
+        SATISFYING("condition") {
+            @Override
+            void checkArgument(Object argument) {
+                Conditions.instance().assertIsNotNull((Condition<?>) argument);
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            boolean matches(Object value, Object argument, ComparisonStrategy comparisonStrategy) {
+                return ((Condition<Object>) argument).matches(value);
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            ResultVerdict mismatch(Result<?, ?> actual, Object value, Object argument, ComparisonStrategy strategy) {
+                return ResultVerdict.failed("shouldBe", shouldBe(value, (Condition<Object>) argument));
+            }
+        },
+
+        IN("expected values") {
+            @Override
+            boolean matches(Object value, Object argument, ComparisonStrategy comparisonStrategy) {
+                return isIn(value, (Collection<?>) argument, comparisonStrategy);
+            }
+
+            @Override
+            ResultVerdict mismatch(Result<?, ?> actual, Object value, Object argument, ComparisonStrategy strategy) {
+                return ResultVerdict.failed(
+                        "shouldHaveIn", shouldHaveIn(actual, ((Collection<?>) argument).size(), value));
+            }
+        },
+
+        NOT_IN("expected values") {
+            @Override
+            boolean matches(Object value, Object argument, ComparisonStrategy comparisonStrategy) {
+                return !isIn(value, (Collection<?>) argument, comparisonStrategy);
+            }
+
+            @Override
+            ResultVerdict mismatch(Result<?, ?> actual, Object value, Object argument, ComparisonStrategy strategy) {
+                return ResultVerdict.failed(
+                        "shouldHaveNotIn", shouldHaveNotIn(actual, ((Collection<?>) argument).size(), value));
+            }
+        };
+
+        private final String argumentName;
+
+        Match(String argumentName) {
+            this.argumentName = argumentName;
+        }
+
+        void checkArgument(Object argument) {
+            if (this.argumentName != null && argument == null) {
+                throw new IllegalArgumentException("The " + this.argumentName + " should not be <null>.");
+            }
+        }
+
+        abstract boolean matches(Object value, Object argument, ComparisonStrategy comparisonStrategy);
+
+        abstract ResultVerdict mismatch(
+                Result<?, ?> actual, Object value, Object argument, ComparisonStrategy strategy);
+
+        private static boolean isIn(Object value, Collection<?> values, ComparisonStrategy comparisonStrategy) {
+            if (comparisonStrategy instanceof StandardComparisonStrategy) {
+                return values.contains(value);
+            }
+            for (final Object element : values) {
+                if (comparisonStrategy.areEqual(value, element)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
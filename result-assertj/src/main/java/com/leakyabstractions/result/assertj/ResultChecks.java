@@ -0,0 +1,239 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_FAILURE;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_FAILURE_EQUAL_TO;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_FAILURE_INSTANCE_OF;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_FAILURE_IN;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_FAILURE_NOT_IN;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_FAILURE_SAME_AS;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_FAILURE_SATISFYING;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_SUCCESS;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_SUCCESS_EQUAL_TO;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_SUCCESS_INSTANCE_OF;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_SUCCESS_IN;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_SUCCESS_NOT_IN;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_SUCCESS_SAME_AS;
+import static com.leakyabstractions.result.assertj.ResultCheck.HAS_SUCCESS_SATISFYING;
+
+import java.util.Collection;
+
+import org.assertj.core.api.Condition;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Exception-free checks for {@link Result}.
+ * <p>
+ * Each check returns a {@link ResultVerdict} instead of throwing an {@link AssertionError}, so expectations can be
+ * evaluated over large numbers of results just to count or classify mismatches, without paying for stack traces. Checks
+ * that pass return a shared verdict, and the messages of failed verdicts are worded just like the corresponding
+ * {@link Result} assertions.
+ * <p>
+ * Checks are evaluated in the same order as the assertions: the actual result is expected not to be {@code null} and
+ * to be a success or a failure before the arguments of the check are validated.
+ * <p>
+ * Usage:
+ *
+ * <pre class="row-color rowColor">
+ * <code>&nbsp;
+ * ResultVerdict verdict = ResultChecks.of(Results.success("yay")).hasSuccess("nay");
+ * if (verdict.failed()) {
+ *     log.warn(verdict.message());
+ * }
+ * </code>
+ * </pre>
+ *
+ * @param <S> type of the success value contained in the {@link Result}.
+ * @param <F> type of the failure value contained in the {@link Result}.
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+public final class ResultChecks<S, F> {
+
+    private final Result<S, F> actual;
+
+    private ResultChecks(Result<S, F> actual) {
+        this.actual = actual;
+    }
+
+    /**
+     * Creates checks for the given {@link Result}.
+     *
+     * @param <S> type of the success value contained in the {@link Result}.
+     * @param <F> type of the failure value contained in the {@link Result}.
+     * @param actual the actual value.
+     * @return the created checks.
+     */
+    public static <S, F> ResultChecks<S, F> of(Result<S, F> actual) {
+        return new ResultChecks<>(actual);
+    }
+
+    /**
+     * Checks that the actual {@link Result} is a successful result.
+     *
+     * @return the verdict.
+     * @see AbstractResultAssert#hasSuccess()
+     */
+    public ResultVerdict hasSuccess() {
+        return HAS_SUCCESS.verdict(this.actual, null);
+    }
+
+    /**
+     * Checks that the actual {@link Result} is a successful result containing the given value.
+     *
+     * @param expectedValue the expected success value.
+     * @return the verdict.
+     * @see AbstractResultAssert#hasSuccess(Object)
+     */
+    public ResultVerdict hasSuccess(S expectedValue) {
+        return HAS_SUCCESS_EQUAL_TO.verdict(this.actual, expectedValue);
+    }
+
+    /**
+     * Checks that the actual {@link Result} is a successful result containing the given instance.
+     *
+     * @param expectedValue the expected success instance.
+     * @return the verdict.
+     * @see AbstractResultAssert#hasSuccessSameAs(Object)
+     */
+    public ResultVerdict hasSuccessSameAs(S expectedValue) {
+        return HAS_SUCCESS_SAME_AS.verdict(this.actual, expectedValue);
+    }
+
+    /**
+     * Checks that the actual {@link Result} is a successful result containing a value that is an instance of the given
+     * class.
+     *
+     * @param clazz the expected class of the success value.
+     * @return the verdict.
+     * @see AbstractResultAssert#hasSuccessInstanceOf(Class)
+     */
+    public ResultVerdict hasSuccessInstanceOf(Class<?> clazz) {
+        return HAS_SUCCESS_INSTANCE_OF.verdict(this.actual, clazz);
+    }
+
+    /**
+     * Checks that the actual {@link Result} is a successful result whose success value satisfies the given condition.
+     *
+     * @param condition the condition.
+     * @return the verdict.
+     * @see AbstractResultAssert#hasSuccessSatisfying(Condition)
+     */
+    public ResultVerdict hasSuccessSatisfying(Condition<? super S> condition) {
+        return HAS_SUCCESS_SATISFYING.verdict(this.actual, condition);
+    }
+
+    /**
+     * Checks that the actual {@link Result} is a successful result containing one of the given values.
+     *
+     * @param values the allowed success values.
+     * @return the verdict.
+     * @see AbstractResultAssert#hasSuccessIn(Collection)
+     */
+    public ResultVerdict hasSuccessIn(Collection<? extends S> values) {
+        return HAS_SUCCESS_IN.verdict(this.actual, values);
+    }
+
+    /**
+     * Checks that the actual {@link Result} is a successful result containing none of the given values.
+     *
+     * @param values the forbidden success values.
+     * @return the verdict.
+     * @see AbstractResultAssert#hasSuccessNotIn(Collection)
+     */
+    public ResultVerdict hasSuccessNotIn(Collection<? extends S> values) {
+        return HAS_SUCCESS_NOT_IN.verdict(this.actual, values);
+    }
+
+    /**
+     * Checks that the actual {@link Result} is a failed result.
+     *
+     * @return the verdict.
+     * @see AbstractResultAssert#hasFailure()
+     */
+    public ResultVerdict hasFailure() {
+        return HAS_FAILURE.verdict(this.actual, null);
+    }
+
+    /**
+     * Checks that the actual {@link Result} is a failed result containing the given value.
+     *
+     * @param expectedValue the expected failure value.
+     * @return the verdict.
+     * @see AbstractResultAssert#hasFailure(Object)
+     */
+    public ResultVerdict hasFailure(F expectedValue) {
+        return HAS_FAILURE_EQUAL_TO.verdict(this.actual, expectedValue);
+    }
+
+    /**
+     * Checks that the actual {@link Result} is a failed result containing the given instance.
+     *
+     * @param expectedValue the expected failure instance.
+     * @return the verdict.
+     * @see AbstractResultAssert#hasFailureSameAs(Object)
+     */
+    public ResultVerdict hasFailureSameAs(F expectedValue) {
+        return HAS_FAILURE_SAME_AS.verdict(this.actual, expectedValue);
+    }
+
+    /**
+     * Checks that the actual {@link Result} is a failed result containing a value that is an instance of the given
+     * class.
+     *
+     * @param clazz the expected class of the failure value.
+     * @return the verdict.
+     * @see AbstractResultAssert#hasFailureInstanceOf(Class)
+     */
+    public ResultVerdict hasFailureInstanceOf(Class<?> clazz) {
+        return HAS_FAILURE_INSTANCE_OF.verdict(this.actual, clazz);
+    }
+
+    /**
+     * Checks that the actual {@link Result} is a failed result whose failure value satisfies the given condition.
+     *
+     * @param condition the condition.
+     * @return the verdict.
+     * @see AbstractResultAssert#hasFailureSatisfying(Condition)
+     */
+    public ResultVerdict hasFailureSatisfying(Condition<? super F> condition) {
+        return HAS_FAILURE_SATISFYING.verdict(this.actual, condition);
+    }
+
+    /**
+     * Checks that the actual {@link Result} is a failed result containing one of the given values.
+     *
+     * @param values the allowed failure values.
+     * @return the verdict.
+     * @see AbstractResultAssert#hasFailureIn(Collection)
+     */
+    public ResultVerdict hasFailureIn(Collection<? extends F> values) {
+        return HAS_FAILURE_IN.verdict(this.actual, values);
+    }
+
+    /**
+     * Checks that the actual {@link Result} is a failed result containing none of the given values.
+     *
+     * @param values the forbidden failure values.
+     * @return the verdict.
+     * @see AbstractResultAssert#hasFailureNotIn(Collection)
+     */
+    public ResultVerdict hasFailureNotIn(Collection<? extends F> values) {
+        return HAS_FAILURE_NOT_IN.verdict(this.actual, values);
+    }
+}
@@ -0,0 +1,658 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.presentation.Representation;
+
+/**
+ * Bounded structural diff of two values that are expected to be equal.
+ * <p>
+ * Strings, lists and arrays are compared with the linear-space variant of Myers' O(ND) difference algorithm, after
+ * trimming their common prefix and suffix; lists without random access are trimmed by iterating over them, and only
+ * the elements in between are copied. Maps and records are walked to find the differing keys and components,
+ * which are identified by their paths. The number of reported differences, the edit distance, the number of steps and
+ * the elapsed time are capped; when a sequence exceeds the cap, only the offset of its first mismatch is reported.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+final class ResultDiff {
+
+    static final int MAX_DIFFERENCES = 10;
+    // Caps the working memory of the sequence diff to a few kilobytes, no matter how long the sequences are
+    static final int MAX_EDIT_DISTANCE = 1024;
+    static final long MAX_STEPS = 50_000_000L;
+    static final long MAX_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    // Short strings are easy to compare by eye
+    private static final int MIN_STRING_LENGTH = 32;
+    private static final int MAX_FRAGMENT_LENGTH = 40;
+    private static final int MAX_DEPTH = 16;
+    private static final String ELLIPSIS = "...";
+
+    private final Representation representation;
+    private final long deadline;
+    private final List<String> differences = new ArrayList<>();
+    private long steps;
+    private boolean exhausted;
+    private boolean omitted;
+
+    private ResultDiff(Representation representation) {
+        this.representation = representation;
+        this.deadline = System.nanoTime() + MAX_NANOS;
+    }
+
+    /**
+     * Returns a section that describes the differences between two values, to be appended to an error message.
+     *
+     * @param expected the expected value.
+     * @param actual the actual value.
+     * @param representation the representation of the values.
+     * @return the diff section; or an empty string if the values cannot be diffed.
+     */
+    static String diff(Object expected, Object actual, Representation representation) {
+        if (!isDiffable(expected, actual)) {
+            return "";
+        }
+        final ResultDiff diff = new ResultDiff(representation);
+        diff.compare("", expected, actual, 0);
+        if (diff.differences.isEmpty()) {
+            return "";
+        }
+        final StringBuilder section = new StringBuilder(String.format("%nDifferences:"));
+        for (final String difference : diff.differences) {
+            section.append(String.format("%n  ")).append(difference);
+        }
+        if (diff.omitted) {
+            section.append(String.format("%n  ")).append(ELLIPSIS);
+        }
+        return section.toString();
+    }
+
+    private static boolean isDiffable(Object expected, Object actual) {
+        return (expected instanceof Map && actual instanceof Map)
+                || (isSequence(expected) && isSequence(actual))
+                || isLongText(expected, actual)
+                || (Records.isRecord(expected) && actual != null && expected.getClass() == actual.getClass());
+    }
+
+    private static boolean isLongText(Object expected, Object actual) {
+        return expected instanceof CharSequence
+                && actual instanceof CharSequence
+                && Math.max(((CharSequence) expected).length(), ((CharSequence) actual).length()) >= MIN_STRING_LENGTH;
+    }
+
+    private static boolean isSequence(Object value) {
+        return value instanceof List || (value != null && value.getClass().isArray());
+    }
+
+    private void compare(String path, Object expected, Object actual, int depth) {
+        if (this.isFull()) {
+            this.omitted = true;
+            return;
+        }
+        if (depth < MAX_DEPTH && !this.exhausted) {
+            if (expected instanceof Map && actual instanceof Map) {
+                this.compareMaps(path, (Map<?, ?>) expected, (Map<?, ?>) actual, depth);
+                return;
+            }
+            if (isSequence(expected) && isSequence(actual)) {
+                this.compareLists(path, asList(expected), asList(actual), depth);
+                return;
+            }
+            if (isLongText(expected, actual)) {
+                this.compareSequences(path, new CharPair((CharSequence) expected, (CharSequence) actual), depth);
+                return;
+            }
+            if (Records.isRecord(expected) && actual != null && expected.getClass() == actual.getClass()
+                    && this.compareRecords(path, expected, actual, depth)) {
+                return;
+            }
+        }
+        this.add(location(path, "value"), "expected " + this.show(expected) + " but was " + this.show(actual));
+    }
+
+    private void compareMaps(String path, Map<?, ?> expected, Map<?, ?> actual, int depth) {
+        for (final Map.Entry<?, ?> entry : expected.entrySet()) {
+            if (this.omitted || !this.step()) {
+                return;
+            }
+            final Object key = entry.getKey();
+            if (!actual.containsKey(key)) {
+                this.add(this.keyPath(path, key), "missing, expected " + this.show(entry.getValue()));
+            } else {
+                final Object value = actual.get(key);
+                if (!Objects.equals(entry.getValue(), value)) {
+                    this.compare(this.keyPath(path, key), entry.getValue(), value, depth + 1);
+                }
+            }
+        }
+        for (final Map.Entry<?, ?> entry : actual.entrySet()) {
+            if (this.omitted || !this.step()) {
+                return;
+            }
+            if (!expected.containsKey(entry.getKey())) {
+                this.add(this.keyPath(path, entry.getKey()), "unexpected " + this.show(entry.getValue()));
+            }
+        }
+    }
+
+    // Paths are only built for differing keys, since most entries of large maps are usually equal
+    private String keyPath(String path, Object key) {
+        return path + "[" + this.representation.toStringOf(key) + "]";
+    }
+
+    private boolean compareRecords(String path, Object expected, Object actual, int depth) {
+        final Object[] components = Records.components(expected.getClass());
+        if (components == null) {
+            return false;
+        }
+        final Object[] expectedValues = new Object[components.length];
+        final Object[] actualValues = new Object[components.length];
+        for (int i = 0; i < components.length; i++) {
+            try {
+                expectedValues[i] = Records.value(components[i], expected);
+                actualValues[i] = Records.value(components[i], actual);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                return false;
+            }
+        }
+        for (int i = 0; i < components.length && !this.omitted; i++) {
+            if (!Objects.equals(expectedValues[i], actualValues[i])) {
+                this.compare(path + "." + Records.name(components[i]), expectedValues[i], actualValues[i], depth + 1);
+            }
+        }
+        return true;
+    }
+
+    private void compareLists(String path, List<?> expected, List<?> actual, int depth) {
+        if (expected instanceof RandomAccess && actual instanceof RandomAccess) {
+            this.compareSequences(path, new ElementPair(expected, actual, 0), depth);
+            return;
+        }
+        // Trims the common prefix and suffix by iterating, so that only the elements in between are copied
+        final int expectedSize = expected.size();
+        final int actualSize = actual.size();
+        int prefix = 0;
+        final ListIterator<?> expectedForward = expected.listIterator();
+        final ListIterator<?> actualForward = actual.listIterator();
+        while (expectedForward.hasNext() && actualForward.hasNext()
+                && Objects.equals(expectedForward.next(), actualForward.next())) {
+            prefix++;
+        }
+        final int common = Math.min(expectedSize, actualSize) - prefix;
+        int suffix = 0;
+        final ListIterator<?> expectedBackward = expected.listIterator(expectedSize);
+        final ListIterator<?> actualBackward = actual.listIterator(actualSize);
+        while (suffix < common && Objects.equals(expectedBackward.previous(), actualBackward.previous())) {
+            suffix++;
+        }
+        // The edit distance is at least the difference in length, so longer differences would exceed the limits
+        if (Math.abs(expectedSize - actualSize) > 2 * MAX_EDIT_DISTANCE) {
+            this.exhausted = true;
+            this.add(location(path, "value"), "first mismatch at offset " + prefix + " (diff limits exceeded)");
+            return;
+        }
+        this.compareSequences(path, new ElementPair(
+                new ArrayList<>(expected.subList(prefix, expectedSize - suffix)),
+                new ArrayList<>(actual.subList(prefix, actualSize - suffix)),
+                prefix), depth);
+    }
+
+    private void compareSequences(String path, Pair pair, int depth) {
+        final List<int[]> changes = new ArrayList<>();
+        try {
+            this.diff(pair, 0, pair.expectedSize(), 0, pair.actualSize(), changes);
+        } catch (BudgetExceeded e) {
+            this.exhausted = true;
+            final int offset = pair.offset() + pair.firstMismatch();
+            this.add(location(path, "value"), "first mismatch at offset " + offset + " (diff limits exceeded)");
+            return;
+        }
+        for (final int[] change : changes) {
+            if (this.isFull()) {
+                this.omitted = true;
+                return;
+            }
+            this.addChange(path, pair, change, depth);
+        }
+    }
+
+    private void addChange(String path, Pair pair, int[] change, int depth) {
+        final int expectedFrom = change[0];
+        final int expectedTo = change[1];
+        final int actualFrom = change[2];
+        final int actualTo = change[3];
+        if (pair.isText()) {
+            final String detail;
+            if (expectedFrom == expectedTo) {
+                detail = "unexpected " + this.show(pair.fragment(false, actualFrom, actualTo));
+            } else if (actualFrom == actualTo) {
+                detail = "missing " + this.show(pair.fragment(true, expectedFrom, expectedTo));
+            } else {
+                detail = "expected " + this.show(pair.fragment(true, expectedFrom, expectedTo))
+                        + " but was " + this.show(pair.fragment(false, actualFrom, actualTo));
+            }
+            this.add(location(path, "offset " + expectedFrom), detail);
+            return;
+        }
+        final ElementPair elements = (ElementPair) pair;
+        final String elementPath = path + "[" + (elements.offset + expectedFrom) + "]";
+        if (expectedTo - expectedFrom == 1 && actualTo - actualFrom == 1) {
+            this.compare(elementPath, elements.expected.get(expectedFrom), elements.actual.get(actualFrom), depth + 1);
+        } else if (expectedFrom == expectedTo) {
+            this.add(elementPath, "unexpected " + this.show(elements.actual.subList(actualFrom, actualTo)));
+        } else if (actualFrom == actualTo) {
+            this.add(elementPath, "missing " + this.show(elements.expected.subList(expectedFrom, expectedTo)));
+        } else {
+            this.add(elementPath, "expected " + this.show(elements.expected.subList(expectedFrom, expectedTo))
+                    + " but was " + this.show(elements.actual.subList(actualFrom, actualTo)));
+        }
+    }
+
+    /*
+     * Finds the changes between expected[aFrom, aTo) and actual[bFrom, bTo), in order.
+     *
+     * Each change is an array {expectedFrom, expectedTo, actualFrom, actualTo}.
+     */
+    private void diff(Pair pair, int aFrom, int aTo, int bFrom, int bTo, List<int[]> changes) {
+        while (aFrom < aTo && bFrom < bTo && pair.equal(aFrom, bFrom)) {
+            aFrom++;
+            bFrom++;
+            this.spend();
+        }
+        while (aFrom < aTo && bFrom < bTo && pair.equal(aTo - 1, bTo - 1)) {
+            aTo--;
+            bTo--;
+            this.spend();
+        }
+        if (aFrom == aTo || bFrom == bTo) {
+            if (aFrom < aTo || bFrom < bTo) {
+                addChange(changes, aFrom, aTo, bFrom, bTo);
+            }
+            return;
+        }
+        final int[] split = this.middleSnake(pair, aFrom, aTo, bFrom, bTo);
+        if (split == null) {
+            addChange(changes, aFrom, aTo, bFrom, bTo);
+            return;
+        }
+        this.diff(pair, aFrom, split[0], bFrom, split[1], changes);
+        this.diff(pair, split[0], aTo, split[1], bTo, changes);
+    }
+
+    /*
+     * Finds a point of the shortest edit path by searching forwards and backwards at the same time, keeping only the
+     * furthest reaching path of each diagonal. Returns null if the sequences have nothing in common.
+     */
+    private int[] middleSnake(Pair pair, int aFrom, int aTo, int bFrom, int bTo) {
+        final int n = aTo - aFrom;
+        final int m = bTo - bFrom;
+        final int half = (n + m + 1) / 2;
+        final int maxD = Math.min(half, MAX_EDIT_DISTANCE);
+        final int offset = maxD;
+        final int[] forward = new int[2 * maxD + 2];
+        final int[] backward = new int[2 * maxD + 2];
+        Arrays.fill(forward, -1);
+        Arrays.fill(backward, -1);
+        forward[offset + 1] = 0;
+        backward[offset + 1] = 0;
+        final int delta = n - m;
+        final boolean front = (delta % 2) != 0;
+        int k1start = 0;
+        int k1end = 0;
+        int k2start = 0;
+        int k2end = 0;
+        for (int d = 0; d < maxD; d++) {
+            this.checkDeadline();
+            for (int k1 = -d + k1start; k1 <= d - k1end; k1 += 2) {
+                final int k1Offset = offset + k1;
+                int x1 = k1 == -d || (k1 != d && forward[k1Offset - 1] < forward[k1Offset + 1])
+                        ? forward[k1Offset + 1]
+                        : forward[k1Offset - 1] + 1;
+                int y1 = x1 - k1;
+                while (x1 < n && y1 < m && pair.equal(aFrom + x1, bFrom + y1)) {
+                    x1++;
+                    y1++;
+                    this.spend();
+                }
+                this.spend();
+                forward[k1Offset] = x1;
+                if (x1 > n) {
+                    k1end += 2;
+                } else if (y1 > m) {
+                    k1start += 2;
+                } else if (front) {
+                    final int k2Offset = offset + delta - k1;
+                    if (k2Offset >= 0 && k2Offset < forward.length && backward[k2Offset] != -1
+                            && x1 >= n - backward[k2Offset]) {
+                        return new int[] {aFrom + x1, bFrom + y1};
+                    }
+                }
+            }
+            for (int k2 = -d + k2start; k2 <= d - k2end; k2 += 2) {
+                final int k2Offset = offset + k2;
+                int x2 = k2 == -d || (k2 != d && backward[k2Offset - 1] < backward[k2Offset + 1])
+                        ? backward[k2Offset + 1]
+                        : backward[k2Offset - 1] + 1;
+                int y2 = x2 - k2;
+                while (x2 < n && y2 < m && pair.equal(aTo - x2 - 1, bTo - y2 - 1)) {
+                    x2++;
+                    y2++;
+                    this.spend();
+                }
+                this.spend();
+                backward[k2Offset] = x2;
+                if (x2 > n) {
+                    k2end += 2;
+                } else if (y2 > m) {
+                    k2start += 2;
+                } else if (!front) {
+                    final int k1Offset = offset + delta - k2;
+                    if (k1Offset >= 0 && k1Offset < forward.length && forward[k1Offset] != -1) {
+                        final int x1 = forward[k1Offset];
+                        final int y1 = offset + x1 - k1Offset;
+                        if (x1 >= n - x2) {
+                            return new int[] {aFrom + x1, bFrom + y1};
+                        }
+                    }
+                }
+            }
+        }
+        if (maxD < half) {
+            throw BudgetExceeded.INSTANCE;
+        }
+        return null;
+    }
+
+    private static void addChange(List<int[]> changes, int aFrom, int aTo, int bFrom, int bTo) {
+        final int last = changes.size() - 1;
+        if (last >= 0 && changes.get(last)[1] == aFrom && changes.get(last)[3] == bFrom) {
+            changes.get(last)[1] = aTo;
+            changes.get(last)[3] = bTo;
+        } else {
+            changes.add(new int[] {aFrom, aTo, bFrom, bTo});
+        }
+    }
+
+    private void spend() {
+        if (++this.steps > MAX_STEPS) {
+            throw BudgetExceeded.INSTANCE;
+        }
+    }
+
+    private boolean step() {
+        return ++this.steps <= MAX_STEPS;
+    }
+
+    private void checkDeadline() {
+        if (System.nanoTime() - this.deadline > 0) {
+            throw BudgetExceeded.INSTANCE;
+        }
+    }
+
+    private boolean isFull() {
+        return this.differences.size() >= MAX_DIFFERENCES;
+    }
+
+    private void add(String location, String detail) {
+        if (this.isFull()) {
+            this.omitted = true;
+            return;
+        }
+        this.differences.add(location + ": " + detail);
+    }
+
+    private String show(Object value) {
+        return "<" + this.representation.toStringOf(value) + ">";
+    }
+
+    private static String location(String path, String fallback) {
+        if (path.isEmpty()) {
+            return fallback;
+        }
+        return "value".equals(fallback) ? path : path + " " + fallback;
+    }
+
+    private static List<?> asList(Object sequence) {
+        if (sequence instanceof List) {
+            return (List<?>) sequence;
+        }
+        if (sequence instanceof Object[]) {
+            return Arrays.asList((Object[]) sequence);
+        }
+        return new PrimitiveArrayList(sequence);
+    }
+
+    /** Read-only view of an array of primitives. */
+    private static final class PrimitiveArrayList extends AbstractList<Object> implements RandomAccess {
+
+        private final Object array;
+
+        PrimitiveArrayList(Object array) {
+            this.array = array;
+        }
+
+        @Override
+        public Object get(int index) {
+            return Array.get(this.array, index);
+        }
+
+        @Override
+        public int size() {
+            return Array.getLength(this.array);
+        }
+    }
+
+    /** Expected and actual sequences being compared. */
+    private abstract static class Pair {
+
+        abstract int expectedSize();
+
+        abstract int actualSize();
+
+        abstract boolean equal(int expectedIndex, int actualIndex);
+
+        abstract boolean isText();
+
+        abstract Object fragment(boolean expected, int from, int to);
+
+        int offset() {
+            return 0;
+        }
+
+        int firstMismatch() {
+            final int length = Math.min(this.expectedSize(), this.actualSize());
+            for (int i = 0; i < length; i++) {
+                if (!this.equal(i, i)) {
+                    return i;
+                }
+            }
+            return length;
+        }
+    }
+
+    private static final class CharPair extends Pair {
+
+        private final CharSequence expected;
+        private final CharSequence actual;
+
+        CharPair(CharSequence expected, CharSequence actual) {
+            this.expected = expected;
+            this.actual = actual;
+        }
+
+        @Override
+        int expectedSize() {
+            return this.expected.length();
+        }
+
+        @Override
+        int actualSize() {
+            return this.actual.length();
+        }
+
+        @Override
+        boolean equal(int expectedIndex, int actualIndex) {
+            return this.expected.charAt(expectedIndex) == this.actual.charAt(actualIndex);
+        }
+
+        @Override
+        boolean isText() {
+            return true;
+        }
+
+        @Override
+        Object fragment(boolean expected, int from, int to) {
+            final CharSequence text = expected ? this.expected : this.actual;
+            return to - from <= MAX_FRAGMENT_LENGTH
+                    ? text.subSequence(from, to).toString()
+                    : text.subSequence(from, from + MAX_FRAGMENT_LENGTH) + ELLIPSIS;
+        }
+    }
+
+    private static final class ElementPair extends Pair {
+
+        final List<?> expected;
+        final List<?> actual;
+        final int offset;
+
+        ElementPair(List<?> expected, List<?> actual, int offset) {
+            this.expected = expected;
+            this.actual = actual;
+            this.offset = offset;
+        }
+
+        @Override
+        int offset() {
+            return this.offset;
+        }
+
+        @Override
+        int expectedSize() {
+            return this.expected.size();
+        }
+
+        @Override
+        int actualSize() {
+            return this.actual.size();
+        }
+
+        @Override
+        boolean equal(int expectedIndex, int actualIndex) {
+            return Objects.equals(this.expected.get(expectedIndex), this.actual.get(actualIndex));
+        }
+
+        @Override
+        boolean isText() {
+            return false;
+        }
+
+        @Override
+        Object fragment(boolean expected, int from, int to) {
+            return (expected ? this.expected : this.actual).subList(from, to);
+        }
+    }
+
+    /** Signals that the diff exceeded its limits. */
+    private static final class BudgetExceeded extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+        static final BudgetExceeded INSTANCE = new BudgetExceeded();
+
+        private BudgetExceeded() {
+            super(null, null, false, false);
+        }
+    }
+
+    /** Reflective access to records, which are not available in all supported Java versions. */
+    private static final class Records {
+
+        private static final Method IS_RECORD;
+        private static final Method GET_RECORD_COMPONENTS;
+        private static final Method GET_NAME;
+        private static final Method GET_ACCESSOR;
+
+        static {
+            Method isRecord = null;
+            Method getRecordComponents = null;
+            Method getName = null;
+            Method getAccessor = null;
+            try {
+                isRecord = Class.class.getMethod("isRecord");
+                getRecordComponents = Class.class.getMethod("getRecordComponents");
+                final Class<?> component = Class.forName("java.lang.reflect.RecordComponent");
+                getName = component.getMethod("getName");
+                getAccessor = component.getMethod("getAccessor");
+            } catch (ReflectiveOperationException e) {
+                isRecord = null;
+            }
+            IS_RECORD = isRecord;
+            GET_RECORD_COMPONENTS = getRecordComponents;
+            GET_NAME = getName;
+            GET_ACCESSOR = getAccessor;
+        }
+
+        private Records() {
+            /* do nothing */
+        }
+
+        static boolean isRecord(Object value) {
+            if (IS_RECORD == null || value == null) {
+                return false;
+            }
+            try {
+                return Boolean.TRUE.equals(IS_RECORD.invoke(value.getClass()));
+            } catch (ReflectiveOperationException e) {
+                return false;
+            }
+        }
+
+        static Object[] components(Class<?> type) {
+            try {
+                return (Object[]) GET_RECORD_COMPONENTS.invoke(type);
+            } catch (ReflectiveOperationException e) {
+                return null;
+            }
+        }
+
+        static String name(Object component) {
+            try {
+                return (String) GET_NAME.invoke(component);
+            } catch (ReflectiveOperationException e) {
+                return "?";
+            }
+        }
+
+        static Object value(Object component, Object record) throws ReflectiveOperationException {
+            final Method accessor = (Method) GET_ACCESSOR.invoke(component);
+            accessor.setAccessible(true);
+            return accessor.invoke(record);
+        }
+    }
+}
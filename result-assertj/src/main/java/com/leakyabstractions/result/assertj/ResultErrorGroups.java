@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Occurrence counts of assertion errors, grouped by kind of failure and message template.
+ * <p>
+ * Errors raised by {@link Result} assertions are grouped without rendering their messages. Other errors are grouped by
+ * type and abbreviated message. The number of groups is bounded, so memory use does not depend on the number of
+ * errors counted.
+ * <p>
+ * Errors can be counted concurrently from any thread, without locking.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+final class ResultErrorGroups {
+
+    /** Maximum number of distinct groups. */
+    static final int MAX_GROUPS = 100;
+
+    /** Maximum length of the abbreviated messages used to group other errors. */
+    static final int MAX_KEY_LENGTH = 200;
+
+    private final ConcurrentMap<String, LongAdder> groups = new ConcurrentHashMap<>();
+    // Keys in the order in which their groups were created
+    private final Queue<String> keys = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger groupCount = new AtomicInteger();
+    private final LongAdder total = new LongAdder();
+    private final LongAdder ungrouped = new LongAdder();
+    private final AtomicLong retained = new AtomicLong();
+
+    /**
+     * Counts the given error and decides whether to retain it in full.
+     *
+     * @param error the error to count.
+     * @param maxRetained the maximum number of errors to retain in full.
+     * @return {@code true} if the error should be retained in full.
+     */
+    boolean add(AssertionError error, int maxRetained) {
+        this.total.increment();
+        this.count(keyOf(error));
+        long current;
+        do {
+            current = this.retained.get();
+            if (current >= maxRetained) {
+                return false;
+            }
+        } while (!this.retained.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    long total() {
+        return this.total.sum();
+    }
+
+    long retained() {
+        return this.retained.get();
+    }
+
+    /**
+     * Renders a compact report with the occurrence count of each group.
+     *
+     * @return the report.
+     */
+    String summary() {
+        final long others = this.ungrouped.sum();
+        final StringBuilder summary = new StringBuilder(String.format(
+                Locale.ROOT,
+                "Soft assertion errors: %d in %d groups (%d retained in full):",
+                this.total.sum(),
+                this.keys.size() + (others > 0 ? 1 : 0),
+                this.retained.get()));
+        for (final String key : this.keys) {
+            summary.append(String.format(Locale.ROOT, "%n  %8d x %s", this.groups.get(key).sum(), compact(key)));
+        }
+        if (others > 0) {
+            summary.append(String.format(Locale.ROOT, "%n  %8d x (other errors)", others));
+        }
+        return summary.toString();
+    }
+
+    private void count(String key) {
+        LongAdder counter = this.groups.get(key);
+        if (counter == null) {
+            // Reserve a group before creating it, so that the number of groups never exceeds the maximum
+            if (this.groupCount.incrementAndGet() > MAX_GROUPS) {
+                this.groupCount.decrementAndGet();
+                this.ungrouped.increment();
+                return;
+            }
+            final LongAdder created = new LongAdder();
+            counter = this.groups.putIfAbsent(key, created);
+            if (counter == null) {
+                counter = created;
+                this.keys.add(key);
+            } else {
+                this.groupCount.decrementAndGet();
+            }
+        }
+        counter.increment();
+    }
+
+    private static String keyOf(AssertionError error) {
+        if (error instanceof ResultAssertionError) {
+            final ResultAssertionError resultError = (ResultAssertionError) error;
+            return "[" + resultError.kind() + "] " + resultError.template();
+        }
+        final String message = String.valueOf(error.getMessage());
+        return "[" + error.getClass().getSimpleName() + "] "
+                + (message.length() <= MAX_KEY_LENGTH ? message : message.substring(0, MAX_KEY_LENGTH));
+    }
+
+    private static String compact(String message) {
+        final String compact = message.replace("%n", " ").replaceAll("\\s+", " ").trim();
+        return compact.length() <= MAX_KEY_LENGTH ? compact : compact.substring(0, MAX_KEY_LENGTH) + "...";
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultRepresentation.RESULT_REPRESENTATION;
+
+import org.assertj.core.description.Description;
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.presentation.Representation;
+import org.assertj.core.presentation.StandardRepresentation;
+
+/**
+ * Base error message factory for {@link com.leakyabstractions.result.api.Result} assertions.
+ * <p>
+ * Messages are formatted using {@link ResultRepresentation#RESULT_REPRESENTATION} unless a custom representation
+ * was set.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+class ResultErrorMessageFactory extends BasicErrorMessageFactory {
+
+    ResultErrorMessageFactory(String format, Object... arguments) {
+        super(format, arguments);
+    }
+
+    /**
+     * Returns the message template, which identifies the kind of failure regardless of the actual values.
+     *
+     * @return the message template.
+     */
+    String template() {
+        return this.format;
+    }
+
+    /**
+     * Creates the structured report of the failure.
+     *
+     * @param description the description of the assertion.
+     * @param representation the representation of the assertion.
+     * @return the structured report; or {@code null} if this kind of failure has no structured form.
+     */
+    ResultFailureReport report(Description description, Representation representation) {
+        return null;
+    }
+
+    @Override
+    public String create(Description description, Representation representation) {
+        return super.create(description, resultRepresentation(representation));
+    }
+
+    /**
+     * Replaces the standard representation with the result representation.
+     *
+     * @param representation the representation of the assertion.
+     * @return the representation to use when formatting messages.
+     */
+    static Representation resultRepresentation(Representation representation) {
+        if (representation == null || representation.getClass() == StandardRepresentation.class) {
+            return RESULT_REPRESENTATION;
+        }
+        return representation;
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultErrorMessageFactory.resultRepresentation;
+import static com.leakyabstractions.result.assertj.ResultValues.failureOf;
+import static com.leakyabstractions.result.assertj.ResultValues.successOf;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Optional;
+
+import org.assertj.core.description.Description;
+import org.assertj.core.presentation.Representation;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Structured, machine-readable form of a {@link Result} assertion error.
+ * <p>
+ * Reports describe the kind of failure, the side of the {@link Result} that was expected and the side it actually
+ * was, and the types and size-bounded representations of the expected and actual values. They can be written as
+ * JSON objects, one per line, with {@link ResultFailureReportWriter}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+public final class ResultFailureReport implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String kind;
+    private final Side expectedSide;
+    private final Side actualSide;
+    private final String expectedType;
+    private final String expectedValue;
+    private final String actualType;
+    private final String actualValue;
+    private final String description;
+
+    ResultFailureReport(
+            String kind,
+            Side expectedSide,
+            Side actualSide,
+            String expectedType,
+            String expectedValue,
+            String actualType,
+            String actualValue,
+            String description) {
+        this.kind = kind;
+        this.expectedSide = expectedSide;
+        this.actualSide = actualSide;
+        this.expectedType = expectedType;
+        this.expectedValue = expectedValue;
+        this.actualType = actualType;
+        this.actualValue = actualValue;
+        this.description = description;
+    }
+
+    /**
+     * Returns the structured report of an assertion error, if it was thrown by a {@link Result} assertion.
+     *
+     * @param error the assertion error.
+     * @return the structured report of the error; or an empty optional if it is not available.
+     */
+    public static Optional<ResultFailureReport> of(Throwable error) {
+        if (error instanceof ResultAssertionError) {
+            return Optional.ofNullable(((ResultAssertionError) error).report());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the kind of failure, such as {@code shouldBeSuccess} or {@code shouldHave}.
+     *
+     * @return the kind of failure.
+     */
+    public String kind() {
+        return this.kind;
+    }
+
+    /**
+     * Returns the side of the {@link Result} that was expected.
+     *
+     * @return the expected side.
+     */
+    public Side expectedSide() {
+        return this.expectedSide;
+    }
+
+    /**
+     * Returns the side of the actual {@link Result}.
+     *
+     * @return the actual side; or {@code null} if the result was neither a success nor a failure.
+     */
+    public Side actualSide() {
+        return this.actualSide;
+    }
+
+    /**
+     * Returns the type of the expected value.
+     *
+     * @return the fully qualified class name of the expected value; or {@code null} if there was no expected value.
+     */
+    public String expectedType() {
+        return this.expectedType;
+    }
+
+    /**
+     * Returns the size-bounded representation of the expected value.
+     *
+     * @return the representation of the expected value; or {@code null} if there was no expected value.
+     */
+    public String expectedValue() {
+        return this.expectedValue;
+    }
+
+    /**
+     * Returns the type of the value held by the actual {@link Result}.
+     *
+     * @return the fully qualified class name of the actual value; or {@code null} if the value was {@code null}.
+     */
+    public String actualType() {
+        return this.actualType;
+    }
+
+    /**
+     * Returns the size-bounded representation of the value held by the actual {@link Result}.
+     *
+     * @return the representation of the actual value.
+     */
+    public String actualValue() {
+        return this.actualValue;
+    }
+
+    /**
+     * Returns the description of the failed assertion.
+     *
+     * @return the description of the assertion; or {@code null} if the assertion was not described.
+     */
+    public String description() {
+        return this.description;
+    }
+
+    /**
+     * Writes this report as a single-line JSON object.
+     * <p>
+     * Values are escaped as they are written, without building the whole JSON text in memory.
+     *
+     * @param out the destination.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void writeJson(Appendable out) throws IOException {
+        out.append('{');
+        field(out, "kind", this.kind, false);
+        field(out, "expectedSide", nameOf(this.expectedSide), true);
+        field(out, "actualSide", nameOf(this.actualSide), true);
+        field(out, "expectedType", this.expectedType, true);
+        field(out, "expectedValue", this.expectedValue, true);
+        field(out, "actualType", this.actualType, true);
+        field(out, "actualValue", this.actualValue, true);
+        field(out, "description", this.description, true);
+        out.append('}');
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        try {
+            this.writeJson(builder);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Creates a report for a failed assertion.
+     *
+     * @param kind the kind of failure.
+     * @param expectedSide the expected side.
+     * @param result the actual result; may be {@code null}.
+     * @param expectedType the expected type; or {@code null} if there was none.
+     * @param expectsValue whether a specific value was expected.
+     * @param expected the expected value; ignored if no specific value was expected.
+     * @param description the description of the assertion.
+     * @param representation the representation of the assertion.
+     * @return the created report.
+     */
+    static ResultFailureReport report(
+            String kind,
+            Side expectedSide,
+            Result<?, ?> result,
+            String expectedType,
+            boolean expectsValue,
+            Object expected,
+            Description description,
+            Representation representation) {
+        final Side actualSide = result == null
+                ? null
+                : result.hasSuccess() ? Side.SUCCESS : result.hasFailure() ? Side.FAILURE : null;
+        final Object actual = actualSide == Side.SUCCESS
+                ? successOf(result)
+                : actualSide == Side.FAILURE ? failureOf(result) : null;
+        final Representation bounded = resultRepresentation(representation);
+        final String expectedValue;
+        final String actualValue;
+        if (!expectsValue) {
+            expectedValue = null;
+            actualValue = bound(bounded.toStringOf(actual));
+        } else if (bounded instanceof ResultRepresentation) {
+            final String[] values = ((ResultRepresentation) bounded).toStringOf(expected, actual);
+            expectedValue = values[0];
+            actualValue = values[1];
+        } else {
+            expectedValue = bound(bounded.toStringOf(expected));
+            actualValue = bound(bounded.toStringOf(actual));
+        }
+        final String text = description == null ? null : description.value();
+        return new ResultFailureReport(
+                kind,
+                expectedSide,
+                actualSide,
+                expectedType,
+                expectedValue,
+                typeOf(actual),
+                actualValue,
+                text == null || text.isEmpty() ? null : text);
+    }
+
+    static String typeOf(Object value) {
+        return value == null ? null : value.getClass().getName();
+    }
+
+    private static String nameOf(Side side) {
+        return side == null ? null : side == Side.SUCCESS ? "success" : "failure";
+    }
+
+    // Custom representations are not necessarily bounded
+    private static String bound(String value) {
+        final int max = ResultRepresentation.DEFAULT_MAX_CHARS;
+        return value == null || value.length() <= max ? value : value.substring(0, max) + "...";
+    }
+
+    private static void field(Appendable out, String name, String value, boolean comma) throws IOException {
+        if (comma) {
+            out.append(',');
+        }
+        out.append('"').append(name).append("\":");
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('"');
+        final int length = value.length();
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+            }
+        }
+        out.append('"');
+    }
+
+    /** Side of a {@link Result}. */
+    public enum Side {
+
+        /** The result is a success. */
+        SUCCESS,
+
+        /** The result is a failure. */
+        FAILURE
+    }
+}
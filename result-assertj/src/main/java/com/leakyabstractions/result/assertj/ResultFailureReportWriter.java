@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Streaming writer of {@link ResultFailureReport structured failure reports} in JSON lines format.
+ * <p>
+ * Each report is written as a single-line JSON object as soon as it is received, so reports are never accumulated in
+ * memory. Writers can be shared by many threads.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+public final class ResultFailureReportWriter implements Closeable, Flushable {
+
+    private final Writer out;
+
+    /**
+     * Creates a new writer that appends reports to the given file, creating it if it does not exist.
+     *
+     * @param file the report file.
+     * @throws IOException if the file cannot be opened.
+     */
+    public ResultFailureReportWriter(Path file) throws IOException {
+        this(Files.newBufferedWriter(file, UTF_8, CREATE, WRITE, APPEND));
+    }
+
+    /**
+     * Creates a new writer that writes reports to the given character stream.
+     *
+     * @param out the character stream.
+     */
+    public ResultFailureReportWriter(Writer out) {
+        if (out == null) {
+            throw new IllegalArgumentException("The output should not be <null>.");
+        }
+        this.out = out;
+    }
+
+    /**
+     * Writes the structured report of an assertion error, if it was thrown by a
+     * {@link com.leakyabstractions.result.api.Result} assertion.
+     *
+     * @param error the assertion error.
+     * @return {@code true} if a report was written.
+     * @throws IOException if an I/O error occurs.
+     */
+    public boolean write(Throwable error) throws IOException {
+        final Optional<ResultFailureReport> report = ResultFailureReport.of(error);
+        if (report.isPresent()) {
+            this.write(report.get());
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Writes the structured reports of several assertion errors, such as the ones collected by soft assertions.
+     *
+     * @param errors the assertion errors.
+     * @return the number of reports written.
+     * @throws IOException if an I/O error occurs.
+     */
+    public int writeAll(Iterable<? extends Throwable> errors) throws IOException {
+        int written = 0;
+        for (final Throwable error : errors) {
+            if (this.write(error)) {
+                written++;
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Writes a structured report as a single line.
+     *
+     * @param report the report to write.
+     * @throws IOException if an I/O error occurs.
+     */
+    public synchronized void write(ResultFailureReport report) throws IOException {
+        report.writeJson(this.out);
+        this.out.write('\n');
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        this.out.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        this.out.close();
+    }
+}
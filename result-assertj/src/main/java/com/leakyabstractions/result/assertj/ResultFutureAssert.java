@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.assertj.core.api.ObjectAssertProxy.withAssertionState;
+import static org.assertj.core.error.ShouldBeCompletedWithin.shouldBeCompletedWithin;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Assertions for {@link CompletableFuture futures} of {@link Result} objects.
+ * <p>
+ * The calling thread waits for the future to complete, up to a timeout, and then assertions can be chained on the
+ * {@link Result} it completed with.
+ *
+ * @param <S> type of the success value contained in the {@link Result}.
+ * @param <F> type of the failure value contained in the {@link Result}.
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+public class ResultFutureAssert<S, F>
+        extends AbstractAssert<ResultFutureAssert<S, F>, CompletableFuture<? extends Result<S, F>>> {
+
+    /** Default timeout for {@link #completesWithSuccess()} and {@link #completesWithFailure()}. */
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+
+    private Duration timeout = DEFAULT_TIMEOUT;
+
+    ResultFutureAssert(CompletableFuture<? extends Result<S, F>> actual) {
+        super(actual, ResultFutureAssert.class);
+    }
+
+    /**
+     * Create assertion for {@link CompletableFuture futures} of {@link Result} objects.
+     * <p>
+     * This static method is provided for convenience, in case
+     * {@link ResultAssertions#assertThatResultFuture(CompletableFuture)} can't be statically imported.
+     *
+     * @param <S> type of the success value contained in the {@link Result}.
+     * @param <F> type of the failure value contained in the {@link Result}.
+     * @param actual the actual value.
+     * @return the created assertion object.
+     */
+    public static <S, F> ResultFutureAssert<S, F> assertThatResultFuture(
+            CompletableFuture<? extends Result<S, F>> actual) {
+        return new ResultFutureAssert<>(actual);
+    }
+
+    /**
+     * Sets the timeout used by {@link #completesWithSuccess()} and {@link #completesWithFailure()}.
+     *
+     * @param timeout the maximum time to wait for the future to complete.
+     * @return this assertion object.
+     */
+    public ResultFutureAssert<S, F> withTimeout(Duration timeout) {
+        this.timeout = checkTimeout(timeout);
+        return myself;
+    }
+
+    /**
+     * Waits for the actual future to complete normally within the given timeout and returns a new assertion object to
+     * chain assertions on the {@link Result} it completed with.
+     * <p>
+     * Assertion will pass:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThatResultFuture(completedFuture(Results.success(1))).succeedsWithin(Duration.ofSeconds(1)).hasSuccess(1);
+     * </code>
+     * </pre>
+     *
+     * Assertion will fail:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThatResultFuture(new CompletableFuture&lt;&gt;()).succeedsWithin(Duration.ofMillis(10));
+     * </code>
+     * </pre>
+     *
+     * @param timeout the maximum time to wait for the future to complete.
+     * @return a new {@link ResultAssert} for assertions chaining on the {@link Result}.
+     */
+    public ResultAssert<S, F> succeedsWithin(Duration timeout) {
+        checkTimeout(timeout);
+        isNotNull();
+        final Result<S, F> result;
+        try {
+            result = this.actual.get(timeout.toNanos(), NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw this.resultAssertionError(shouldBeCompletedWithin(this.actual, timeout, e));
+        } catch (ExecutionException | TimeoutException | CancellationException e) {
+            throw this.resultAssertionError(shouldBeCompletedWithin(this.actual, timeout, e));
+        }
+        return withAssertionState(new ResultAssert<>(result), myself);
+    }
+
+    /**
+     * Waits for the actual future to complete normally with a successful {@link Result} and returns a new assertion
+     * object to chain assertions on it.
+     * <p>
+     * The future is expected to complete within the {@link #withTimeout(Duration) configured timeout}.
+     *
+     * @return a new {@link ResultAssert} for assertions chaining on the {@link Result}.
+     */
+    public ResultAssert<S, F> completesWithSuccess() {
+        return this.succeedsWithin(this.timeout).hasSuccess();
+    }
+
+    /**
+     * Waits for the actual future to complete normally with a failed {@link Result} and returns a new assertion object
+     * to chain assertions on it.
+     * <p>
+     * The future is expected to complete within the {@link #withTimeout(Duration) configured timeout}.
+     *
+     * @return a new {@link ResultAssert} for assertions chaining on the {@link Result}.
+     */
+    public ResultAssert<S, F> completesWithFailure() {
+        return this.succeedsWithin(this.timeout).hasFailure();
+    }
+
+    static Duration checkTimeout(Duration timeout) {
+        if (timeout == null || timeout.isNegative()) {
+            throw new IllegalArgumentException("The timeout should not be <null> or negative.");
+        }
+        return timeout;
+    }
+
+    private AssertionError resultAssertionError(ErrorMessageFactory factory) {
+        return ResultAssertionError.failure(this.getWritableAssertionInfo(), factory);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultFutureAssert.checkTimeout;
+import static com.leakyabstractions.result.assertj.ResultFuturesShouldBe.shouldAllBeCompletedWithin;
+import static com.leakyabstractions.result.assertj.ResultFuturesShouldBe.shouldNotContainNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.assertj.core.api.ObjectAssertProxy.withAssertionState;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import org.assertj.core.api.AbstractAssert;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Bulk assertions for {@link Iterable} sequences of {@link CompletableFuture futures} of {@link Result} objects.
+ * <p>
+ * All the futures are awaited together: the calling thread waits once for {@link CompletableFuture#allOf all of them}
+ * to complete, up to a single timeout, instead of waiting for each future in turn.
+ *
+ * @param <S> type of the success value contained in the {@link Result} objects.
+ * @param <F> type of the failure value contained in the {@link Result} objects.
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+public class ResultFuturesAssert<S, F>
+        extends AbstractAssert<ResultFuturesAssert<S, F>, Iterable<? extends CompletableFuture<? extends Result<S, F>>>> {
+
+    ResultFuturesAssert(Iterable<? extends CompletableFuture<? extends Result<S, F>>> actual) {
+        super(actual, ResultFuturesAssert.class);
+    }
+
+    /**
+     * Create bulk assertion for {@link Iterable} sequences of {@link CompletableFuture futures} of {@link Result}
+     * objects.
+     * <p>
+     * This static method is provided for convenience, in case
+     * {@link ResultAssertions#assertThatResultFutures(Iterable)} can't be statically imported.
+     *
+     * @param <S> type of the success value contained in the {@link Result} objects.
+     * @param <F> type of the failure value contained in the {@link Result} objects.
+     * @param actual the actual value.
+     * @return the created assertion object.
+     */
+    public static <S, F> ResultFuturesAssert<S, F> assertThatResultFutures(
+            Iterable<? extends CompletableFuture<? extends Result<S, F>>> actual) {
+        return new ResultFuturesAssert<>(actual);
+    }
+
+    /**
+     * Waits for all the actual futures to complete normally within the given timeout and returns a new assertion
+     * object to chain bulk assertions on the {@link Result} objects they completed with.
+     * <p>
+     * The actual sequence must not contain {@code null} futures; the first one is reported before waiting for any.
+     * <p>
+     * Assertion will pass:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThatResultFutures(futures).succeedWithin(Duration.ofSeconds(5)).allSucceed();
+     * </code>
+     * </pre>
+     *
+     * @param timeout the maximum time to wait for all the futures to complete.
+     * @return a new {@link ResultIterableAssert} for assertions chaining on the {@link Result} objects, in order.
+     */
+    public ResultIterableAssert<S, F> succeedWithin(Duration timeout) {
+        checkTimeout(timeout);
+        isNotNull();
+        final List<CompletableFuture<? extends Result<S, F>>> futures = new ArrayList<>();
+        for (final CompletableFuture<? extends Result<S, F>> future : this.actual) {
+            if (future == null) {
+                throw ResultAssertionError.failure(
+                        this.getWritableAssertionInfo(), shouldNotContainNull(futures.size()));
+            }
+            futures.add(future);
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(timeout.toNanos(), NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // Offending futures are reported below
+        }
+        final List<Result<S, F>> results = new ArrayList<>(futures.size());
+        final StringBuilder indices = new StringBuilder().append('[');
+        int incomplete = 0;
+        int exceptional = 0;
+        for (int i = 0; i < futures.size(); i++) {
+            final CompletableFuture<? extends Result<S, F>> future = futures.get(i);
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                results.add(future.join());
+                continue;
+            }
+            if (incomplete + exceptional < ResultScan.MAX_INDICES) {
+                indices.append(incomplete + exceptional > 0 ? ", " : "").append(i);
+            } else if (incomplete + exceptional == ResultScan.MAX_INDICES) {
+                indices.append(", ...");
+            }
+            if (future.isDone()) {
+                exceptional++;
+            } else {
+                incomplete++;
+            }
+        }
+        if (incomplete + exceptional > 0) {
+            throw ResultAssertionError.failure(
+                    this.getWritableAssertionInfo(),
+                    shouldAllBeCompletedWithin(
+                            timeout, futures.size(), incomplete, exceptional, indices.append(']').toString()));
+        }
+        return withAssertionState(new ResultIterableAssert<>(results), myself);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Build error message when all {@link CompletableFuture futures} of {@link Result} objects should complete within a
+ * timeout.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+class ResultFuturesShouldBe extends ResultErrorMessageFactory {
+
+    private static final String EXPECTING_COMPLETED_WITHIN = "%nExpecting all %s futures to complete normally within:%n  <%s>%nbut %s did not complete and %s completed exceptionally.%nOffending indices:%n  <%s>";
+    private static final String EXPECTING_NOT_NULL = "%nExpecting all futures not to be null but the one at index %s was.";
+
+    private ResultFuturesShouldBe(String message, Object... arguments) {
+        super(message, arguments);
+    }
+
+    private ResultFuturesShouldBe(
+            String message, Duration timeout, int futures, int incomplete, int exceptional, String indices) {
+        super(
+                message,
+                unquotedString(Integer.toString(futures)),
+                timeout,
+                unquotedString(Integer.toString(incomplete)),
+                unquotedString(Integer.toString(exceptional)),
+                unquotedString(indices));
+    }
+
+    /**
+     * Indicates that all futures should complete normally within a timeout.
+     *
+     * @return a error message factory.
+     * @param timeout the timeout
+     * @param futures the number of futures
+     * @param incomplete the number of futures that did not complete
+     * @param exceptional the number of futures that completed exceptionally
+     * @param indices the indices of the offending futures, formatted as a list
+     */
+    static ResultFuturesShouldBe shouldAllBeCompletedWithin(
+            Duration timeout, int futures, int incomplete, int exceptional, String indices) {
+        return new ResultFuturesShouldBe(EXPECTING_COMPLETED_WITHIN, timeout, futures, incomplete, exceptional, indices);
+    }
+
+    /**
+     * Indicates that no future should be {@code null}.
+     *
+     * @return a error message factory.
+     * @param index the index of the first {@code null} future
+     */
+    static ResultFuturesShouldBe shouldNotContainNull(int index) {
+        return new ResultFuturesShouldBe(EXPECTING_NOT_NULL, unquotedString(Integer.toString(index)));
+    }
+}
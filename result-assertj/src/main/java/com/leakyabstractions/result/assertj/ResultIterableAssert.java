@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Bulk assertions for {@link Iterable} sequences of {@link Result} objects.
+ * <p>
+ * Each assertion traverses the sequence once, without creating an assertion object per element. When an assertion
+ * fails, the error message reports the indices of the first offending elements and a bounded sample of them.
+ *
+ * @param <S> type of the success value contained in the {@link Result} objects.
+ * @param <F> type of the failure value contained in the {@link Result} objects.
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+public class ResultIterableAssert<S, F>
+        extends AbstractResultsAssert<ResultIterableAssert<S, F>, Iterable<? extends Result<S, F>>, S, F> {
+
+    private ForkJoinPool pool;
+
+    ResultIterableAssert(Iterable<? extends Result<S, F>> actual) {
+        super(actual, ResultIterableAssert.class);
+    }
+
+    /**
+     * Create bulk assertion for {@link Iterable} sequences of {@link Result} objects.
+     * <p>
+     * This static method is provided for convenience, in case
+     * {@link ResultAssertions#assertThatResults(Iterable)} can't be statically imported.
+     *
+     * @param <S> type of the success value contained in the {@link Result} objects.
+     * @param <F> type of the failure value contained in the {@link Result} objects.
+     * @param actual the actual value.
+     * @return the created assertion object.
+     */
+    public static <S, F> ResultIterableAssert<S, F> assertThatResultIterable(
+            Iterable<? extends Result<S, F>> actual) {
+        return new ResultIterableAssert<>(actual);
+    }
+
+    /**
+     * Makes subsequent assertions inspect the actual sequence in parallel, using the common fork/join pool.
+     * <p>
+     * Elements are inspected concurrently, so conditions used in assertions must be thread-safe. Error messages are
+     * identical to the ones produced by sequential inspection.
+     * <p>
+     * Example:
+     *
+     * <pre class="row-color rowColor">
+     * <code>&nbsp;
+     * assertThatResults(results).inParallel().allSucceed();
+     * </code>
+     * </pre>
+     *
+     * @return this assertion object.
+     * @see #inParallel(ForkJoinPool)
+     */
+    public ResultIterableAssert<S, F> inParallel() {
+        return this.inParallel(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Makes subsequent assertions inspect the actual sequence in parallel, using the given fork/join pool.
+     * <p>
+     * Sequences that are not random-access lists are copied into a list before being inspected.
+     *
+     * @param pool the fork/join pool that will inspect the actual sequence.
+     * @return this assertion object.
+     * @see #inParallel()
+     */
+    public ResultIterableAssert<S, F> inParallel(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("The fork/join pool should not be <null>.");
+        }
+        this.pool = pool;
+        return myself;
+    }
+
+    @Override
+    ResultScan<S, F> scan(Predicate<? super Result<S, F>> isExpected, boolean isNullExpected, long limit) {
+        if (this.pool == null) {
+            return super.scan(isExpected, isNullExpected, limit);
+        }
+        isNotNull();
+        final List<? extends Result<S, F>> elements = this.randomAccess();
+        return this.pool.invoke(new ResultScanTask<S, F>(elements, isExpected, isNullExpected, 0, elements.size()));
+    }
+
+    @Override
+    Stream<? extends Result<S, F>> elements() {
+        return StreamSupport.stream(this.actual.spliterator(), false);
+    }
+
+    @Override
+    boolean isFailFast() {
+        return false;
+    }
+
+    private List<? extends Result<S, F>> randomAccess() {
+        if (this.actual instanceof List && this.actual instanceof RandomAccess) {
+            return (List<? extends Result<S, F>>) this.actual;
+        }
+        final List<Result<S, F>> elements = new ArrayList<>();
+        for (final Result<S, F> element : this.actual) {
+            elements.add(element);
+        }
+        return elements;
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultRepresentation.RESULT_REPRESENTATION;
+import static com.leakyabstractions.result.assertj.ResultValues.failureOf;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Latencies and outcomes of repeated calls to a {@link Supplier} of {@link Result} objects.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+final class ResultPerformance {
+
+    /** Percentiles shown in the report. */
+    private static final double[] PERCENTILES = {0.5, 0.9, 0.99, 0.999, 0.9999};
+
+    /** Maximum number of distinct failure values shown in the report. */
+    static final int MAX_FAILURE_VALUES = 10;
+
+    final LatencyHistogram latencies = new LatencyHistogram();
+    final Map<Object, long[]> failureValues = new HashMap<>();
+    long successes;
+    long failures;
+    long nulls;
+    long otherFailures;
+    long elapsedNanos;
+
+    private ResultPerformance() {
+        /* do nothing */
+    }
+
+    /**
+     * Calls the supplier repeatedly.
+     *
+     * @param supplier the supplier to call.
+     * @param warmUp the number of calls to make before measuring.
+     * @param iterations the number of calls to measure.
+     * @return the measured performance.
+     */
+    static ResultPerformance measure(Supplier<? extends Result<?, ?>> supplier, int warmUp, int iterations) {
+        for (int i = 0; i < warmUp; i++) {
+            supplier.get();
+        }
+        final ResultPerformance performance = new ResultPerformance();
+        final long begin = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            final long start = System.nanoTime();
+            final Result<?, ?> result = supplier.get();
+            performance.latencies.record(System.nanoTime() - start);
+            performance.count(result);
+        }
+        performance.elapsedNanos = System.nanoTime() - begin;
+        return performance;
+    }
+
+    long calls() {
+        return this.latencies.count();
+    }
+
+    double successRate() {
+        return this.calls() == 0 ? 0 : (double) this.successes / this.calls();
+    }
+
+    double throughput() {
+        return this.elapsedNanos == 0 ? 0 : this.calls() * 1e9 / this.elapsedNanos;
+    }
+
+    /**
+     * Renders the percentile table and the breakdown of the failures.
+     *
+     * @return the report.
+     */
+    String report() {
+        final StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.ROOT, "Latency percentiles over %d calls:%n", this.calls()));
+        report.append(String.format(Locale.ROOT, "  %-8s %12s%n", "min", formatNanos(this.latencies.min())));
+        for (final double percentile : PERCENTILES) {
+            report.append(String.format(
+                    Locale.ROOT,
+                    "  %-8s %12s%n",
+                    percentileName(percentile),
+                    formatNanos(this.latencies.valueAt(percentile))));
+        }
+        report.append(String.format(Locale.ROOT, "  %-8s %12s%n", "max", formatNanos(this.latencies.max())));
+        report.append(String.format(Locale.ROOT, "  %-8s %12s%n", "mean", formatNanos((long) this.latencies.mean())));
+        report.append(String.format(Locale.ROOT, "Throughput: %.1f calls/s%n", this.throughput()));
+        report.append(String.format(
+                Locale.ROOT,
+                "Outcomes: %d successes, %d failures, %d null results",
+                this.successes,
+                this.failures,
+                this.nulls));
+        for (final Map.Entry<Object, long[]> entry : this.failureValues.entrySet()) {
+            final String value = RESULT_REPRESENTATION.toStringOf(entry.getKey());
+            report.append(String.format(Locale.ROOT, "%n  %8d x %s", entry.getValue()[0], value));
+        }
+        if (this.otherFailures > 0) {
+            report.append(String.format(Locale.ROOT, "%n  %8d x (other failure values)", this.otherFailures));
+        }
+        return report.toString();
+    }
+
+    static String percentileName(double percentile) {
+        return "p" + BigDecimal.valueOf(percentile).movePointRight(2).stripTrailingZeros().toPlainString();
+    }
+
+    static String formatNanos(long nanos) {
+        if (nanos < 1_000) {
+            return nanos + " ns";
+        }
+        if (nanos < 1_000_000) {
+            return String.format(Locale.ROOT, "%.3f us", nanos / 1e3);
+        }
+        if (nanos < 1_000_000_000) {
+            return String.format(Locale.ROOT, "%.3f ms", nanos / 1e6);
+        }
+        return String.format(Locale.ROOT, "%.3f s", nanos / 1e9);
+    }
+
+    private void count(Result<?, ?> result) {
+        if (result == null) {
+            this.nulls++;
+        } else if (result.hasSuccess()) {
+            this.successes++;
+        } else {
+            this.failures++;
+            final Object value = failureOf(result);
+            final long[] counter = this.failureValues.get(value);
+            if (counter != null) {
+                counter[0]++;
+            } else if (this.failureValues.size() < MAX_FAILURE_VALUES) {
+                this.failureValues.put(value, new long[] {1});
+            } else {
+                this.otherFailures++;
+            }
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultPerformanceShouldBe.shouldHaveLatencyPercentileBelow;
+import static com.leakyabstractions.result.assertj.ResultPerformanceShouldBe.shouldHaveMeanThroughputAtLeast;
+import static com.leakyabstractions.result.assertj.ResultPerformanceShouldBe.shouldHaveSuccessRateAtLeast;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Performance assertions for {@link Supplier suppliers} of {@link Result} objects.
+ * <p>
+ * The supplier is called on the current thread a number of times to warm up, and then a number of times to measure
+ * latencies and outcomes. Measurements are taken once, upon the first assertion, and shared by all the assertions
+ * chained after it.
+ * <p>
+ * Example:
+ *
+ * <pre class="row-color rowColor">
+ * <code>&nbsp;
+ * assertThatResultPerformance(() -&gt; paymentGateway.authorize(request))
+ *         .warmUp(1_000)
+ *         .iterations(10_000)
+ *         .hasLatencyPercentileBelow(0.99, Duration.ofMillis(5))
+ *         .hasSuccessRateAtLeast(0.999);
+ * </code>
+ * </pre>
+ *
+ * @param <S> type of the success value contained in the {@link Result}.
+ * @param <F> type of the failure value contained in the {@link Result}.
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+public class ResultPerformanceAssert<S, F>
+        extends AbstractAssert<ResultPerformanceAssert<S, F>, Supplier<? extends Result<S, F>>> {
+
+    /** Default number of calls to make before measuring. */
+    public static final int DEFAULT_WARM_UP = 1_000;
+
+    /** Default number of calls to measure. */
+    public static final int DEFAULT_ITERATIONS = 10_000;
+
+    private int warmUp = DEFAULT_WARM_UP;
+    private int iterations = DEFAULT_ITERATIONS;
+    private ResultPerformance performance;
+
+    ResultPerformanceAssert(Supplier<? extends Result<S, F>> actual) {
+        super(actual, ResultPerformanceAssert.class);
+    }
+
+    /**
+     * Create performance assertion for {@link Supplier suppliers} of {@link Result} objects.
+     * <p>
+     * This static method is provided for convenience, in case
+     * {@link ResultAssertions#assertThatResultPerformance(Supplier)} can't be statically imported.
+     *
+     * @param <S> type of the success value contained in the {@link Result}.
+     * @param <F> type of the failure value contained in the {@link Result}.
+     * @param actual the supplier to measure.
+     * @return the created assertion object.
+     */
+    public static <S, F> ResultPerformanceAssert<S, F> assertThatResultPerformance(
+            Supplier<? extends Result<S, F>> actual) {
+        return new ResultPerformanceAssert<>(actual);
+    }
+
+    /**
+     * Sets the number of calls to make before measuring.
+     *
+     * @param calls the number of warm-up calls.
+     * @return this assertion object.
+     */
+    public ResultPerformanceAssert<S, F> warmUp(int calls) {
+        if (calls < 0) {
+            throw new IllegalArgumentException("The number of warm-up calls should not be negative.");
+        }
+        this.warmUp = calls;
+        this.performance = null;
+        return myself;
+    }
+
+    /**
+     * Sets the number of calls to measure.
+     *
+     * @param calls the number of measured calls.
+     * @return this assertion object.
+     */
+    public ResultPerformanceAssert<S, F> iterations(int calls) {
+        if (calls <= 0) {
+            throw new IllegalArgumentException("The number of measured calls should be positive.");
+        }
+        this.iterations = calls;
+        this.performance = null;
+        return myself;
+    }
+
+    /**
+     * Verifies that the latency of the actual supplier at the given percentile is below the given limit.
+     *
+     * @param percentile the percentile, between {@code 0} (exclusive) and {@code 1} (inclusive).
+     * @param limit the latency limit.
+     * @return this assertion object.
+     */
+    public ResultPerformanceAssert<S, F> hasLatencyPercentileBelow(double percentile, Duration limit) {
+        if (!(percentile > 0 && percentile <= 1)) {
+            throw new IllegalArgumentException("The percentile should be greater than 0 and not greater than 1.");
+        }
+        if (limit == null || limit.isNegative()) {
+            throw new IllegalArgumentException("The latency limit should not be <null> or negative.");
+        }
+        final ResultPerformance measured = this.measure();
+        final long limitNanos = limit.toNanos();
+        if (measured.latencies.valueAt(percentile) >= limitNanos) {
+            throw this.resultAssertionError(shouldHaveLatencyPercentileBelow(percentile, limitNanos, measured));
+        }
+        return myself;
+    }
+
+    /**
+     * Verifies that the ratio of successful {@link Result} objects supplied by the actual supplier is at least the
+     * given rate.
+     * <p>
+     * Both failed and {@code null} results count as unsuccessful.
+     *
+     * @param rate the minimum success rate, between {@code 0} and {@code 1}.
+     * @return this assertion object.
+     */
+    public ResultPerformanceAssert<S, F> hasSuccessRateAtLeast(double rate) {
+        if (!(rate >= 0 && rate <= 1)) {
+            throw new IllegalArgumentException("The success rate should be between 0 and 1.");
+        }
+        final ResultPerformance measured = this.measure();
+        if (measured.successRate() < rate) {
+            throw this.resultAssertionError(shouldHaveSuccessRateAtLeast(rate, measured));
+        }
+        return myself;
+    }
+
+    /**
+     * Verifies that the actual supplier can be called on a single thread at least the given number of times per
+     * second, on average.
+     *
+     * @param opsPerSec the minimum number of calls per second.
+     * @return this assertion object.
+     */
+    public ResultPerformanceAssert<S, F> hasMeanThroughputAtLeast(double opsPerSec) {
+        if (!(opsPerSec > 0) || Double.isInfinite(opsPerSec)) {
+            throw new IllegalArgumentException("The throughput should be positive.");
+        }
+        final ResultPerformance measured = this.measure();
+        if (measured.throughput() < opsPerSec) {
+            throw this.resultAssertionError(shouldHaveMeanThroughputAtLeast(opsPerSec, measured));
+        }
+        return myself;
+    }
+
+    private ResultPerformance measure() {
+        isNotNull();
+        if (this.performance == null) {
+            this.performance = ResultPerformance.measure(this.actual, this.warmUp, this.iterations);
+        }
+        return this.performance;
+    }
+
+    private AssertionError resultAssertionError(ErrorMessageFactory factory) {
+        return ResultAssertionError.failure(this.getWritableAssertionInfo(), factory);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultPerformance.formatNanos;
+import static com.leakyabstractions.result.assertj.ResultPerformance.percentileName;
+
+import java.util.Locale;
+
+/**
+ * Build error message when the performance of a supplier of {@link com.leakyabstractions.result.api.Result Result}
+ * objects should meet a target.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+class ResultPerformanceShouldBe extends ResultErrorMessageFactory {
+
+    private static final String EXPECTING_LATENCY = "%nExpecting %s latency of supplied results to be below:%n  <%s>%nbut was:%n  <%s>%n%s";
+    private static final String EXPECTING_SUCCESS_RATE = "%nExpecting success rate of supplied results to be at least:%n  <%s>%nbut was:%n  <%s>%n%s";
+    private static final String EXPECTING_THROUGHPUT = "%nExpecting mean throughput of supplied results to be at least:%n  <%s>%nbut was:%n  <%s>%n%s";
+
+    private ResultPerformanceShouldBe(String message, String expected, String actual, ResultPerformance performance) {
+        super(message, unquotedString(expected), unquotedString(actual), unquotedString(performance.report()));
+    }
+
+    private ResultPerformanceShouldBe(
+            String message, String percentile, String expected, String actual, ResultPerformance performance) {
+        super(
+                message,
+                unquotedString(percentile),
+                unquotedString(expected),
+                unquotedString(actual),
+                unquotedString(performance.report()));
+    }
+
+    /**
+     * Indicates that the latency of a supplier at a given percentile should be below a limit.
+     *
+     * @return a error message factory.
+     * @param percentile the percentile, between {@code 0} and {@code 1}
+     * @param limit the latency limit, in nanoseconds
+     * @param performance the measured performance
+     */
+    static ResultPerformanceShouldBe shouldHaveLatencyPercentileBelow(
+            double percentile, long limit, ResultPerformance performance) {
+        return new ResultPerformanceShouldBe(
+                EXPECTING_LATENCY,
+                percentileName(percentile),
+                formatNanos(limit),
+                formatNanos(performance.latencies.valueAt(percentile)),
+                performance);
+    }
+
+    /**
+     * Indicates that the success rate of a supplier should be at least a minimum.
+     *
+     * @return a error message factory.
+     * @param rate the minimum success rate, between {@code 0} and {@code 1}
+     * @param performance the measured performance
+     */
+    static ResultPerformanceShouldBe shouldHaveSuccessRateAtLeast(double rate, ResultPerformance performance) {
+        return new ResultPerformanceShouldBe(
+                EXPECTING_SUCCESS_RATE, formatRate(rate), formatRate(performance.successRate()), performance);
+    }
+
+    /**
+     * Indicates that the mean throughput of a supplier should be at least a minimum.
+     *
+     * @return a error message factory.
+     * @param throughput the minimum throughput, in calls per second
+     * @param performance the measured performance
+     */
+    static ResultPerformanceShouldBe shouldHaveMeanThroughputAtLeast(
+            double throughput, ResultPerformance performance) {
+        return new ResultPerformanceShouldBe(
+                EXPECTING_THROUGHPUT,
+                formatThroughput(throughput),
+                formatThroughput(performance.throughput()),
+                performance);
+    }
+
+    private static String formatRate(double rate) {
+        return String.format(Locale.ROOT, "%.4f%%", rate * 100);
+    }
+
+    private static String formatThroughput(double throughput) {
+        return String.format(Locale.ROOT, "%.1f calls/s", throughput);
+    }
+}
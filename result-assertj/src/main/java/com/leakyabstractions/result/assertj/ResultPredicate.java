@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import java.util.function.Predicate;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Plain {@link Predicate} compiled from a {@link ResultAssertionPlan}.
+ * <p>
+ * Evaluation walks the checks of the plan in a single loop, without creating assertion objects or any other
+ * object, so that it can be used as a cheap guard outside tests. There is only one predicate class for every plan,
+ * which keeps call sites that test many different plans monomorphic.
+ *
+ * @param <S> type of the success value contained in the {@link Result}.
+ * @param <F> type of the failure value contained in the {@link Result}.
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+final class ResultPredicate<S, F> implements Predicate<Result<S, F>> {
+
+    private final ResultCheck[] checks;
+    private final Object[] arguments;
+    private final String description;
+
+    ResultPredicate(ResultCheck[] checks, Object[] arguments, String description) {
+        this.checks = checks;
+        this.arguments = arguments;
+        this.description = description;
+    }
+
+    @Override
+    public boolean test(Result<S, F> actual) {
+        if (actual == null) {
+            return false;
+        }
+        final ResultCheck[] checks = this.checks;
+        final Object[] args = this.arguments;
+        for (int i = 0; i < checks.length; i++) {
+            if (!checks[i].holds(actual, args[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return this.description;
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultValues.failureOf;
+import static com.leakyabstractions.result.assertj.ResultValues.successOf;
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.assertj.core.presentation.Representation;
+import org.assertj.core.presentation.StandardRepresentation;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Size-bounded {@link Representation} for {@link Result} objects and their values.
+ * <p>
+ * Results are represented as {@code Success[value]} or {@code Failure[value]}. Large values are abbreviated:
+ * <ul>
+ * <li>Collections, maps and arrays show at most {@code maxElements} elements, eliding the ones in the middle.</li>
+ * <li>Collections, maps, arrays and results nested deeper than {@code maxDepth} levels are not shown.</li>
+ * <li>Representations longer than {@code maxChars} characters are cut, eliding the characters in the middle.</li>
+ * </ul>
+ * <p>
+ * This is the default representation for {@link Result} assertion error messages, unless a custom one is set via
+ * {@link org.assertj.core.api.AbstractAssert#withRepresentation(Representation) withRepresentation}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+public class ResultRepresentation extends StandardRepresentation {
+
+    /** Default maximum number of characters of a representation. */
+    public static final int DEFAULT_MAX_CHARS = 4096;
+
+    /** Default maximum number of elements of a collection, map or array. */
+    public static final int DEFAULT_MAX_ELEMENTS = 100;
+
+    /** Default maximum nesting depth of collections, maps, arrays and results. */
+    public static final int DEFAULT_MAX_DEPTH = 5;
+
+    /** Result representation with default limits. */
+    public static final ResultRepresentation RESULT_REPRESENTATION =
+            new ResultRepresentation(DEFAULT_MAX_CHARS, DEFAULT_MAX_ELEMENTS, DEFAULT_MAX_DEPTH);
+
+    // Hard limit on the rendered length of leaf values; longer texts are cut before being rendered
+    private static final int RENDER_LIMIT = 1 << 20;
+    private static final String ELLIPSIS = "...";
+
+    private final int maxChars;
+    private final int maxElements;
+    private final int maxDepth;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param maxChars the maximum number of characters of a representation.
+     * @param maxElements the maximum number of elements of a collection, map or array.
+     * @param maxDepth the maximum nesting depth of collections, maps, arrays and results.
+     */
+    public ResultRepresentation(int maxChars, int maxElements, int maxDepth) {
+        checkArgument(maxChars > 0, "The maximum number of characters should be greater than zero.");
+        checkArgument(maxElements > 0, "The maximum number of elements should be greater than zero.");
+        checkArgument(maxDepth > 0, "The maximum depth should be greater than zero.");
+        this.maxChars = maxChars;
+        this.maxElements = maxElements;
+        this.maxDepth = maxDepth;
+    }
+
+    @Override
+    public String toStringOf(Object object) {
+        return this.abbreviate(this.render(object), -1);
+    }
+
+    /**
+     * Returns the representations of two values that are expected to be equal.
+     * <p>
+     * If any of them needs to be abbreviated, both will keep the region where they start to differ.
+     *
+     * @param expected the expected value.
+     * @param actual the actual value.
+     * @return an array containing the representations of the expected and the actual value.
+     */
+    String[] toStringOf(Object expected, Object actual) {
+        final String expectedString = this.render(expected);
+        final String actualString = this.render(actual);
+        final int difference = firstDifference(expectedString, actualString);
+        return new String[] {
+            this.abbreviate(expectedString, difference), this.abbreviate(actualString, difference)
+        };
+    }
+
+    int maxChars() {
+        return this.maxChars;
+    }
+
+    private String render(Object object) {
+        final StringBuilder builder = new StringBuilder();
+        this.render(builder, object, 0);
+        return builder.toString();
+    }
+
+    private void render(StringBuilder builder, Object object, int depth) {
+        if (builder.length() > RENDER_LIMIT) {
+            builder.append(ELLIPSIS);
+        } else if (object instanceof Result) {
+            this.renderResult(builder, (Result<?, ?>) object, depth);
+        } else if (object instanceof Collection) {
+            this.renderCollection(builder, (Collection<?>) object, depth);
+        } else if (object instanceof Map) {
+            this.renderMap(builder, (Map<?, ?>) object, depth);
+        } else if (object != null && object.getClass().isArray()) {
+            this.renderArray(builder, object, depth);
+        } else if (object instanceof CharSequence && ((CharSequence) object).length() > RENDER_LIMIT) {
+            // Avoid copying the whole text, which would be abbreviated anyway
+            final Object head = ((CharSequence) object).subSequence(0, RENDER_LIMIT).toString();
+            final String string = super.toStringOf(head);
+            builder.append(string, 0, Math.min(string.length(), RENDER_LIMIT));
+        } else {
+            // Other values may still be rendered in full by their toString method before being cut
+            final String string = super.toStringOf(object);
+            builder.append(string, 0, Math.min(string.length(), RENDER_LIMIT));
+        }
+    }
+
+    private void renderResult(StringBuilder builder, Result<?, ?> result, int depth) {
+        final boolean success = result.hasSuccess();
+        if (!success && !result.hasFailure()) {
+            builder.append(super.toStringOf(result));
+            return;
+        }
+        builder.append(success ? "Success[" : "Failure[");
+        if (depth >= this.maxDepth) {
+            builder.append(ELLIPSIS);
+        } else {
+            this.render(builder, success ? successOf(result) : failureOf(result), depth + 1);
+        }
+        builder.append(']');
+    }
+
+    private void renderCollection(StringBuilder builder, Collection<?> collection, int depth) {
+        final int size = collection.size();
+        builder.append('[');
+        if (size > 0 && depth >= this.maxDepth) {
+            builder.append(ELLIPSIS);
+        } else {
+            final Iterator<?> iterator = collection.iterator();
+            for (int i = 0; i < size && iterator.hasNext(); i++) {
+                final Object element = iterator.next();
+                if (this.isVisible(builder, i, size)) {
+                    this.render(builder, element, depth + 1);
+                }
+            }
+        }
+        builder.append(']');
+    }
+
+    private void renderMap(StringBuilder builder, Map<?, ?> map, int depth) {
+        final int size = map.size();
+        builder.append('{');
+        if (size > 0 && depth >= this.maxDepth) {
+            builder.append(ELLIPSIS);
+        } else {
+            final Iterator<? extends Map.Entry<?, ?>> iterator = map.entrySet().iterator();
+            for (int i = 0; i < size && iterator.hasNext(); i++) {
+                final Map.Entry<?, ?> entry = iterator.next();
+                if (this.isVisible(builder, i, size)) {
+                    this.render(builder, entry.getKey(), depth + 1);
+                    builder.append('=');
+                    this.render(builder, entry.getValue(), depth + 1);
+                }
+            }
+        }
+        builder.append('}');
+    }
+
+    private void renderArray(StringBuilder builder, Object array, int depth) {
+        final int size = Array.getLength(array);
+        builder.append('[');
+        if (size > 0 && depth >= this.maxDepth) {
+            builder.append(ELLIPSIS);
+        } else {
+            for (int i = 0; i < size; i++) {
+                if (this.isVisible(builder, i, size)) {
+                    this.render(builder, Array.get(array, i), depth + 1);
+                }
+            }
+        }
+        builder.append(']');
+    }
+
+    private boolean isVisible(StringBuilder builder, int index, int size) {
+        final int head = this.headLength(size);
+        if (index < head || index >= size - this.tailLength(size)) {
+            if (index > 0) {
+                builder.append(", ");
+            }
+            return true;
+        }
+        if (index == head) {
+            builder.append(", ").append(ELLIPSIS);
+        }
+        return false;
+    }
+
+    private int headLength(int size) {
+        return size <= this.maxElements ? size : (this.maxElements + 1) / 2;
+    }
+
+    private int tailLength(int size) {
+        return size <= this.maxElements ? 0 : this.maxElements / 2;
+    }
+
+    private String abbreviate(String string, int focus) {
+        final int length = string.length();
+        if (length <= this.maxChars) {
+            return string;
+        }
+        if (focus < 0) {
+            final int head = (this.maxChars + 1) / 2;
+            final int tail = this.maxChars / 2;
+            return string.substring(0, head) + omitted(length - head - tail) + string.substring(length - tail);
+        }
+        final int center = Math.min(focus, length - 1);
+        final int start = Math.max(0, Math.min(center - this.maxChars / 2, length - this.maxChars));
+        final int end = start + this.maxChars;
+        return (start > 0 ? omitted(start) : "")
+                + string.substring(start, end)
+                + (end < length ? omitted(length - end) : "");
+    }
+
+    private static String omitted(int characters) {
+        return ELLIPSIS + "(" + characters + " characters omitted)" + ELLIPSIS;
+    }
+
+    private static int firstDifference(String expected, String actual) {
+        final int length = Math.min(expected.length(), actual.length());
+        for (int i = 0; i < length; i++) {
+            if (expected.charAt(i) != actual.charAt(i)) {
+                return i;
+            }
+        }
+        return expected.length() == actual.length() ? -1 : length;
+    }
+}
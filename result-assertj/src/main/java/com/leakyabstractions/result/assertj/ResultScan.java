@@ -0,0 +1,212 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tally of a single traversal over a sequence of {@link Result} objects.
+ * <p>
+ * Keeps constant-size counters plus the indices of the first {@value #MAX_INDICES} offending elements and a sample
+ * of the first {@value #MAX_SAMPLE} of them.
+ *
+ * @param <S> type of the success value contained in the {@link Result} objects.
+ * @param <F> type of the failure value contained in the {@link Result} objects.
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+final class ResultScan<S, F> {
+
+    static final int MAX_INDICES = 100;
+    static final int MAX_SAMPLE = 10;
+
+    private final Predicate<? super Result<S, F>> isExpected;
+    private final boolean isNullExpected;
+    private final long[] indices = new long[MAX_INDICES];
+    private final Object[] sample = new Object[MAX_SAMPLE];
+    private long inspected;
+    private long successes;
+    private long failures;
+    private long nulls;
+    private long offending;
+
+    /**
+     * Creates a new instance where null elements are offending.
+     *
+     * @param isExpected the predicate that tells expected elements from offending ones.
+     */
+    ResultScan(Predicate<? super Result<S, F>> isExpected) {
+        this(isExpected, false);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param isExpected the predicate that tells expected non-null elements from offending ones.
+     * @param isNullExpected whether null elements are expected rather than offending.
+     */
+    ResultScan(Predicate<? super Result<S, F>> isExpected, boolean isNullExpected) {
+        this.isExpected = isExpected;
+        this.isNullExpected = isNullExpected;
+    }
+
+    /**
+     * Inspects the next element.
+     *
+     * @param index the position of the element.
+     * @param element the element to inspect.
+     * @return {@code true} if the element is offending.
+     */
+    boolean inspect(long index, Result<S, F> element) {
+        this.inspected++;
+        if (element == null) {
+            this.nulls++;
+        } else if (element.hasSuccess()) {
+            this.successes++;
+        } else if (element.hasFailure()) {
+            this.failures++;
+        }
+        if (element == null ? this.isNullExpected : this.isExpected.test(element)) {
+            return false;
+        }
+        if (this.offending < MAX_INDICES) {
+            this.indices[(int) this.offending] = index;
+        }
+        if (this.offending < MAX_SAMPLE) {
+            this.sample[(int) this.offending] = element;
+        }
+        this.offending++;
+        return true;
+    }
+
+    /**
+     * Inspects all the elements of the given iterable.
+     *
+     * @param elements the elements to inspect.
+     * @return this tally.
+     */
+    ResultScan<S, F> inspectAll(Iterable<? extends Result<S, F>> elements) {
+        return this.inspectAll(elements.iterator(), Long.MAX_VALUE);
+    }
+
+    /**
+     * Inspects the remaining elements of the given iterator.
+     * <p>
+     * Inspection stops as soon as the number of offending elements exceeds the given limit.
+     *
+     * @param elements the elements to inspect.
+     * @param limit the number of offending elements after which inspection stops.
+     * @return this tally.
+     */
+    ResultScan<S, F> inspectAll(Iterator<? extends Result<S, F>> elements, long limit) {
+        long index = 0;
+        while (this.offending <= limit && elements.hasNext()) {
+            this.inspect(index++, elements.next());
+        }
+        return this;
+    }
+
+    /**
+     * Inspects a range of elements of the given list.
+     *
+     * @param elements the elements to inspect.
+     * @param from the index of the first element to inspect, inclusive.
+     * @param to the index of the last element to inspect, exclusive.
+     * @return this tally.
+     */
+    ResultScan<S, F> inspectRange(List<? extends Result<S, F>> elements, int from, int to) {
+        for (int index = from; index < to; index++) {
+            this.inspect(index, elements.get(index));
+        }
+        return this;
+    }
+
+    /**
+     * Merges the tally of the elements that follow the ones inspected by this tally.
+     *
+     * @param next the tally of the following elements.
+     * @return this tally.
+     */
+    ResultScan<S, F> merge(ResultScan<S, F> next) {
+        final int indices = (int) Math.min(next.offending, MAX_INDICES);
+        for (int i = 0; i < indices && this.offending + i < MAX_INDICES; i++) {
+            this.indices[(int) this.offending + i] = next.indices[i];
+        }
+        final int sample = (int) Math.min(next.offending, MAX_SAMPLE);
+        for (int i = 0; i < sample && this.offending + i < MAX_SAMPLE; i++) {
+            this.sample[(int) this.offending + i] = next.sample[i];
+        }
+        this.inspected += next.inspected;
+        this.successes += next.successes;
+        this.failures += next.failures;
+        this.nulls += next.nulls;
+        this.offending += next.offending;
+        return this;
+    }
+
+    long inspected() {
+        return this.inspected;
+    }
+
+    long successes() {
+        return this.successes;
+    }
+
+    long failures() {
+        return this.failures;
+    }
+
+    long nulls() {
+        return this.nulls;
+    }
+
+    long offending() {
+        return this.offending;
+    }
+
+    /**
+     * Returns the indices of the first offending elements.
+     *
+     * @return the indices of up to {@value #MAX_INDICES} offending elements, formatted as a list.
+     */
+    String indices() {
+        final int size = (int) Math.min(this.offending, MAX_INDICES);
+        final StringBuilder builder = new StringBuilder().append('[');
+        for (int i = 0; i < size; i++) {
+            builder.append(i > 0 ? ", " : "").append(this.indices[i]);
+        }
+        return builder.append(size < this.offending ? ", ...]" : "]").toString();
+    }
+
+    /**
+     * Returns the first offending elements.
+     *
+     * @return a new list with up to {@value #MAX_SAMPLE} offending elements.
+     */
+    List<Object> sample() {
+        final int size = (int) Math.min(this.offending, MAX_SAMPLE);
+        final List<Object> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(this.sample[i]);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Fork/join task that inspects a range of a list of {@link Result} objects.
+ * <p>
+ * Ranges are split in halves until they are small enough. Tallies are merged in index order, so the outcome is
+ * identical to a sequential inspection.
+ *
+ * @param <S> type of the success value contained in the {@link Result} objects.
+ * @param <F> type of the failure value contained in the {@link Result} objects.
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+@SuppressWarnings("serial")
+final class ResultScanTask<S, F> extends RecursiveTask<ResultScan<S, F>> {
+
+    private static final int THRESHOLD = 1 << 13;
+
+    private final List<? extends Result<S, F>> elements;
+    private final Predicate<? super Result<S, F>> isExpected;
+    private final boolean isNullExpected;
+    private final int from;
+    private final int to;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param elements the random-access list of elements to inspect.
+     * @param isExpected the predicate that tells expected non-null elements from offending ones.
+     * @param isNullExpected whether null elements are expected rather than offending.
+     * @param from the index of the first element to inspect, inclusive.
+     * @param to the index of the last element to inspect, exclusive.
+     */
+    ResultScanTask(
+            List<? extends Result<S, F>> elements,
+            Predicate<? super Result<S, F>> isExpected,
+            boolean isNullExpected,
+            int from,
+            int to) {
+        this.elements = elements;
+        this.isExpected = isExpected;
+        this.isNullExpected = isNullExpected;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected ResultScan<S, F> compute() {
+        if (this.to - this.from <= THRESHOLD) {
+            return new ResultScan<S, F>(this.isExpected, this.isNullExpected)
+                    .inspectRange(this.elements, this.from, this.to);
+        }
+        final int middle = (this.from + this.to) >>> 1;
+        final ResultScanTask<S, F> head = new ResultScanTask<>(
+                this.elements, this.isExpected, this.isNullExpected, this.from, middle);
+        final ResultScanTask<S, F> tail = new ResultScanTask<>(
+                this.elements, this.isExpected, this.isNullExpected, middle, this.to);
+        head.fork();
+        final ResultScan<S, F> tailScan = tail.compute();
+        return head.join().merge(tailScan);
+    }
+}
@@ -16,22 +16,35 @@
 
 package com.leakyabstractions.result.assertj;
 
-import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.description.Description;
+import org.assertj.core.presentation.Representation;
 
 import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.assertj.ResultFailureReport.Side;
 
 /**
  * Build error message when a {@link Result} should be a success or a failure.
  *
  * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
  */
-class ResultShouldBe extends BasicErrorMessageFactory {
+class ResultShouldBe extends ResultErrorMessageFactory {
 
     private static final String EXPECTING_SUCCESS = "%nExpecting result:%n  <%s>%nto be a success but was not.";
     private static final String EXPECTING_FAILURE = "%nExpecting result:%n  <%s>%nto be a failure but was not.";
 
-    private ResultShouldBe(String message, Result<?, ?> result) {
+    private final Side expectedSide;
+
+    private ResultShouldBe(String message, Result<?, ?> result, Side expectedSide) {
         super(message, result);
+        this.expectedSide = expectedSide;
+    }
+
+    @Override
+    ResultFailureReport report(Description description, Representation representation) {
+        final String kind = this.expectedSide == Side.SUCCESS ? "shouldBeSuccess" : "shouldBeFailure";
+        final Result<?, ?> result = (Result<?, ?>) this.arguments[0];
+        return ResultFailureReport.report(
+                kind, this.expectedSide, result, null, false, null, description, representation);
     }
 
     /**
@@ -41,7 +54,7 @@ class ResultShouldBe extends BasicErrorMessageFactory {
      * @param result the result instance
      */
     static ResultShouldBe shouldBeSuccess(Result<?, ?> result) {
-        return new ResultShouldBe(EXPECTING_SUCCESS, result);
+        return new ResultShouldBe(EXPECTING_SUCCESS, result, Side.SUCCESS);
     }
 
     /**
@@ -51,6 +64,6 @@ class ResultShouldBe extends BasicErrorMessageFactory {
      * @param result the result instance
      */
     static ResultShouldBe shouldBeFailure(Result<?, ?> result) {
-        return new ResultShouldBe(EXPECTING_FAILURE, result);
+        return new ResultShouldBe(EXPECTING_FAILURE, result, Side.FAILURE);
     }
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import java.time.Duration;
+
+import org.assertj.core.api.Condition;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Build error message when a supplied {@link Result} should eventually be a success.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+class ResultShouldEventually extends ResultErrorMessageFactory {
+
+    private static final String EXPECTING_SUCCESS = "%nExpecting supplied result to be a success within:%n  <%s>%nbut after %s attempts the last observed result was:%n  <%s>";
+    private static final String EXPECTING_SUCCESS_SATISFYING = "%nExpecting supplied result to be a success satisfying:%n  <%s>%nwithin:%n  <%s>%nbut after %s attempts the last observed result was:%n  <%s>";
+    private static final String EXPECTING_SUCCESS_SATISFYING_REQUIREMENTS = "%nExpecting supplied result to be a success satisfying the given requirements within:%n  <%s>%nbut after %s attempts the last observed result was:%n  <%s>%nand the last requirements error was:%n  %s";
+
+    private ResultShouldEventually(String message, Duration timeout, int attempts, Result<?, ?> result) {
+        super(message, timeout, unquotedString(Integer.toString(attempts)), result);
+    }
+
+    private ResultShouldEventually(
+            String message, Condition<?> condition, Duration timeout, int attempts, Result<?, ?> result) {
+        super(message, condition, timeout, unquotedString(Integer.toString(attempts)), result);
+    }
+
+    private ResultShouldEventually(
+            String message, Duration timeout, int attempts, Result<?, ?> result, String error) {
+        super(message, timeout, unquotedString(Integer.toString(attempts)), result, unquotedString(error));
+    }
+
+    /**
+     * Indicates that a supplied {@link Result} should eventually be a success.
+     *
+     * @return a error message factory.
+     * @param timeout the maximum time to wait
+     * @param attempts the number of attempts
+     * @param result the last observed result
+     */
+    static ResultShouldEventually shouldEventuallyBeSuccess(Duration timeout, int attempts, Result<?, ?> result) {
+        return new ResultShouldEventually(EXPECTING_SUCCESS, timeout, attempts, result);
+    }
+
+    /**
+     * Indicates that a supplied {@link Result} should eventually be a success satisfying a condition.
+     *
+     * @return a error message factory.
+     * @param condition the condition the success value should satisfy
+     * @param timeout the maximum time to wait
+     * @param attempts the number of attempts
+     * @param result the last observed result
+     */
+    static ResultShouldEventually shouldEventuallyBeSuccessSatisfying(
+            Condition<?> condition, Duration timeout, int attempts, Result<?, ?> result) {
+        return new ResultShouldEventually(EXPECTING_SUCCESS_SATISFYING, condition, timeout, attempts, result);
+    }
+
+    /**
+     * Indicates that a supplied {@link Result} should eventually be a success satisfying some requirements.
+     *
+     * @return a error message factory.
+     * @param timeout the maximum time to wait
+     * @param attempts the number of attempts
+     * @param result the last observed result
+     * @param error the message of the last requirements error
+     */
+    static ResultShouldEventually shouldEventuallyBeSuccessSatisfying(
+            Duration timeout, int attempts, Result<?, ?> result, String error) {
+        return new ResultShouldEventually(
+                EXPECTING_SUCCESS_SATISFYING_REQUIREMENTS, timeout, attempts, result, error);
+    }
+}
@@ -16,41 +16,156 @@
 
 package com.leakyabstractions.result.assertj;
 
-import org.assertj.core.error.BasicErrorMessageFactory;
+import static com.leakyabstractions.result.assertj.ResultErrorMessageFactory.resultRepresentation;
+import static org.assertj.core.error.BasicErrorMessageFactory.unquotedString;
+
+import org.assertj.core.description.Description;
+import org.assertj.core.error.MessageFormatter;
+import org.assertj.core.internal.ComparisonStrategy;
+import org.assertj.core.internal.StandardComparisonStrategy;
+import org.assertj.core.presentation.Representation;
 
 import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.assertj.ResultFailureReport.Side;
 
 /**
  * Build error message when a {@link Result} should have a specific success/failure value.
  *
  * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
  */
-class ResultShouldHave extends BasicErrorMessageFactory {
+class ResultShouldHave extends ResultErrorMessageFactory {
 
     private static final String EXPECTING_VALUE_BUT_DIFFERENT = "%nExpecting result:%n  <%s>%nto contain:%n  <%s>%nbut did contain:%n  <%s>.";
     private static final String EXPECTING_CLASS_BUT_DIFFERENT = "%nExpecting result:%n  <%s>%nto contain a value that is an instance of:%n <%s>%nbut did contain an instance of:%n  <%s>";
     private static final String EXPECTING_EXACT_BUT_DIFFERENT = "%nExpecting result:%n  <%s>%nto contain the instance (i.e. compared with ==):%n  <%s>%nbut did not.";
 
-    private ResultShouldHave(String message, Result<?, ?> result, Object argument) {
+    private static final String EXPECTING_VALUE_IN = "%nExpecting result:%n  <%s>%nto contain one of %s values but did contain:%n  <%s>.";
+    private static final String EXPECTING_VALUE_NOT_IN = "%nExpecting result:%n  <%s>%nnot to contain any of %s values but did contain:%n  <%s>.";
+
+    private static final String INSTANCE_OF = "shouldHaveInstanceOf";
+    private static final String IN = "shouldHaveIn";
+    private static final String NOT_IN = "shouldHaveNotIn";
+
+    private final String kind;
+    private final boolean compareValues;
+    // Describes the custom comparison strategy, if any
+    private final String comparison;
+
+    private ResultShouldHave(String kind, String message, Result<?, ?> result, Object argument) {
         super(message, result, argument);
+        this.kind = kind;
+        this.compareValues = false;
+        this.comparison = null;
     }
 
     private ResultShouldHave(
-            String message, Result<?, ?> result, Object argument1, Object argument2) {
+            String kind,
+            String message,
+            Result<?, ?> result,
+            Object argument1,
+            Object argument2,
+            boolean compareValues,
+            ComparisonStrategy comparisonStrategy) {
         super(message, result, argument1, argument2);
+        this.kind = kind;
+        this.compareValues = compareValues;
+        this.comparison = comparisonStrategy instanceof StandardComparisonStrategy ? null : comparisonStrategy.asText();
+    }
+
+    @Override
+    ResultFailureReport report(Description description, Representation representation) {
+        final Result<?, ?> result = (Result<?, ?>) this.arguments[0];
+        // The actual result always holds a value on the expected side
+        final Side side = result.hasSuccess() ? Side.SUCCESS : Side.FAILURE;
+        // Instance-of failures expect a type rather than a value; membership failures expect any of many values
+        final boolean expectsType = INSTANCE_OF.equals(this.kind);
+        final boolean expectsValue = !expectsType && !IN.equals(this.kind) && !NOT_IN.equals(this.kind);
+        final Object expected = this.arguments[1];
+        final String expectedType = expectsType
+                ? (String) expected
+                : expectsValue ? ResultFailureReport.typeOf(expected) : null;
+        return ResultFailureReport.report(
+                this.kind, side, result, expectedType, expectsValue, expected, description, representation);
+    }
+
+    @Override
+    public String create(Description description, Representation representation) {
+        final String message = this.createMessage(description, representation);
+        if (this.comparison != null) {
+            // Values compared with a custom comparator are not diffed, since their differences may be irrelevant
+            return message + String.format("%n") + this.comparison;
+        }
+        if (this.compareValues) {
+            final Representation diffRepresentation = resultRepresentation(representation);
+            return message + ResultDiff.diff(this.arguments[1], this.arguments[2], diffRepresentation);
+        }
+        return message;
+    }
+
+    private String createMessage(Description description, Representation representation) {
+        final Representation actualRepresentation = resultRepresentation(representation);
+        if (!this.compareValues || !(actualRepresentation instanceof ResultRepresentation)) {
+            return super.create(description, actualRepresentation);
+        }
+        // Abbreviate expected and actual values around the region where they differ
+        final ResultRepresentation resultRepresentation = (ResultRepresentation) actualRepresentation;
+        final String[] values = resultRepresentation.toStringOf(this.arguments[1], this.arguments[2]);
+        return MessageFormatter.instance().format(description, resultRepresentation, "")
+                + String.format(
+                        this.format, resultRepresentation.toStringOf(this.arguments[0]), values[0], values[1]);
     }
 
     static ResultShouldHave shouldHave(
             Result<?, ?> result, Object expectedValue, Object actualValue) {
-        return new ResultShouldHave(EXPECTING_VALUE_BUT_DIFFERENT, result, expectedValue, actualValue);
+        return shouldHave(result, expectedValue, actualValue, StandardComparisonStrategy.instance());
+    }
+
+    static ResultShouldHave shouldHave(
+            Result<?, ?> result, Object expectedValue, Object actualValue, ComparisonStrategy comparisonStrategy) {
+        return new ResultShouldHave(
+                "shouldHave",
+                EXPECTING_VALUE_BUT_DIFFERENT,
+                result,
+                expectedValue,
+                actualValue,
+                true,
+                comparisonStrategy);
     }
 
     static ResultShouldHave shouldHaveSame(Result<?, ?> result, Object expectedValue) {
-        return new ResultShouldHave(EXPECTING_EXACT_BUT_DIFFERENT, result, expectedValue);
+        return new ResultShouldHave("shouldHaveSame", EXPECTING_EXACT_BUT_DIFFERENT, result, expectedValue);
+    }
+
+    static ResultShouldHave shouldHaveIn(Result<?, ?> result, int size, Object value) {
+        return new ResultShouldHave(
+                IN,
+                EXPECTING_VALUE_IN,
+                result,
+                unquotedString(Integer.toString(size)),
+                value,
+                false,
+                StandardComparisonStrategy.instance());
+    }
+
+    static ResultShouldHave shouldHaveNotIn(Result<?, ?> result, int size, Object value) {
+        return new ResultShouldHave(
+                NOT_IN,
+                EXPECTING_VALUE_NOT_IN,
+                result,
+                unquotedString(Integer.toString(size)),
+                value,
+                false,
+                StandardComparisonStrategy.instance());
     }
 
     static ResultShouldHave shouldHaveInstanceOf(Result<?, ?> result, Class<?> clazz, Object value) {
         return new ResultShouldHave(
-                EXPECTING_CLASS_BUT_DIFFERENT, result, clazz.getName(), value.getClass().getName());
+                INSTANCE_OF,
+                EXPECTING_CLASS_BUT_DIFFERENT,
+                result,
+                clazz.getName(),
+                value.getClass().getName(),
+                false,
+                StandardComparisonStrategy.instance());
     }
 }
@@ -16,17 +16,37 @@
 
 package com.leakyabstractions.result.assertj;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.assertj.core.api.SoftAssertions;
 
 import com.leakyabstractions.result.api.Result;
 
 /**
  * Soft assertions for {@link Result}.
+ * <p>
+ * By default, every assertion error is retained. When soft-asserting large amounts of data, the number of retained
+ * errors can be limited with {@link #withMaxRetainedErrors(int)}: further errors are only counted by kind of failure,
+ * and a compact summary of the counts is reported along with the retained errors.
+ * <p>
+ * Soft assertions can also fail fast once many errors have been collected: after reaching the threshold set with
+ * {@link #skipAfterErrors(int)}, further {@link Result} assertions are only counted instead of evaluated; and after
+ * reaching the threshold set with {@link #abortAfterErrors(int)}, the next {@link Result} assertion throws an error
+ * aggregating all the errors collected so far.
  *
  * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
  */
 public class ResultSoftAssertions extends SoftAssertions {
 
+    private int maxRetainedErrors = -1;
+    private ResultErrorGroups errorGroups;
+    private int errorThreshold = -1;
+    private boolean abortOnThreshold;
+    private long collectedErrors;
+    private long skippedAssertions;
+    private boolean lastDiscarded;
+
     /** Creates a new instance. */
     protected ResultSoftAssertions() {
         /* do nothing */
@@ -40,8 +60,231 @@ public class ResultSoftAssertions extends SoftAssertions {
      * @param actual the actual value.
      * @return the created soft assertion object.
      */
-    @SuppressWarnings("unchecked")
     public <S, F> ResultAssert<S, F> assertThat(Result<S, F> actual) {
-        return this.proxy(ResultAssert.class, Result.class, actual);
+        if (this.errorThreshold < 0 || this.collectedErrors() < this.errorThreshold) {
+            return new SoftResultAssert<>(actual, this);
+        }
+        if (this.abortOnThreshold) {
+            this.assertAll();
+        }
+        this.countSkippedAssertion();
+        return new SoftResultAssert<>(actual, this, true);
+    }
+
+    /**
+     * Stops evaluating {@link Result} assertions once the given number of errors has been collected.
+     * <p>
+     * Once the threshold is reached, the assertion objects returned by {@link #assertThat(Result)} do nothing and the
+     * errors of the assertions chained to their navigation methods are discarded. The errors collected by these soft
+     * assertions then include an additional error with the number of skipped assertions.
+     *
+     * @param threshold the number of collected errors after which assertions are skipped.
+     * @return these soft assertions.
+     */
+    public ResultSoftAssertions skipAfterErrors(int threshold) {
+        return this.withErrorThreshold(threshold, false);
+    }
+
+    /**
+     * Aborts immediately once the given number of errors has been collected.
+     * <p>
+     * As soon as the error that reaches the threshold is collected, the failed assertion throws an error aggregating all
+     * the errors collected so far, just like {@link #assertAll()}. Any further call to {@link #assertThat(Result)} throws
+     * the same aggregated error.
+     *
+     * @param threshold the number of collected errors after which assertions are aborted.
+     * @return these soft assertions.
+     */
+    public ResultSoftAssertions abortAfterErrors(int threshold) {
+        return this.withErrorThreshold(threshold, true);
+    }
+
+    /**
+     * Returns the number of {@link Result} assertions skipped after reaching the error threshold.
+     *
+     * @return the number of skipped assertions.
+     * @see #skipAfterErrors(int)
+     */
+    public long skippedAssertions() {
+        return this.skippedAssertions;
+    }
+
+    /**
+     * Limits the number of assertion errors retained in full.
+     * <p>
+     * Once the limit is reached, further errors are discarded after being counted by kind of failure and message
+     * template, so that memory use stays bounded no matter how many assertions fail. The errors collected by these
+     * soft assertions then include an additional error with a {@link #errorSummary() summary} of the counts.
+     *
+     * @param maxErrors the maximum number of errors to retain in full.
+     * @return these soft assertions.
+     */
+    public ResultSoftAssertions withMaxRetainedErrors(int maxErrors) {
+        if (maxErrors < 0) {
+            throw new IllegalArgumentException("The maximum number of retained errors should not be negative.");
+        }
+        if (this.errorGroups == null) {
+            this.errorGroups = new ResultErrorGroups();
+        }
+        this.maxRetainedErrors = maxErrors;
+        return this;
+    }
+
+    /**
+     * Returns a compact report of the collected errors, grouped by kind of failure and message template.
+     * <p>
+     * Errors are only grouped when the number of retained errors is {@link #withMaxRetainedErrors(int) limited}.
+     *
+     * @return the summary of the collected errors; or an empty string if errors are not grouped.
+     */
+    public String errorSummary() {
+        return this.errorGroups == null ? "" : this.errorGroups.summary();
+    }
+
+    @Override
+    public void collectAssertionError(AssertionError error) {
+        this.countCollectedError();
+        if (this.errorGroups == null || this.shouldRetain(error)) {
+            if (error instanceof ResultAssertionError) {
+                ((ResultAssertionError) error).render();
+            }
+            this.retain(error);
+        } else {
+            this.discard(error);
+        }
+        if (this.abortOnThreshold && this.collectedErrors() >= this.errorThreshold) {
+            this.assertAll();
+        }
+    }
+
+    @Override
+    public void succeeded() {
+        this.lastDiscarded = false;
+        super.succeeded();
+    }
+
+    @Override
+    public boolean wasSuccess() {
+        return !this.lastDiscarded && super.wasSuccess();
+    }
+
+    @Override
+    public List<AssertionError> assertionErrorsCollected() {
+        final List<AssertionError> errors = withLineNumbers(this.retainedErrors());
+        final boolean discarded = this.hasDiscardedErrors();
+        final long skipped = this.skippedAssertions();
+        if (!discarded && skipped == 0) {
+            return errors;
+        }
+        final List<AssertionError> summarized = new ArrayList<>(errors.size() + 2);
+        summarized.addAll(errors);
+        if (discarded) {
+            summarized.add(new AssertionError(this.errorSummary()));
+        }
+        if (skipped > 0) {
+            summarized.add(new AssertionError(String.format(
+                    "Soft assertions skipped: %d after reaching the threshold of %d errors", skipped,
+                    this.errorThreshold)));
+        }
+        return summarized;
+    }
+
+    /**
+     * Adds the location of the failed assertions to the messages of {@link Result} assertion errors.
+     *
+     * @param errors the retained errors.
+     * @return the retained errors, with line numbers.
+     */
+    private static List<AssertionError> withLineNumbers(List<AssertionError> errors) {
+        final List<AssertionError> decorated = new ArrayList<>(errors.size());
+        for (final AssertionError error : errors) {
+            if (error instanceof ResultAssertionError) {
+                decorated.add(((ResultAssertionError) error).withLineNumber());
+            } else {
+                decorated.add(error);
+            }
+        }
+        return decorated;
+    }
+
+    /**
+     * Sets the number of collected errors after which {@link Result} assertions are skipped or aborted.
+     *
+     * @param threshold the number of collected errors.
+     * @param abort {@code true} to abort; {@code false} to skip.
+     * @return these soft assertions.
+     */
+    ResultSoftAssertions withErrorThreshold(int threshold, boolean abort) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("The error threshold should be positive.");
+        }
+        this.errorThreshold = threshold;
+        this.abortOnThreshold = abort;
+        return this;
+    }
+
+    /** Counts a collected error, whether it is retained or not. */
+    void countCollectedError() {
+        this.collectedErrors++;
+    }
+
+    /**
+     * Returns the number of collected errors, whether they were retained or not.
+     *
+     * @return the number of collected errors.
+     */
+    long collectedErrors() {
+        return this.collectedErrors;
+    }
+
+    /** Counts a skipped assertion. */
+    void countSkippedAssertion() {
+        this.skippedAssertions++;
+    }
+
+    /**
+     * Counts an error when the number of retained errors is limited, and decides whether to retain it.
+     *
+     * @param error the collected error.
+     * @return {@code true} if the error should be retained in full.
+     */
+    boolean shouldRetain(AssertionError error) {
+        return this.errorGroups.add(error, this.maxRetainedErrors);
+    }
+
+    /**
+     * Returns whether some collected errors were discarded.
+     *
+     * @return {@code true} if some errors were not retained in full.
+     */
+    boolean hasDiscardedErrors() {
+        return this.errorGroups != null && this.errorGroups.total() > this.errorGroups.retained();
+    }
+
+    /**
+     * Retains an error in full.
+     *
+     * @param error the error to retain.
+     */
+    void retain(AssertionError error) {
+        super.collectAssertionError(error);
+    }
+
+    /**
+     * Records the failure of an assertion whose error is not retained in full.
+     *
+     * @param error the discarded error.
+     */
+    void discard(AssertionError error) {
+        this.lastDiscarded = true;
+    }
+
+    /**
+     * Returns the errors retained in full.
+     *
+     * @return the retained errors.
+     */
+    List<AssertionError> retainedErrors() {
+        return super.assertionErrorsCollected();
     }
 }
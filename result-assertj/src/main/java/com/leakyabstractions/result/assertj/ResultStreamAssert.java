@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import java.util.stream.Stream;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Bulk assertions for {@link Stream streams} of {@link Result} objects.
+ * <p>
+ * Elements are consumed lazily and are not retained, except for a bounded sample of offending ones. Assertions that
+ * expect all elements to be successes or failures stop consuming the stream at the first offending element, and
+ * {@link #hasFailureCountAtMost(long)} stops as soon as the maximum number of failures is exceeded.
+ * <p>
+ * Since streams can be consumed only once, each assertion object can perform a single assertion, which closes the
+ * stream once it is done.
+ *
+ * @param <S> type of the success value contained in the {@link Result} objects.
+ * @param <F> type of the failure value contained in the {@link Result} objects.
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+public class ResultStreamAssert<S, F>
+        extends AbstractResultsAssert<ResultStreamAssert<S, F>, Stream<? extends Result<S, F>>, S, F> {
+
+    ResultStreamAssert(Stream<? extends Result<S, F>> actual) {
+        super(actual, ResultStreamAssert.class);
+    }
+
+    /**
+     * Create bulk assertion for {@link Stream streams} of {@link Result} objects.
+     * <p>
+     * This static method is provided for convenience, in case {@link ResultAssertions#assertThatResults(Stream)}
+     * can't be statically imported.
+     *
+     * @param <S> type of the success value contained in the {@link Result} objects.
+     * @param <F> type of the failure value contained in the {@link Result} objects.
+     * @param actual the actual value.
+     * @return the created assertion object.
+     */
+    public static <S, F> ResultStreamAssert<S, F> assertThatResultStream(Stream<? extends Result<S, F>> actual) {
+        return new ResultStreamAssert<>(actual);
+    }
+
+    @Override
+    Stream<? extends Result<S, F>> elements() {
+        return this.actual;
+    }
+
+    @Override
+    boolean isFailFast() {
+        return true;
+    }
+}
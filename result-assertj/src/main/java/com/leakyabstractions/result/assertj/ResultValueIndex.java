@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static java.util.Collections.unmodifiableSet;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Hash index of the expected values of membership assertions.
+ * <p>
+ * Checking whether a value belongs to a list or to any other collection that is not a set takes linear time. When many
+ * results are verified against the same large collection of values, it can be indexed once and the index passed to
+ * every assertion instead:
+ *
+ * <pre class="row-color rowColor">
+ * <code>&nbsp;
+ * Set&lt;String&gt; currencies = ResultValueIndex.of(Arrays.asList("EUR", "USD", "GBP", "JPY"));
+ * for (Result&lt;String, String&gt; result : results) {
+ *     assertThat(result).hasSuccessIn(currencies);
+ * }
+ * </code>
+ * </pre>
+ *
+ * The index is a snapshot: changes made to the given values after indexing them are not reflected.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+public final class ResultValueIndex {
+
+    private ResultValueIndex() {
+        /* do nothing */
+    }
+
+    /**
+     * Returns an unmodifiable hash set with the same elements as the given collection.
+     *
+     * @param <T> the type of the values.
+     * @param values the values to index.
+     * @return a snapshot of the given values, whose {@code contains} method takes constant time.
+     * @throws IllegalArgumentException if {@code values} is {@code null}.
+     */
+    public static <T> Set<T> of(Collection<? extends T> values) {
+        if (values == null) {
+            throw new IllegalArgumentException("The values should not be <null>.");
+        }
+        return unmodifiableSet(new HashSet<>(values));
+    }
+}
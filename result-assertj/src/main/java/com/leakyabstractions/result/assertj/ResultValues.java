@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import java.util.function.Function;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Allocation-free access to the values held by {@link Result} objects.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+final class ResultValues {
+
+    private ResultValues() {
+        /* do nothing */
+    }
+
+    /**
+     * Returns the success value of a successful {@link Result}.
+     *
+     * @param <S> the success type.
+     * @param <F> the failure type.
+     * @param result the successful result.
+     * @return the success value.
+     */
+    static <S, F> S successOf(Result<S, F> result) {
+        return result.orElse(null);
+    }
+
+    /**
+     * Returns the failure value of a failed {@link Result}.
+     * <p>
+     * {@link Function#identity()} is a non-capturing lambda, so passing it to {@link Result#orElseMap(Function)} makes
+     * the failed result hand its failure value back as is, without wrapping it in an {@link java.util.Optional}.
+     *
+     * @param <S> the success type.
+     * @param <F> the failure type.
+     * @param result the failed result.
+     * @return the failure value.
+     */
+    @SuppressWarnings("unchecked")
+    static <S, F> F failureOf(Result<S, F> result) {
+        final Function<? super F, ?> identity = Function.identity();
+        return (F) result.orElseMap((Function<? super F, ? extends S>) identity);
+    }
+}
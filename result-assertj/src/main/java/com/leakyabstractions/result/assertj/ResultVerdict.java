@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultRepresentation.RESULT_REPRESENTATION;
+
+import java.util.Optional;
+
+import org.assertj.core.api.WritableAssertionInfo;
+import org.assertj.core.description.EmptyTextDescription;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Outcome of checking an expectation on a {@link Result}, without throwing an {@link AssertionError}.
+ * <p>
+ * Passed verdicts are shared and carry no message. Failed verdicts render their message only when it is requested for
+ * the first time, using the same wording as the corresponding {@link Result} assertions.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @see ResultChecks
+ */
+public final class ResultVerdict {
+
+    static final ResultVerdict PASSED = new ResultVerdict(null, null);
+
+    private final String kind;
+    private final ErrorMessageFactory factory;
+    private String message;
+
+    private ResultVerdict(String kind, ErrorMessageFactory factory) {
+        this.kind = kind;
+        this.factory = factory;
+    }
+
+    /**
+     * Creates a failed verdict.
+     *
+     * @param kind the kind of failure.
+     * @param factory the error message factory.
+     * @return the created verdict.
+     */
+    static ResultVerdict failed(String kind, ErrorMessageFactory factory) {
+        return new ResultVerdict(kind, factory);
+    }
+
+    /**
+     * Returns the factory of the error message of this verdict.
+     *
+     * @return the error message factory; or {@code null} if this verdict passed.
+     */
+    ErrorMessageFactory factory() {
+        return this.factory;
+    }
+
+    /**
+     * Returns whether the expectation holds.
+     *
+     * @return {@code true} if the expectation holds.
+     */
+    public boolean passed() {
+        return this.kind == null;
+    }
+
+    /**
+     * Returns whether the expectation does not hold.
+     *
+     * @return {@code true} if the expectation does not hold.
+     */
+    public boolean failed() {
+        return this.kind != null;
+    }
+
+    /**
+     * Returns the kind of failure, such as {@code shouldBeSuccess} or {@code shouldHave}.
+     *
+     * @return the kind of failure; or {@code null} if the expectation holds.
+     */
+    public String kind() {
+        return this.kind;
+    }
+
+    /**
+     * Returns the message that describes the failure, which is rendered only when it is requested for the first time.
+     *
+     * @return the failure message; or {@code null} if the expectation holds.
+     */
+    public synchronized String message() {
+        if (this.message == null && this.factory != null) {
+            this.message = this.factory.create(EmptyTextDescription.emptyDescription(), RESULT_REPRESENTATION);
+        }
+        return this.message;
+    }
+
+    /**
+     * Returns the structured report of the failure.
+     *
+     * @return the structured report; or an empty optional if the expectation holds or the failure has no structured
+     *         form.
+     */
+    public synchronized Optional<ResultFailureReport> report() {
+        if (!(this.factory instanceof ResultErrorMessageFactory)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(((ResultErrorMessageFactory) this.factory)
+                .report(EmptyTextDescription.emptyDescription(), RESULT_REPRESENTATION));
+    }
+
+    /**
+     * Throws an assertion error if the expectation does not hold.
+     *
+     * @throws AssertionError if the expectation does not hold.
+     */
+    public void orElseThrow() {
+        if (this.kind != null) {
+            throw ResultAssertionError.failure(new WritableAssertionInfo(), this.factory);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this.kind == null ? "ResultVerdict[passed]" : "ResultVerdict[" + this.kind + "]";
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import org.assertj.core.api.Condition;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Build error message when all {@link Result} objects in a sequence should be successes or failures.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+class ResultsShouldBe extends ResultErrorMessageFactory {
+
+    private static final String EXPECTING_SUCCESSES = "%nExpecting all results to be successes but %s of %s inspected were not.%nOffending indices:%n  <%s>%nOffending results:%n  <%s>";
+    private static final String EXPECTING_FAILURES = "%nExpecting all results to be failures but %s of %s inspected were not.%nOffending indices:%n  <%s>%nOffending results:%n  <%s>";
+    private static final String EXPECTING_SUCCESSES_SATISFYING = "%nExpecting all results to be successes satisfying:%n  <%s>%nbut %s of %s inspected were not.%nOffending indices:%n  <%s>%nOffending results:%n  <%s>";
+    private static final String EXPECTING_FAILURES_SATISFYING = "%nExpecting all results to be failures satisfying:%n  <%s>%nbut %s of %s inspected were not.%nOffending indices:%n  <%s>%nOffending results:%n  <%s>";
+
+    private static final String EXPECTING_PLAN = "%nExpecting all results to satisfy:%n  <%s>%nbut %s of %s inspected did not.%nOffending indices:%n  <%s>%nOffending results:%n  <%s>";
+
+    private ResultsShouldBe(String message, ResultScan<?, ?> scan) {
+        super(
+                message,
+                unquotedString(Long.toString(scan.offending())),
+                unquotedString(Long.toString(scan.inspected())),
+                unquotedString(scan.indices()),
+                scan.sample());
+    }
+
+    private ResultsShouldBe(String message, Object expectation, ResultScan<?, ?> scan) {
+        super(
+                message,
+                expectation,
+                unquotedString(Long.toString(scan.offending())),
+                unquotedString(Long.toString(scan.inspected())),
+                unquotedString(scan.indices()),
+                scan.sample());
+    }
+
+    /**
+     * Indicates that all {@link Result} objects should be successes.
+     *
+     * @return a error message factory.
+     * @param scan the tally of the inspected results
+     */
+    static ResultsShouldBe shouldAllBeSuccesses(ResultScan<?, ?> scan) {
+        return new ResultsShouldBe(EXPECTING_SUCCESSES, scan);
+    }
+
+    /**
+     * Indicates that all {@link Result} objects should be failures.
+     *
+     * @return a error message factory.
+     * @param scan the tally of the inspected results
+     */
+    static ResultsShouldBe shouldAllBeFailures(ResultScan<?, ?> scan) {
+        return new ResultsShouldBe(EXPECTING_FAILURES, scan);
+    }
+
+    /**
+     * Indicates that all {@link Result} objects should be successes satisfying a condition.
+     *
+     * @return a error message factory.
+     * @param condition the condition the success values should satisfy
+     * @param scan the tally of the inspected results
+     */
+    static ResultsShouldBe shouldAllBeSuccessesSatisfying(Condition<?> condition, ResultScan<?, ?> scan) {
+        return new ResultsShouldBe(EXPECTING_SUCCESSES_SATISFYING, condition, scan);
+    }
+
+    /**
+     * Indicates that all {@link Result} objects should be failures satisfying a condition.
+     *
+     * @return a error message factory.
+     * @param condition the condition the failure values should satisfy
+     * @param scan the tally of the inspected results
+     */
+    static ResultsShouldBe shouldAllBeFailuresSatisfying(Condition<?> condition, ResultScan<?, ?> scan) {
+        return new ResultsShouldBe(EXPECTING_FAILURES_SATISFYING, condition, scan);
+    }
+
+    /**
+     * Indicates that all {@link Result} objects should satisfy an assertion plan.
+     *
+     * @return a error message factory.
+     * @param plan the plan the results should satisfy
+     * @param scan the tally of the inspected results
+     */
+    static ResultsShouldBe shouldAllSatisfy(ResultAssertionPlan<?, ?> plan, ResultScan<?, ?> scan) {
+        return new ResultsShouldBe(EXPECTING_PLAN, unquotedString(plan.toString()), scan);
+    }
+}
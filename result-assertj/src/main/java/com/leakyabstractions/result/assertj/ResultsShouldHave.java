@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Build error message when a sequence of {@link Result} objects should have a specific number of successes/failures.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+class ResultsShouldHave extends ResultErrorMessageFactory {
+
+    private static final String EXPECTING_SUCCESS_COUNT = "%nExpecting results to contain %s successes but found %s (%s results inspected).%nIndices of results that are not successes:%n  <%s>%nResults that are not successes:%n  <%s>";
+    private static final String EXPECTING_FAILURE_COUNT = "%nExpecting results to contain %s failures but found %s (%s results inspected).%nNull elements, which are not failures:%n  <%s>%nIndices of failures:%n  <%s>%nFailures:%n  <%s>";
+    private static final String EXPECTING_FAILURE_COUNT_AT_MOST = "%nExpecting results to contain at most %s failures but found %s (%s results inspected).%nNull elements, which are not failures:%n  <%s>%nIndices of failures:%n  <%s>%nFailures:%n  <%s>";
+
+    private ResultsShouldHave(String message, Object... arguments) {
+        super(message, arguments);
+    }
+
+    /**
+     * Indicates that a sequence of {@link Result} objects should have a specific number of successes.
+     *
+     * @return a error message factory.
+     * @param expected the expected number of successes
+     * @param scan the tally of the inspected results, where offending elements are the ones that are not successes
+     */
+    static ResultsShouldHave shouldHaveSuccessCount(long expected, ResultScan<?, ?> scan) {
+        return new ResultsShouldHave(
+                EXPECTING_SUCCESS_COUNT,
+                count(expected),
+                count(scan.successes()),
+                count(scan.inspected()),
+                unquotedString(scan.indices()),
+                scan.sample());
+    }
+
+    /**
+     * Indicates that a sequence of {@link Result} objects should have a specific number of failures.
+     *
+     * @return a error message factory.
+     * @param expected the expected number of failures
+     * @param scan the tally of the inspected results, where offending elements are the failures and null elements are
+     *     expected
+     */
+    static ResultsShouldHave shouldHaveFailureCount(long expected, ResultScan<?, ?> scan) {
+        return failureCount(EXPECTING_FAILURE_COUNT, expected, scan);
+    }
+
+    /**
+     * Indicates that a sequence of {@link Result} objects should have at most a specific number of failures.
+     *
+     * @return a error message factory.
+     * @param max the maximum number of failures
+     * @param scan the tally of the inspected results, where offending elements are the failures and null elements are
+     *     expected
+     */
+    static ResultsShouldHave shouldHaveFailureCountAtMost(long max, ResultScan<?, ?> scan) {
+        return failureCount(EXPECTING_FAILURE_COUNT_AT_MOST, max, scan);
+    }
+
+    private static ResultsShouldHave failureCount(String message, long expected, ResultScan<?, ?> scan) {
+        return new ResultsShouldHave(
+                message,
+                count(expected),
+                count(scan.failures()),
+                count(scan.inspected()),
+                count(scan.nulls()),
+                unquotedString(scan.indices()),
+                scan.sample());
+    }
+
+    private static Object count(long count) {
+        return unquotedString(Long.toString(count));
+    }
+}
@@ -0,0 +1,545 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultValues.failureOf;
+import static com.leakyabstractions.result.assertj.ResultValues.successOf;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.api.AbstractIntegerAssert;
+import org.assertj.core.api.AbstractLongAssert;
+import org.assertj.core.api.AbstractStringAssert;
+import org.assertj.core.api.AssertionErrorCollector;
+import org.assertj.core.api.Condition;
+import org.assertj.core.api.InstanceOfAssertFactory;
+import org.assertj.core.api.ListAssert;
+import org.assertj.core.api.MapAssert;
+import org.assertj.core.api.ObjectAssert;
+import org.assertj.core.api.SoftAssertions;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Soft assertions for {@link Result} that collect errors directly, without creating a runtime proxy.
+ * <p>
+ * Assertion errors are handed over to the given {@link AssertionErrorCollector} instead of being thrown. Just like
+ * proxied soft assertions, navigation methods return {@code null} when the actual {@link Result} does not hold the
+ * expected value.
+ * <p>
+ * Every assertion method is overridden, including the ones inherited from AssertJ. The final methods
+ * {@code satisfies(ThrowingConsumer...)} and {@code satisfiesAnyOf(ThrowingConsumer...)} are soft as well, since they
+ * delegate to protected methods that are overridden.
+ * <p>
+ * Skipped soft assertions do not evaluate anything: assertion methods return immediately and navigation methods
+ * return assertion objects whose errors are discarded, so that assertions can still be chained to them. The value
+ * they assert on is the navigated value, or {@code null} if the {@link Result} does not hold it, except for navigation
+ * methods taking an {@link InstanceOfAssertFactory}, which return {@code null} in that case.
+ *
+ * @param <S> type of the success value contained in the {@link Result}.
+ * @param <F> type of the failure value contained in the {@link Result}.
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+final class SoftResultAssert<S, F> extends ResultAssert<S, F> {
+
+    private final AssertionErrorCollector collector;
+    // Skipped assertions are not evaluated at all
+    private final boolean skipped;
+    // Assertions invoked by other assertions must throw errors so that they are collected only once
+    private int depth;
+
+    SoftResultAssert(Result<S, F> actual, AssertionErrorCollector collector) {
+        this(actual, collector, false);
+    }
+
+    SoftResultAssert(Result<S, F> actual, AssertionErrorCollector collector, boolean skipped) {
+        super(actual);
+        this.collector = collector;
+        this.skipped = skipped;
+    }
+
+    @Override
+    public ResultAssert<S, F> hasSuccess() {
+        return this.soft(() -> super.hasSuccess());
+    }
+
+    @Override
+    public ResultAssert<S, F> hasSuccess(S expectedValue) {
+        return this.soft(() -> super.hasSuccess(expectedValue));
+    }
+
+    @Override
+    public ResultAssert<S, F> hasSuccessSameAs(S expectedValue) {
+        return this.soft(() -> super.hasSuccessSameAs(expectedValue));
+    }
+
+    @Override
+    public ResultAssert<S, F> hasSuccessSatisfying(Consumer<S> requirement) {
+        return this.soft(() -> super.hasSuccessSatisfying(requirement));
+    }
+
+    @Override
+    public ResultAssert<S, F> hasSuccessSatisfying(Condition<? super S> condition) {
+        return this.soft(() -> super.hasSuccessSatisfying(condition));
+    }
+
+    @Override
+    public ResultAssert<S, F> hasSuccessInstanceOf(Class<?> clazz) {
+        return this.soft(() -> super.hasSuccessInstanceOf(clazz));
+    }
+
+    @Override
+    public ResultAssert<S, F> hasSuccessIn(Collection<? extends S> values) {
+        return this.soft(() -> super.hasSuccessIn(values));
+    }
+
+    @Override
+    public ResultAssert<S, F> hasSuccessNotIn(Collection<? extends S> values) {
+        return this.soft(() -> super.hasSuccessNotIn(values));
+    }
+
+    @Override
+    public ResultAssert<S, F> hasFailure() {
+        return this.soft(() -> super.hasFailure());
+    }
+
+    @Override
+    public ResultAssert<S, F> hasFailure(F expectedValue) {
+        return this.soft(() -> super.hasFailure(expectedValue));
+    }
+
+    @Override
+    public ResultAssert<S, F> hasFailureSameAs(F expectedValue) {
+        return this.soft(() -> super.hasFailureSameAs(expectedValue));
+    }
+
+    @Override
+    public ResultAssert<S, F> hasFailureSatisfying(Consumer<F> requirement) {
+        return this.soft(() -> super.hasFailureSatisfying(requirement));
+    }
+
+    @Override
+    public ResultAssert<S, F> hasFailureSatisfying(Condition<? super F> condition) {
+        return this.soft(() -> super.hasFailureSatisfying(condition));
+    }
+
+    @Override
+    public ResultAssert<S, F> hasFailureInstanceOf(Class<?> clazz) {
+        return this.soft(() -> super.hasFailureInstanceOf(clazz));
+    }
+
+    @Override
+    public ResultAssert<S, F> hasFailureIn(Collection<? extends F> values) {
+        return this.soft(() -> super.hasFailureIn(values));
+    }
+
+    @Override
+    public ResultAssert<S, F> hasFailureNotIn(Collection<? extends F> values) {
+        return this.soft(() -> super.hasFailureNotIn(values));
+    }
+
+    @Override
+    public ResultAssert<S, F> isEqualTo(Object expected) {
+        return this.soft(() -> super.isEqualTo(expected));
+    }
+
+    @Override
+    public ResultAssert<S, F> isNotEqualTo(Object other) {
+        return this.soft(() -> super.isNotEqualTo(other));
+    }
+
+    @Override
+    public void isNull() {
+        this.soft(() -> super.isNull());
+    }
+
+    @Override
+    public ResultAssert<S, F> isNotNull() {
+        return this.soft(() -> super.isNotNull());
+    }
+
+    @Override
+    public ResultAssert<S, F> isSameAs(Object expected) {
+        return this.soft(() -> super.isSameAs(expected));
+    }
+
+    @Override
+    public ResultAssert<S, F> isNotSameAs(Object other) {
+        return this.soft(() -> super.isNotSameAs(other));
+    }
+
+    @Override
+    public ResultAssert<S, F> isIn(Iterable<?> values) {
+        return this.soft(() -> super.isIn(values));
+    }
+
+    @Override
+    public ResultAssert<S, F> isNotIn(Iterable<?> values) {
+        return this.soft(() -> super.isNotIn(values));
+    }
+
+    @Override
+    public ResultAssert<S, F> isIn(Object... values) {
+        return this.soft(() -> super.isIn(values));
+    }
+
+    @Override
+    public ResultAssert<S, F> isNotIn(Object... values) {
+        return this.soft(() -> super.isNotIn(values));
+    }
+
+    @Override
+    public ResultAssert<S, F> isInstanceOf(Class<?> type) {
+        return this.soft(() -> super.isInstanceOf(type));
+    }
+
+    @Override
+    public ResultAssert<S, F> isNotInstanceOf(Class<?> type) {
+        return this.soft(() -> super.isNotInstanceOf(type));
+    }
+
+    @Override
+    public ResultAssert<S, F> isExactlyInstanceOf(Class<?> type) {
+        return this.soft(() -> super.isExactlyInstanceOf(type));
+    }
+
+    @Override
+    public ResultAssert<S, F> isNotExactlyInstanceOf(Class<?> type) {
+        return this.soft(() -> super.isNotExactlyInstanceOf(type));
+    }
+
+    @Override
+    public ResultAssert<S, F> isInstanceOfAny(Class<?>... types) {
+        return this.soft(() -> super.isInstanceOfAny(types));
+    }
+
+    @Override
+    public ResultAssert<S, F> isNotInstanceOfAny(Class<?>... types) {
+        return this.soft(() -> super.isNotInstanceOfAny(types));
+    }
+
+    @Override
+    public ResultAssert<S, F> isOfAnyClassIn(Class<?>... types) {
+        return this.soft(() -> super.isOfAnyClassIn(types));
+    }
+
+    @Override
+    public ResultAssert<S, F> isNotOfAnyClassIn(Class<?>... types) {
+        return this.soft(() -> super.isNotOfAnyClassIn(types));
+    }
+
+    @Override
+    public <T> ResultAssert<S, F> isInstanceOfSatisfying(Class<T> type, Consumer<T> requirements) {
+        return this.soft(() -> super.isInstanceOfSatisfying(type, requirements));
+    }
+
+    @Override
+    public ResultAssert<S, F> hasSameClassAs(Object other) {
+        return this.soft(() -> super.hasSameClassAs(other));
+    }
+
+    @Override
+    public ResultAssert<S, F> doesNotHaveSameClassAs(Object other) {
+        return this.soft(() -> super.doesNotHaveSameClassAs(other));
+    }
+
+    @Override
+    public ResultAssert<S, F> hasToString(String expectedToString) {
+        return this.soft(() -> super.hasToString(expectedToString));
+    }
+
+    @Override
+    public ResultAssert<S, F> hasToString(String expectedStringTemplate, Object... args) {
+        return this.soft(() -> super.hasToString(expectedStringTemplate, args));
+    }
+
+    @Override
+    public ResultAssert<S, F> doesNotHaveToString(String otherToString) {
+        return this.soft(() -> super.doesNotHaveToString(otherToString));
+    }
+
+    @Override
+    public ResultAssert<S, F> hasSameHashCodeAs(Object other) {
+        return this.soft(() -> super.hasSameHashCodeAs(other));
+    }
+
+    @Override
+    public ResultAssert<S, F> doesNotHaveSameHashCodeAs(Object other) {
+        return this.soft(() -> super.doesNotHaveSameHashCodeAs(other));
+    }
+
+    @Override
+    public ResultAssert<S, F> is(Condition<? super Result<S, F>> condition) {
+        return this.soft(() -> super.is(condition));
+    }
+
+    @Override
+    public ResultAssert<S, F> isNot(Condition<? super Result<S, F>> condition) {
+        return this.soft(() -> super.isNot(condition));
+    }
+
+    @Override
+    public ResultAssert<S, F> has(Condition<? super Result<S, F>> condition) {
+        return this.soft(() -> super.has(condition));
+    }
+
+    @Override
+    public ResultAssert<S, F> doesNotHave(Condition<? super Result<S, F>> condition) {
+        return this.soft(() -> super.doesNotHave(condition));
+    }
+
+    @Override
+    public ResultAssert<S, F> satisfies(Condition<? super Result<S, F>> condition) {
+        return this.soft(() -> super.satisfies(condition));
+    }
+
+    @Override
+    public ResultAssert<S, F> matches(Predicate<? super Result<S, F>> predicate) {
+        return this.soft(() -> super.matches(predicate));
+    }
+
+    @Override
+    public ResultAssert<S, F> matches(
+            Predicate<? super Result<S, F>> predicate, String predicateDescription) {
+        return this.soft(() -> super.matches(predicate, predicateDescription));
+    }
+
+    // The public satisfies(ThrowingConsumer...) method is final, but it delegates to this one
+    @Override
+    protected ResultAssert<S, F> satisfiesForProxy(Consumer<? super Result<S, F>>[] requirements) {
+        return this.soft(() -> super.satisfiesForProxy(requirements));
+    }
+
+    // The public satisfiesAnyOf(ThrowingConsumer...) method is final, but it delegates to this one
+    @Override
+    protected ResultAssert<S, F> satisfiesAnyOfForProxy(Consumer<? super Result<S, F>>[] assertionsGroups) {
+        return this.soft(() -> super.satisfiesAnyOfForProxy(assertionsGroups));
+    }
+
+    @Override
+    public ObjectAssert<S> hasSuccessThat() {
+        return this.softNavigation(
+                () -> super.hasSuccessThat(),
+                () -> discarding().assertThatObject(this.success()));
+    }
+
+    @Override
+    public <T extends AbstractAssert<?, ?>> T hasSuccessThat(
+            InstanceOfAssertFactory<?, T> assertFactory) {
+        return this.softNavigation(
+                () -> super.hasSuccessThat(assertFactory),
+                () -> discarding(() -> super.hasSuccessThat(assertFactory), this.success(), assertFactory));
+    }
+
+    @Override
+    public AbstractStringAssert<?> hasSuccessThatString() {
+        return this.softNavigation(
+                () -> super.hasSuccessThatString(),
+                () -> discarding().assertThat(instanceOf(this.success(), String.class)));
+    }
+
+    @Override
+    public AbstractIntegerAssert<?> hasSuccessThatInteger() {
+        return this.softNavigation(
+                () -> super.hasSuccessThatInteger(),
+                () -> discarding().assertThat(instanceOf(this.success(), Integer.class)));
+    }
+
+    @Override
+    public AbstractLongAssert<?> hasSuccessThatLong() {
+        return this.softNavigation(
+                () -> super.hasSuccessThatLong(),
+                () -> discarding().assertThat(instanceOf(this.success(), Long.class)));
+    }
+
+    @Override
+    public ListAssert<Object> hasSuccessThatList() {
+        return this.softNavigation(
+                () -> super.hasSuccessThatList(),
+                () -> discarding().<Object>assertThat(listOf(this.success())));
+    }
+
+    @Override
+    public MapAssert<Object, Object> hasSuccessThatMap() {
+        return this.softNavigation(
+                () -> super.hasSuccessThatMap(),
+                () -> discarding().assertThat(mapOf(this.success())));
+    }
+
+    @Override
+    public ObjectAssert<F> hasFailureThat() {
+        return this.softNavigation(
+                () -> super.hasFailureThat(),
+                () -> discarding().assertThatObject(this.failure()));
+    }
+
+    @Override
+    public <T extends AbstractAssert<?, ?>> T hasFailureThat(
+            InstanceOfAssertFactory<?, T> assertFactory) {
+        return this.softNavigation(
+                () -> super.hasFailureThat(assertFactory),
+                () -> discarding(() -> super.hasFailureThat(assertFactory), this.failure(), assertFactory));
+    }
+
+    @Override
+    public AbstractStringAssert<?> hasFailureThatString() {
+        return this.softNavigation(
+                () -> super.hasFailureThatString(),
+                () -> discarding().assertThat(instanceOf(this.failure(), String.class)));
+    }
+
+    @Override
+    public AbstractIntegerAssert<?> hasFailureThatInteger() {
+        return this.softNavigation(
+                () -> super.hasFailureThatInteger(),
+                () -> discarding().assertThat(instanceOf(this.failure(), Integer.class)));
+    }
+
+    @Override
+    public AbstractLongAssert<?> hasFailureThatLong() {
+        return this.softNavigation(
+                () -> super.hasFailureThatLong(),
+                () -> discarding().assertThat(instanceOf(this.failure(), Long.class)));
+    }
+
+    @Override
+    public ListAssert<Object> hasFailureThatList() {
+        return this.softNavigation(
+                () -> super.hasFailureThatList(),
+                () -> discarding().<Object>assertThat(listOf(this.failure())));
+    }
+
+    @Override
+    public MapAssert<Object, Object> hasFailureThatMap() {
+        return this.softNavigation(
+                () -> super.hasFailureThatMap(),
+                () -> discarding().assertThat(mapOf(this.failure())));
+    }
+
+    /**
+     * Evaluates an assertion, collecting its error instead of throwing it.
+     *
+     * @param assertion the assertion to evaluate.
+     * @return this assertion object.
+     */
+    private ResultAssert<S, F> soft(Runnable assertion) {
+        if (!this.skipped) {
+            this.evaluate(() -> {
+                assertion.run();
+                return this;
+            });
+        }
+        return this;
+    }
+
+    /**
+     * Evaluates a navigation method, collecting its error instead of throwing it.
+     *
+     * @param <T> the type of the navigation assertion object.
+     * @param navigation the navigation method to evaluate.
+     * @param skippedNavigation the navigation assertion object to return when skipped, whose errors are discarded.
+     * @return the navigation assertion object; or {@code null} if it failed.
+     */
+    private <T> T softNavigation(Supplier<T> navigation, Supplier<T> skippedNavigation) {
+        return this.skipped ? skippedNavigation.get() : this.evaluate(navigation);
+    }
+
+    /**
+     * Evaluates an assertion or navigation method, collecting its error instead of throwing it.
+     *
+     * @param <T> the type of the value returned by the method.
+     * @param method the method to evaluate.
+     * @return the value returned by the method; or {@code null} if it failed.
+     */
+    private <T> T evaluate(Supplier<T> method) {
+        this.depth++;
+        try {
+            final T value = method.get();
+            this.succeeded();
+            return value;
+        } catch (AssertionError error) {
+            this.collect(error);
+            return null;
+        } finally {
+            this.depth--;
+        }
+    }
+
+    private S success() {
+        return this.actual == null ? null : successOf(this.actual);
+    }
+
+    private F failure() {
+        return this.actual == null || !this.actual.hasFailure() ? null : failureOf(this.actual);
+    }
+
+    private static <T> T instanceOf(Object value, Class<T> type) {
+        return type.isInstance(value) ? type.cast(value) : null;
+    }
+
+    private static List<?> listOf(Object value) {
+        return value instanceof List ? (List<?>) value : null;
+    }
+
+    @SuppressWarnings("unchecked") // The map is only read
+    private static Map<Object, Object> mapOf(Object value) {
+        return value instanceof Map ? (Map<Object, Object>) value : null;
+    }
+
+    private static SoftAssertions discarding() {
+        return new DiscardingSoftAssertions();
+    }
+
+    // Only the navigation method knows which type the factory expects
+    private static <T extends AbstractAssert<?, ?>> T discarding(
+            Supplier<T> navigation, Object value, InstanceOfAssertFactory<?, T> assertFactory) {
+        try {
+            navigation.get();
+        } catch (AssertionError error) {
+            return null;
+        }
+        return discarding().assertThatObject(value).asInstanceOf(assertFactory);
+    }
+
+    private void succeeded() {
+        if (this.depth == 1) {
+            this.collector.succeeded();
+        }
+    }
+
+    private void collect(AssertionError error) {
+        if (this.depth > 1) {
+            throw error;
+        }
+        this.collector.collectAssertionError(error);
+    }
+
+    /** Soft assertions that discard the errors of the assertions chained to skipped navigation methods. */
+    private static final class DiscardingSoftAssertions extends SoftAssertions {
+
+        @Override
+        public void collectAssertionError(AssertionError error) {
+            /* do nothing */
+        }
+    }
+}
@@ -16,6 +16,8 @@
 
 package org.assertj.core.api;
 
+import java.util.List;
+
 /**
  * Proxy to access package-protected methods in {@code org.assertj.core.api}.
  *
@@ -37,4 +39,33 @@ public interface ObjectAssertProxy {
     static <T> ObjectAssert<T> assertWithAssertionState(AbstractAssert<?, ?> state, T actual) {
         return Assertions.assertThatObject(actual).withAssertionState(state);
     }
+
+    /**
+     * Assert list with assertion state.
+     * <p>
+     * Invokes {@link Assertions#assertThat(List)} and then {@link ListAssert#withAssertionState(AbstractAssert)}.
+     *
+     * @param <E> the type of elements.
+     * @param state the assertion state.
+     * @param actual the actual list.
+     * @return the created assertion object with the assertion state.
+     */
+    static <E> ListAssert<E> assertListWithAssertionState(AbstractAssert<?, ?> state, List<? extends E> actual) {
+        return Assertions.<E>assertThat(actual).withAssertionState(state);
+    }
+
+    /**
+     * Assert with assertion state.
+     * <p>
+     * Invokes {@link AbstractAssert#withAssertionState(AbstractAssert)}.
+     *
+     * @param <A> the type of the assert.
+     * @param assertion the assertion object.
+     * @param state the assertion state.
+     * @return the given assertion object with the assertion state.
+     */
+    static <A extends AbstractAssert<?, ?>> A withAssertionState(A assertion, AbstractAssert<?, ?> state) {
+        assertion.withAssertionState(state);
+        return assertion;
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import org.assertj.core.api.AssertionInfo;
+
+/**
+ * Emits Java Flight Recorder events for {@link com.leakyabstractions.result.api.Result Result} assertions.
+ * <p>
+ * Events are disabled by default; they need to be enabled explicitly in the recording settings:
+ *
+ * <pre class="row-color rowColor">
+ * <code>&nbsp;
+ * java -XX:StartFlightRecording:com.leakyabstractions.result.assertj.AssertionFailed#enabled=true,...
+ * </code>
+ * </pre>
+ *
+ * When the {@code jdk.jfr} module is not present, or no recording has enabled them, no event objects are created.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ * @see ResultAssertionFailedEvent
+ * @see SlowRequirementEvent
+ */
+final class ResultAssertionEvents {
+
+    private static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+    private ResultAssertionEvents() {
+        /* do nothing */
+    }
+
+    /**
+     * Emits an event for a failed assertion.
+     *
+     * @param kind the kind of failure, e.g. {@code "shouldBeSuccess"}.
+     * @param info the assertion info.
+     */
+    static void assertionFailed(String kind, AssertionInfo info) {
+        if (AVAILABLE) {
+            ResultAssertionFailedEvent.emit(kind, info);
+        }
+    }
+
+    /**
+     * Starts timing a requirement.
+     *
+     * @return an opaque event to be passed to {@link #endRequirement(Object, String, boolean)}; or {@code null}.
+     */
+    static Object beginRequirement() {
+        return AVAILABLE ? SlowRequirementEvent.beginIfEnabled() : null;
+    }
+
+    /**
+     * Stops timing a requirement and emits an event if it exceeded the configured threshold.
+     *
+     * @param event the opaque event returned by {@link #beginRequirement()}; or {@code null}.
+     * @param assertion the name of the assertion method, e.g. {@code "hasSuccessSatisfying"}.
+     * @param passed {@code true} if the requirement was met.
+     */
+    static void endRequirement(Object event, String assertion, boolean passed) {
+        if (event != null) {
+            ((SlowRequirementEvent) event).end(assertion, passed);
+        }
+    }
+}
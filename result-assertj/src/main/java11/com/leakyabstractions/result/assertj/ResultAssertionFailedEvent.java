@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import org.assertj.core.api.AssertionInfo;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for a failed {@link com.leakyabstractions.result.api.Result Result} assertion.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+@Name(ResultAssertionFailedEvent.NAME)
+@Label("Result Assertion Failed")
+@Category({"AssertJ", "Result"})
+@Description("A Result assertion failed")
+@Enabled(false)
+final class ResultAssertionFailedEvent extends Event {
+
+    static final String NAME = "com.leakyabstractions.result.assertj.AssertionFailed";
+
+    private static final EventType TYPE = EventType.getEventType(ResultAssertionFailedEvent.class);
+
+    @Label("Kind")
+    @Description("The kind of failure, such as shouldBeSuccess or shouldHaveInstanceOf")
+    String kind;
+
+    @Label("Description")
+    @Description("The description of the assertion, if any")
+    String description;
+
+    static void emit(String kind, AssertionInfo info) {
+        if (TYPE.isEnabled()) {
+            final ResultAssertionFailedEvent event = new ResultAssertionFailedEvent();
+            event.kind = kind;
+            event.description = info.description() == null ? null : info.description().value();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for a requirement passed to {@code hasSuccessSatisfying} or {@code hasFailureSatisfying} that
+ * took longer than the configured threshold.
+ * <p>
+ * The threshold defaults to 20 ms and can be configured with the {@code threshold} setting, e.g.
+ * {@code com.leakyabstractions.result.assertj.SlowRequirement#threshold=5 ms}.
+ *
+ * @author <a href="https://guillermo.dev/">Guillermo Calvo</a>
+ */
+@Name(SlowRequirementEvent.NAME)
+@Label("Slow Result Requirement")
+@Category({"AssertJ", "Result"})
+@Description("A requirement on the value of a Result took longer than the threshold")
+@Enabled(false)
+@Threshold("20 ms")
+final class SlowRequirementEvent extends Event {
+
+    static final String NAME = "com.leakyabstractions.result.assertj.SlowRequirement";
+
+    private static final EventType TYPE = EventType.getEventType(SlowRequirementEvent.class);
+
+    @Label("Assertion")
+    @Description("The assertion method that evaluated the requirement")
+    String assertion;
+
+    @Label("Passed")
+    @Description("Whether the requirement was met")
+    boolean passed;
+
+    static SlowRequirementEvent beginIfEnabled() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        final SlowRequirementEvent event = new SlowRequirementEvent();
+        event.begin();
+        return event;
+    }
+
+    void end(String assertion, boolean passed) {
+        this.end();
+        if (this.shouldCommit()) {
+            this.assertion = assertion;
+            this.passed = passed;
+            this.commit();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultShouldBe.shouldBeSuccess;
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ConcurrentResultSoftAssertions#assertAll()}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ConcurrentResultSoftAssertions assertAll")
+class ConcurrentResultSoftAssertions_assertAll_Test {
+
+    private static final int THREADS = 16;
+    private static final int ASSERTIONS = 100;
+
+    @Test
+    void should_collect_errors_by_thread_and_then_sequence() throws InterruptedException {
+        // Given
+        final ConcurrentResultSoftAssertions softly = new ConcurrentResultSoftAssertions();
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            final int first = t * ASSERTIONS;
+            threads.add(new Thread(() -> {
+                await(start);
+                for (int i = first; i < first + ASSERTIONS; i++) {
+                    softly.assertThat(failure(i)).hasSuccess();
+                    softly.assertThat(success(i)).hasSuccess();
+                }
+            }));
+        }
+        // When
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        // Then
+        final List<String> expected = new ArrayList<>();
+        for (int i = 0; i < THREADS * ASSERTIONS; i++) {
+            expected.add(shouldBeSuccess(failure(i)).create());
+        }
+        final List<String> actual = new ArrayList<>();
+        softly.assertionErrorsCollected().forEach(error -> actual.add(error.getMessage()));
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void should_pass_when_all_assertions_pass() throws InterruptedException {
+        // Given
+        final ConcurrentResultSoftAssertions softly = new ConcurrentResultSoftAssertions();
+        final Thread thread = new Thread(() -> softly.assertThat(success("hello")).hasSuccess("hello"));
+        // When
+        thread.start();
+        thread.join();
+        final ThrowingCallable assertAll = softly::assertAll;
+        // Then
+        assertThatCode(assertAll).doesNotThrowAnyException();
+    }
+
+    @Test
+    void should_bound_errors_collected_from_many_threads() throws InterruptedException {
+        // Given
+        final ConcurrentResultSoftAssertions softly = new ConcurrentResultSoftAssertions();
+        softly.withMaxRetainedErrors(10);
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < ASSERTIONS; i++) {
+                    softly.assertThat(failure(i)).hasSuccess();
+                }
+            }));
+        }
+        // When
+        threads.forEach(Thread::start);
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        // Then
+        assertThat(softly.assertionErrorsCollected()).hasSize(11);
+        assertThat(softly.errorSummary()).contains("Soft assertion errors: 1600 in 1 groups (10 retained in full):");
+    }
+
+    @Test
+    void should_not_keep_buffers_of_threads_whose_assertions_pass() {
+        // Given
+        final ConcurrentResultSoftAssertions softly = new ConcurrentResultSoftAssertions();
+        // When
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 10_000; i++) {
+                executor.submit(() -> {
+                    softly.assertThat(success("hello")).hasSuccess("hello");
+                    return softly.wasSuccess();
+                });
+            }
+        }
+        // Then
+        assertThat(softly.threadBuffers()).isZero();
+        assertThatCode(softly::assertAll).doesNotThrowAnyException();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -43,4 +43,12 @@ class InstanceOfResultAssertFactories_resultOf_Test {
                 .extracting("foo", resultOf(String.class, Integer.class))
                 .hasSuccessSatisfying(string -> assertThat(string).startsWith("any").endsWith("thing"));
     }
+
+    @Test
+    void should_reuse_factory_instance() {
+        // When
+        final Object factory = resultOf(String.class, Integer.class);
+        // Then
+        assertThat(factory).isSameAs(resultOf(Long.class, Boolean.class));
+    }
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link LatencyHistogram#valueAt(double)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("LatencyHistogram valueAt")
+class LatencyHistogram_valueAt_Test {
+
+    @Test
+    void should_return_zero_when_empty() {
+        // Given
+        final LatencyHistogram histogram = new LatencyHistogram();
+        // When
+        final long value = histogram.valueAt(0.99);
+        // Then
+        assertThat(value).isEqualTo(0L);
+    }
+
+    @Test
+    void should_return_exact_values_below_256() {
+        // Given
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+        // When
+        final long value = histogram.valueAt(0.5);
+        // Then
+        assertThat(value).isEqualTo(50L);
+    }
+
+    @Test
+    void should_return_values_within_one_percent() {
+        // Given
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 100_000; i++) {
+            histogram.record(i * 1_000);
+        }
+        // When
+        final long value = histogram.valueAt(0.99);
+        // Then
+        assertThat(value).isBetween(99_000_000L, 99_990_000L);
+    }
+
+    @Test
+    void should_not_exceed_max_value() {
+        // Given
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(-1);
+        // When
+        final long value = histogram.valueAt(1);
+        // Then
+        assertThat(value).isEqualTo(Long.MAX_VALUE);
+        assertThat(histogram.valueAt(0.5)).isEqualTo(0L);
+    }
+}
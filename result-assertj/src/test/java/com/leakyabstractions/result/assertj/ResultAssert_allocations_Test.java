@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultAssertions.assertThat;
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+import java.lang.management.ManagementFactory;
+
+import org.assertj.core.api.AbstractLongAssert;
+import org.assertj.core.api.Condition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.assertj.AssertionsUtil.TestCondition;
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Tests that the passing path of {@link ResultAssert} methods does not allocate memory.
+ * <p>
+ * Navigation methods such as {@link ResultAssert#hasSuccessThat()} are not covered, since they create a new assertion
+ * object by design.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultAssert allocations")
+class ResultAssert_allocations_Test {
+
+    private static final int WARM_UP_CALLS = 20_000;
+    private static final int MEASURED_CALLS = 100_000;
+    // Leaves some room for the bytes allocated by the measurement itself
+    private static final long MAX_ALLOCATED_BYTES = 1024;
+
+    private static final String SUCCESS = "success";
+    private static final Integer FAILURE = 123;
+
+    private final ResultAssert<String, Integer> successAssert = assertThat(success(SUCCESS));
+    private final ResultAssert<String, Integer> failureAssert = assertThat(failure(FAILURE));
+    private final Condition<Object> passingCondition = new TestCondition<>(true);
+
+    @Test
+    void hasSuccess_should_not_allocate() {
+        assertThatAllocatedBytes(() -> successAssert.hasSuccess()).isLessThan(MAX_ALLOCATED_BYTES);
+    }
+
+    @Test
+    void hasSuccess_with_Object_should_not_allocate() {
+        assertThatAllocatedBytes(() -> successAssert.hasSuccess(SUCCESS)).isLessThan(MAX_ALLOCATED_BYTES);
+    }
+
+    @Test
+    void hasSuccessSameAs_should_not_allocate() {
+        assertThatAllocatedBytes(() -> successAssert.hasSuccessSameAs(SUCCESS)).isLessThan(MAX_ALLOCATED_BYTES);
+    }
+
+    @Test
+    void hasSuccessSatisfying_with_Consumer_should_not_allocate() {
+        assertThatAllocatedBytes(() -> successAssert.hasSuccessSatisfying(s -> {}))
+                .isLessThan(MAX_ALLOCATED_BYTES);
+    }
+
+    @Test
+    void hasSuccessSatisfying_with_Condition_should_not_allocate() {
+        assertThatAllocatedBytes(() -> successAssert.hasSuccessSatisfying(passingCondition))
+                .isLessThan(MAX_ALLOCATED_BYTES);
+    }
+
+    @Test
+    void hasSuccessInstanceOf_should_not_allocate() {
+        assertThatAllocatedBytes(() -> successAssert.hasSuccessInstanceOf(String.class))
+                .isLessThan(MAX_ALLOCATED_BYTES);
+    }
+
+    @Test
+    void hasFailure_should_not_allocate() {
+        assertThatAllocatedBytes(() -> failureAssert.hasFailure()).isLessThan(MAX_ALLOCATED_BYTES);
+    }
+
+    @Test
+    void hasFailure_with_Object_should_not_allocate() {
+        assertThatAllocatedBytes(() -> failureAssert.hasFailure(FAILURE)).isLessThan(MAX_ALLOCATED_BYTES);
+    }
+
+    @Test
+    void hasFailureSameAs_should_not_allocate() {
+        assertThatAllocatedBytes(() -> failureAssert.hasFailureSameAs(FAILURE)).isLessThan(MAX_ALLOCATED_BYTES);
+    }
+
+    @Test
+    void hasFailureSatisfying_with_Consumer_should_not_allocate() {
+        assertThatAllocatedBytes(() -> failureAssert.hasFailureSatisfying(f -> {}))
+                .isLessThan(MAX_ALLOCATED_BYTES);
+    }
+
+    @Test
+    void hasFailureSatisfying_with_Condition_should_not_allocate() {
+        assertThatAllocatedBytes(() -> failureAssert.hasFailureSatisfying(passingCondition))
+                .isLessThan(MAX_ALLOCATED_BYTES);
+    }
+
+    @Test
+    void hasFailureInstanceOf_should_not_allocate() {
+        assertThatAllocatedBytes(() -> failureAssert.hasFailureInstanceOf(Integer.class))
+                .isLessThan(MAX_ALLOCATED_BYTES);
+    }
+
+    private static AbstractLongAssert<?> assertThatAllocatedBytes(Runnable assertion) {
+        final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeThat(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled())
+                .as("Thread allocated memory measurement is supported and enabled")
+                .isTrue();
+        for (int i = 0; i < WARM_UP_CALLS; i++) {
+            assertion.run();
+        }
+        final long threadId = Thread.currentThread().threadId();
+        final long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            assertion.run();
+        }
+        final long after = threads.getThreadAllocatedBytes(threadId);
+        return assertThat(after - before).as("Bytes allocated by %d passing assertions", MEASURED_CALLS);
+    }
+}
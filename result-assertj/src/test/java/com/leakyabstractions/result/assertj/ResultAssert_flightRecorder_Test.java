@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultAssertions.assertThat;
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the Java Flight Recorder events emitted by {@link ResultAssert}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultAssert flight recorder")
+class ResultAssert_flightRecorder_Test {
+
+    private static final String ASSERTION_FAILED = "com.leakyabstractions.result.assertj.AssertionFailed";
+    private static final String SLOW_REQUIREMENT = "com.leakyabstractions.result.assertj.SlowRequirement";
+
+    @Test
+    void should_not_record_events_by_default() throws IOException {
+        // Given
+        final ThrowingCallable callable = () -> assertThat(failure("nay")).hasSuccessSatisfying(s -> {});
+        // When
+        final List<RecordedEvent> events = record(new Recording(), callable);
+        // Then
+        then(events).isEmpty();
+    }
+
+    @Test
+    void should_record_kind_of_failure() throws IOException {
+        // Given
+        final Recording recording = new Recording();
+        recording.enable(ASSERTION_FAILED);
+        final ThrowingCallable callable =
+                () -> assertThat(success("yay")).as("description").hasSuccessInstanceOf(Integer.class);
+        // When
+        final List<RecordedEvent> events = record(recording, callable);
+        // Then
+        then(events).hasSize(1);
+        then(events.get(0).getString("kind")).isEqualTo("shouldHaveInstanceOf");
+        then(events.get(0).getString("description")).isEqualTo("description");
+    }
+
+    @Test
+    void should_record_slow_requirement() throws IOException {
+        // Given
+        final Recording recording = new Recording();
+        recording.enable(SLOW_REQUIREMENT).withThreshold(Duration.ofMillis(5));
+        final ThrowingCallable callable = () -> assertThat(failure("nay")).hasFailureSatisfying(f -> sleep(10));
+        // When
+        final List<RecordedEvent> events = record(recording, callable);
+        // Then
+        then(events).hasSize(1);
+        then(events.get(0).getString("assertion")).isEqualTo("hasFailureSatisfying");
+        then(events.get(0).getBoolean("passed")).isEqualTo(true);
+    }
+
+    @Test
+    void should_not_record_fast_requirement() throws IOException {
+        // Given
+        final Recording recording = new Recording();
+        recording.enable(SLOW_REQUIREMENT).withThreshold(Duration.ofSeconds(10));
+        final ThrowingCallable callable = () -> assertThat(success("yay")).hasSuccessSatisfying(s -> {});
+        // When
+        final List<RecordedEvent> events = record(recording, callable);
+        // Then
+        then(events).isEmpty();
+    }
+
+    private static List<RecordedEvent> record(Recording recording, ThrowingCallable callable) throws IOException {
+        final Path file = Files.createTempFile("result-assertj", ".jfr");
+        try (recording) {
+            recording.start();
+            catchThrowable(callable);
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().startsWith("com.leakyabstractions."))
+                    .toList();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultAssertions.assertThat;
+import static com.leakyabstractions.result.assertj.ResultShouldHave.shouldHaveNotIn;
+import static com.leakyabstractions.result.test.Results.failure;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultAssert#hasFailureNotIn(java.util.Collection)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultAssert hasFailureNotIn")
+class ResultAssert_hasFailureNotIn_Test {
+
+    private static final List<String> FORBIDDEN = Arrays.asList("A", "B", "C", "D", "E", "F", "G", "H", "I", "J");
+
+    @Test
+    void should_pass_if_result_has_other_value() {
+        // Given
+        final Result<Integer, String> result = failure("Z");
+        // When
+        final ThrowingCallable callable = () -> assertThat(result).hasFailureNotIn(FORBIDDEN);
+        // Then
+        assertThatCode(callable).doesNotThrowAnyException();
+    }
+
+    @Test
+    void should_fail_if_result_has_forbidden_value() {
+        // Given
+        final Result<Integer, String> result = failure("J");
+        // When
+        final ThrowingCallable callable = () -> assertThat(result).hasFailureNotIn(FORBIDDEN);
+        // Then
+        final Throwable error = catchThrowable(callable);
+        assertThat(error).hasMessage(shouldHaveNotIn(result, 10, "J").create());
+    }
+}
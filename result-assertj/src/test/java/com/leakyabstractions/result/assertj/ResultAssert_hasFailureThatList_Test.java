@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.AssertionsUtil.expectAssertionError;
+import static com.leakyabstractions.result.assertj.ResultAssertions.assertThat;
+import static com.leakyabstractions.result.assertj.ResultShouldBe.shouldBeFailure;
+import static com.leakyabstractions.result.assertj.ResultShouldHave.shouldHaveInstanceOf;
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.assertj.AssertionsUtil.NavigationMethodBaseTest;
+
+/**
+ * Tests for {@link ResultAssert#hasFailureThatList()}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultAssert hasFailureThatList")
+class ResultAssert_hasFailureThatList_Test implements NavigationMethodBaseTest<ResultAssert<String, Object>> {
+
+    @Test
+    void should_fail_if_result_is_success() {
+        // Given
+        final Result<String, Object> result = success("Frodo");
+        // When
+        final ThrowingCallable callable = () -> assertThat(result).hasFailureThatList();
+        // Then
+        final AssertionError assertionError = expectAssertionError(callable);
+        then(assertionError).hasMessage(shouldBeFailure(result).create());
+    }
+
+    @Test
+    void should_fail_if_failure_is_not_a_list() {
+        // Given
+        final Result<String, Object> result = failure("Sauron");
+        // When
+        final ThrowingCallable callable = () -> assertThat(result).hasFailureThatList();
+        // Then
+        final AssertionError assertionError = expectAssertionError(callable);
+        then(assertionError).hasMessage(shouldHaveInstanceOf(result, List.class, "Sauron").create());
+    }
+
+    @Test
+    void should_pass_allowing_list_assertions() {
+        // Given
+        final Result<String, Object> result = failure(Arrays.asList(1, 2, 3));
+        // When
+        final ThrowingCallable callable = () -> assertThat(result).hasFailureThatList().containsExactly(1, 2, 3);
+        // Then
+        assertThatCode(callable).doesNotThrowAnyException();
+    }
+
+    @Override
+    public ResultAssert<String, Object> getAssertion() {
+        final Result<String, Object> result = failure(Arrays.asList(1, 2, 3));
+        return assertThat(result);
+    }
+
+    @Override
+    public AbstractAssert<?, ?> invoke_navigation_method(ResultAssert<String, Object> assertion) {
+        return assertion.hasFailureThatList();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultAssertions.assertThat;
+import static com.leakyabstractions.result.assertj.ResultShouldBe.shouldBeSuccess;
+import static com.leakyabstractions.result.assertj.ResultShouldHave.shouldHaveIn;
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultAssert#hasSuccessIn(java.util.Collection)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultAssert hasSuccessIn")
+class ResultAssert_hasSuccessIn_Test {
+
+    private static final List<Integer> ALLOWED =
+            IntStream.range(0, 50_000).boxed().collect(Collectors.toList());
+
+    @Test
+    void should_fail_if_expected_values_are_null() {
+        // Given
+        final Result<Integer, String> result = success(123);
+        // When
+        final ThrowingCallable callable = () -> assertThat(result).hasSuccessIn(null);
+        // Then
+        assertThatIllegalArgumentException()
+                .isThrownBy(callable)
+                .withMessage("The expected values should not be <null>.");
+    }
+
+    @Test
+    void should_pass_if_result_has_allowed_value() {
+        // Given
+        final Result<Integer, String> result = success(49_999);
+        // When
+        final ThrowingCallable callable = () -> assertThat(result).hasSuccessIn(ALLOWED).hasSuccessIn(ALLOWED);
+        // Then
+        assertThatCode(callable).doesNotThrowAnyException();
+    }
+
+    @Test
+    void should_fail_with_value_and_size_only() {
+        // Given
+        final Result<Integer, String> result = success(-1);
+        // When
+        final ThrowingCallable callable = () -> assertThat(result).hasSuccessIn(ALLOWED);
+        // Then
+        final Throwable error = catchThrowable(callable);
+        assertThat(error).hasMessage(shouldHaveIn(result, 50_000, -1).create());
+    }
+
+    @Test
+    void should_use_success_comparator() {
+        // Given
+        final Result<String, String> result = success("eur");
+        // When
+        final ThrowingCallable callable = () -> assertThat(result)
+                .usingSuccessComparator(String.CASE_INSENSITIVE_ORDER)
+                .hasSuccessIn(Arrays.asList("EUR", "USD"));
+        // Then
+        assertThatCode(callable).doesNotThrowAnyException();
+    }
+
+    @Test
+    void should_fail_if_result_is_failure() {
+        // Given
+        final Result<Integer, String> result = failure("nope");
+        // When
+        final ThrowingCallable callable = () -> assertThat(result).hasSuccessIn(ALLOWED);
+        // Then
+        final Throwable error = catchThrowable(callable);
+        assertThat(error).hasMessage(shouldBeSuccess(result).create());
+    }
+
+    @Test
+    void should_pass_if_result_has_indexed_value() {
+        // Given
+        final Set<Integer> index = ResultValueIndex.of(ALLOWED);
+        final Result<Integer, String> result = success(49_999);
+        // When
+        final ThrowingCallable callable = () -> assertThat(result).hasSuccessIn(index).hasSuccessIn(index);
+        // Then
+        assertThatCode(callable).doesNotThrowAnyException();
+    }
+
+    @Test
+    void should_see_list_modified_between_assertions() {
+        // Given
+        final List<Integer> allowed = IntStream.range(0, 100).boxed().collect(Collectors.toCollection(ArrayList::new));
+        final Result<Integer, String> result = success(0);
+        final ResultAssert<Integer, String> assertion = assertThat(result).hasSuccessIn(allowed).hasSuccessIn(allowed);
+        allowed.set(0, -1);
+        // When
+        final ThrowingCallable callable = () -> assertion.hasSuccessIn(allowed);
+        // Then
+        final Throwable error = catchThrowable(callable);
+        assertThat(error).hasMessage(shouldHaveIn(result, 100, 0).create());
+    }
+}
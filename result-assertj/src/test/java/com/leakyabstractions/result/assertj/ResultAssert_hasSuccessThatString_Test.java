@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.AssertionsUtil.expectAssertionError;
+import static com.leakyabstractions.result.assertj.ResultAssertions.assertThat;
+import static com.leakyabstractions.result.assertj.ResultShouldBe.shouldBeSuccess;
+import static com.leakyabstractions.result.assertj.ResultShouldHave.shouldHaveInstanceOf;
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+import com.leakyabstractions.result.assertj.AssertionsUtil.NavigationMethodBaseTest;
+
+/**
+ * Tests for {@link ResultAssert#hasSuccessThatString()}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultAssert hasSuccessThatString")
+class ResultAssert_hasSuccessThatString_Test implements NavigationMethodBaseTest<ResultAssert<Object, Integer>> {
+
+    @Test
+    void should_fail_if_result_is_null() {
+        // Given
+        final Result<Object, Integer> result = null;
+        // When
+        final ThrowingCallable callable = () -> assertThat(result).hasSuccessThatString();
+        // Then
+        final AssertionError assertionError = expectAssertionError(callable);
+        then(assertionError).hasMessage(actualIsNull());
+    }
+
+    @Test
+    void should_fail_if_result_is_failure() {
+        // Given
+        final Result<Object, Integer> result = failure(123);
+        // When
+        final ThrowingCallable callable = () -> assertThat(result).hasSuccessThatString();
+        // Then
+        final AssertionError assertionError = expectAssertionError(callable);
+        then(assertionError).hasMessage(shouldBeSuccess(result).create());
+    }
+
+    @Test
+    void should_fail_if_success_is_not_a_string() {
+        // Given
+        final Result<Object, Integer> result = success(123L);
+        // When
+        final ThrowingCallable callable = () -> assertThat(result).hasSuccessThatString();
+        // Then
+        final AssertionError assertionError = expectAssertionError(callable);
+        then(assertionError).hasMessage(shouldHaveInstanceOf(result, String.class, 123L).create());
+    }
+
+    @Test
+    void should_pass_allowing_string_assertions() {
+        // Given
+        final Result<Object, Integer> result = success("Frodo");
+        // When
+        final ThrowingCallable callable = () -> assertThat(result).hasSuccessThatString().startsWith("Fro");
+        // Then
+        assertThatCode(callable).doesNotThrowAnyException();
+    }
+
+    @Override
+    public ResultAssert<Object, Integer> getAssertion() {
+        final Result<Object, Integer> result = success("Frodo");
+        return assertThat(result);
+    }
+
+    @Override
+    public AbstractAssert<?, ?> invoke_navigation_method(ResultAssert<Object, Integer> assertion) {
+        return assertion.hasSuccessThatString();
+    }
+}
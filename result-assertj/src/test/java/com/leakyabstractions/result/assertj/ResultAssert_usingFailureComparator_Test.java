@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultAssertions.assertThat;
+import static com.leakyabstractions.result.test.Results.failure;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.Comparator;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultAssert#usingFailureComparator(Comparator)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultAssert usingFailureComparator")
+class ResultAssert_usingFailureComparator_Test {
+
+    @Test
+    void should_fail_if_comparator_is_null() {
+        // Given
+        final Result<String, String> result = failure("something");
+        // When
+        final ThrowingCallable callable = () -> assertThat(result).usingFailureComparator(null);
+        // Then
+        assertThatIllegalArgumentException()
+                .isThrownBy(callable)
+                .withMessage("The comparator should not be <null>.");
+    }
+
+    @Test
+    void should_pass_if_comparator_considers_values_equal() {
+        // Given
+        final Result<String, String> result = failure("something");
+        // When
+        final ThrowingCallable callable = () -> assertThat(result)
+                .usingFailureComparator(String.CASE_INSENSITIVE_ORDER)
+                .hasFailure("SOMETHING");
+        // Then
+        assertThatCode(callable).doesNotThrowAnyException();
+    }
+
+    @Test
+    void should_fail_with_comparator_description() {
+        // Given
+        final Result<String, String> result = failure("something");
+        // When
+        final ThrowingCallable callable = () -> assertThat(result)
+                .usingFailureComparator(Comparator.comparingInt(String::length), "length comparator")
+                .hasFailure("nothing");
+        // Then
+        final Throwable error = catchThrowable(callable);
+        assertThat(error)
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("when comparing values using", "length comparator");
+    }
+
+    @Test
+    void should_revert_to_equals_when_using_default_comparators() {
+        // Given
+        final Result<String, String> result = failure("something");
+        // When
+        final ThrowingCallable callable = () -> assertThat(result)
+                .usingFailureComparator(String.CASE_INSENSITIVE_ORDER)
+                .usingDefaultComparators()
+                .hasFailure("SOMETHING");
+        // Then
+        final Throwable error = catchThrowable(callable);
+        assertThat(error)
+                .isInstanceOf(AssertionError.class)
+                .hasMessageNotContaining("when comparing values using");
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.AssertionsUtil.expectAssertionError;
+import static com.leakyabstractions.result.assertj.ResultAssertions.assertThat;
+import static com.leakyabstractions.result.assertj.ResultShouldHave.shouldHave;
+import static com.leakyabstractions.result.test.Results.success;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultAssertionError#getMessage()}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultAssertionError getMessage")
+class ResultAssertionError_getMessage_Test {
+
+    @Test
+    void should_not_render_message_until_requested() {
+        // Given
+        final Result<String, Integer> result = success("actual");
+        final CountingRepresentation representation = new CountingRepresentation();
+        // When
+        final AssertionError error = expectAssertionError(
+                () -> assertThat(result).withRepresentation(representation).hasSuccess("expected"));
+        // Then
+        assertThat(representation.count).isZero();
+        assertThat(error.getMessage()).isEqualTo(shouldHave(result, "expected", "actual").create());
+        assertThat(representation.count).isPositive();
+    }
+
+    @Test
+    void should_render_message_only_once() {
+        // Given
+        final Result<String, Integer> result = success("actual");
+        final CountingRepresentation representation = new CountingRepresentation();
+        final AssertionError error = expectAssertionError(
+                () -> assertThat(result).withRepresentation(representation).hasSuccess("expected"));
+        final String message = error.getMessage();
+        final int count = representation.count;
+        // When
+        final String again = error.getMessage();
+        // Then
+        assertThat(again).isSameAs(message);
+        assertThat(representation.count).isEqualTo(count);
+    }
+
+    @Test
+    void should_include_description() {
+        // Given
+        final Result<String, Integer> result = success("actual");
+        // When
+        final AssertionError error = expectAssertionError(
+                () -> assertThat(result).as("description").hasSuccess("expected"));
+        // Then
+        assertThat(error).hasMessageStartingWith("[description] ");
+    }
+
+    @Test
+    void should_honor_overriding_error_message() {
+        // Given
+        final Result<String, Integer> result = success("actual");
+        // When
+        final AssertionError error = expectAssertionError(
+                () -> assertThat(result).withFailMessage("overridden").hasSuccess("expected"));
+        // Then
+        assertThat(error).hasMessage("overridden");
+    }
+
+    @Test
+    void should_keep_message_when_serialized() throws Exception {
+        // Given
+        final Result<String, Integer> result = success("actual");
+        final AssertionError error = expectAssertionError(() -> assertThat(result).hasSuccess("expected"));
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        // When
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(error);
+        }
+        final Object deserialized;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            deserialized = in.readObject();
+        }
+        // Then
+        assertThat((Throwable) deserialized).hasMessage(shouldHave(result, "expected", "actual").create());
+    }
+
+    static class CountingRepresentation extends ResultRepresentation {
+
+        int count;
+
+        CountingRepresentation() {
+            super(DEFAULT_MAX_CHARS, DEFAULT_MAX_ELEMENTS, DEFAULT_MAX_DEPTH);
+        }
+
+        @Override
+        public String toStringOf(Object object) {
+            this.count++;
+            return super.toStringOf(object);
+        }
+    }
+}
@@ -0,0 +1,335 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultAssertions.assertThat;
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.assertj.core.api.Condition;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultAssertionListener#onAssertion(String, boolean, long)}.
+ * <p>
+ * Listeners are discovered only once, so the assertions are performed by classes loaded in isolation, along with a
+ * provider-configuration file that declares the listeners.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultAssertionListener onAssertion")
+class ResultAssertionListener_onAssertion_Test {
+
+    private static final String PACKAGE = ResultAssertionListener.class.getPackage().getName() + ".";
+    private static final long SLOW_MILLIS = 20;
+    /** Assertion methods in the order they are performed, once per overload. */
+    private static final List<String> METHODS = Arrays.asList(
+            "hasSuccess",
+            "hasSuccess",
+            "hasSuccessSameAs",
+            "hasSuccessSatisfying",
+            "hasSuccessSatisfying",
+            "hasSuccessInstanceOf",
+            "hasSuccessIn",
+            "hasSuccessNotIn",
+            "hasSuccessThat",
+            "hasSuccessThat",
+            "hasSuccessThatString",
+            "hasSuccessThatInteger",
+            "hasSuccessThatLong",
+            "hasSuccessThatList",
+            "hasSuccessThatMap",
+            "hasFailure",
+            "hasFailure",
+            "hasFailureSameAs",
+            "hasFailureSatisfying",
+            "hasFailureSatisfying",
+            "hasFailureInstanceOf",
+            "hasFailureIn",
+            "hasFailureNotIn",
+            "hasFailureThat",
+            "hasFailureThat",
+            "hasFailureThatString",
+            "hasFailureThatInteger",
+            "hasFailureThatLong",
+            "hasFailureThatList",
+            "hasFailureThatMap");
+
+    @TempDir
+    Path services;
+
+    @Test
+    void should_notify_passed_and_failed_assertions_including_requirement_time() throws Exception {
+        // Given
+        final Callable<List<Entry<String, Long>>> scenario = this.isolated(RecordingListener.class);
+        // When
+        final List<Entry<String, Long>> events = scenario.call();
+        // Then
+        final List<String> expected = new ArrayList<>();
+        for (final String method : METHODS) {
+            expected.add(method + " passed");
+            expected.add(method + " failed");
+        }
+        final List<String> notified = new ArrayList<>();
+        for (final Entry<String, Long> event : events) {
+            notified.add(event.getKey());
+            if (event.getKey().contains("Satisfying")) {
+                then(event.getValue()).isGreaterThanOrEqualTo(Duration.ofMillis(SLOW_MILLIS).toNanos());
+            }
+        }
+        then(notified).isEqualTo(expected);
+    }
+
+    @Test
+    void should_report_faulty_listeners_without_changing_outcomes() throws Exception {
+        // Given
+        final Callable<List<Entry<String, Long>>> scenario =
+                this.isolated(FaultyListener.class, RecordingListener.class);
+        final Logger logger = Logger.getLogger(ResultAssertionListener.class.getName());
+        final List<LogRecord> records = Collections.synchronizedList(new ArrayList<>());
+        final Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                records.add(record);
+            }
+
+            @Override
+            public void flush() {
+                /* do nothing */
+            }
+
+            @Override
+            public void close() {
+                /* do nothing */
+            }
+        };
+        final boolean useParentHandlers = logger.getUseParentHandlers();
+        logger.setUseParentHandlers(false);
+        logger.addHandler(handler);
+        // When
+        final List<Entry<String, Long>> events;
+        try {
+            events = scenario.call();
+        } finally {
+            logger.removeHandler(handler);
+            logger.setUseParentHandlers(useParentHandlers);
+        }
+        // Then
+        then(records).hasSize(events.size());
+        then(records.get(0).getLevel()).isEqualTo(Level.WARNING);
+        then(records.get(0).getThrown()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Callable<List<Entry<String, Long>>> isolated(Class<?>... listeners) throws Exception {
+        final Path file = this.services.resolve("META-INF/services/" + ResultAssertionListener.class.getName());
+        Files.createDirectories(file.getParent());
+        final StringBuilder providers = new StringBuilder();
+        for (final Class<?> listener : listeners) {
+            providers.append(listener.getName()).append('\n');
+        }
+        Files.write(file, providers.toString().getBytes(UTF_8));
+        final ClassLoader loader = new IsolatedClassLoader(
+                location(ResultAssertionListener.class),
+                location(ResultAssertionListener_onAssertion_Test.class),
+                this.services.toUri().toURL());
+        return (Callable<List<Entry<String, Long>>>) loader
+                .loadClass(Scenario.class.getName())
+                .getConstructor()
+                .newInstance();
+    }
+
+    private static URL location(Class<?> clazz) {
+        return clazz.getProtectionDomain().getCodeSource().getLocation();
+    }
+
+    /** Loads the classes of this package without delegating to the parent class loader. */
+    private static final class IsolatedClassLoader extends URLClassLoader {
+
+        IsolatedClassLoader(URL... urls) {
+            super(urls, IsolatedClassLoader.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith(PACKAGE)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (this.getClassLoadingLock(name)) {
+                Class<?> loaded = this.findLoadedClass(name);
+                if (loaded == null) {
+                    loaded = this.findClass(name);
+                }
+                if (resolve) {
+                    this.resolveClass(loaded);
+                }
+                return loaded;
+            }
+        }
+    }
+
+    /** Records every notification. */
+    public static final class RecordingListener implements ResultAssertionListener {
+
+        static final List<Entry<String, Long>> EVENTS = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void onAssertion(String method, boolean passed, long elapsedNanos) {
+            EVENTS.add(new SimpleEntry<>(method + (passed ? " passed" : " failed"), elapsedNanos));
+        }
+    }
+
+    /** Fails on every notification. */
+    public static final class FaultyListener implements ResultAssertionListener {
+
+        @Override
+        public void onAssertion(String method, boolean passed, long elapsedNanos) {
+            throw new IllegalStateException("Faulty listener");
+        }
+    }
+
+    /** Performs one passing and one failing assertion of each kind. */
+    public static final class Scenario implements Callable<List<Entry<String, Long>>> {
+
+        private static final List<Object> VALUES = Arrays.asList("OK", "KO");
+        private static final Object SAME = "OK";
+
+        private static final Consumer<Object> SLOW = x -> sleep();
+        private static final Consumer<Object> SLOW_FAILING = x -> {
+            sleep();
+            throw new AssertionError("Slow requirement failed");
+        };
+        private static final Condition<Object> SLOW_CONDITION = new Condition<>(x -> sleep(), "slow");
+        private static final Condition<Object> SLOW_FAILING_CONDITION = new Condition<>(x -> !sleep(), "slow");
+
+        @Override
+        public List<Entry<String, Long>> call() {
+            final Result<Object, Object> ok = success("OK");
+            final Result<Object, Object> ko = failure("KO");
+            final Result<Object, Object> other = success("XYZ");
+            final Result<Object, Object> otherFailure = failure("XYZ");
+            pass(() -> assertThat(ok).hasSuccess());
+            fail(() -> assertThat(ko).hasSuccess());
+            pass(() -> assertThat(ok).hasSuccess("OK"));
+            fail(() -> assertThat(ok).hasSuccess("KO"));
+            pass(() -> assertThat(success(SAME)).hasSuccessSameAs(SAME));
+            fail(() -> assertThat(ok).hasSuccessSameAs(new String("OK")));
+            pass(() -> assertThat(ok).hasSuccessSatisfying(SLOW));
+            fail(() -> assertThat(ok).hasSuccessSatisfying(SLOW_FAILING));
+            pass(() -> assertThat(ok).hasSuccessSatisfying(SLOW_CONDITION));
+            fail(() -> assertThat(ok).hasSuccessSatisfying(SLOW_FAILING_CONDITION));
+            pass(() -> assertThat(ok).hasSuccessInstanceOf(String.class));
+            fail(() -> assertThat(ok).hasSuccessInstanceOf(Integer.class));
+            pass(() -> assertThat(ok).hasSuccessIn(VALUES));
+            fail(() -> assertThat(other).hasSuccessIn(VALUES));
+            pass(() -> assertThat(other).hasSuccessNotIn(VALUES));
+            fail(() -> assertThat(ok).hasSuccessNotIn(VALUES));
+            pass(() -> assertThat(ok).hasSuccessThat());
+            fail(() -> assertThat(ko).hasSuccessThat());
+            pass(() -> assertThat(ok).hasSuccessThat(InstanceOfAssertFactories.STRING));
+            fail(() -> assertThat(ko).hasSuccessThat(InstanceOfAssertFactories.STRING));
+            pass(() -> assertThat(ok).hasSuccessThatString());
+            fail(() -> assertThat(success(1)).hasSuccessThatString());
+            pass(() -> assertThat(success(1)).hasSuccessThatInteger());
+            fail(() -> assertThat(ok).hasSuccessThatInteger());
+            pass(() -> assertThat(success(1L)).hasSuccessThatLong());
+            fail(() -> assertThat(ok).hasSuccessThatLong());
+            pass(() -> assertThat(success(VALUES)).hasSuccessThatList());
+            fail(() -> assertThat(ok).hasSuccessThatList());
+            pass(() -> assertThat(success(Collections.emptyMap())).hasSuccessThatMap());
+            fail(() -> assertThat(ok).hasSuccessThatMap());
+            pass(() -> assertThat(ko).hasFailure());
+            fail(() -> assertThat(ok).hasFailure());
+            pass(() -> assertThat(ko).hasFailure("KO"));
+            fail(() -> assertThat(ko).hasFailure("OK"));
+            pass(() -> assertThat(failure(SAME)).hasFailureSameAs(SAME));
+            fail(() -> assertThat(ko).hasFailureSameAs(new String("KO")));
+            pass(() -> assertThat(ko).hasFailureSatisfying(SLOW));
+            fail(() -> assertThat(ko).hasFailureSatisfying(SLOW_FAILING));
+            pass(() -> assertThat(ko).hasFailureSatisfying(SLOW_CONDITION));
+            fail(() -> assertThat(ko).hasFailureSatisfying(SLOW_FAILING_CONDITION));
+            pass(() -> assertThat(ko).hasFailureInstanceOf(String.class));
+            fail(() -> assertThat(ko).hasFailureInstanceOf(Integer.class));
+            pass(() -> assertThat(ko).hasFailureIn(VALUES));
+            fail(() -> assertThat(otherFailure).hasFailureIn(VALUES));
+            pass(() -> assertThat(otherFailure).hasFailureNotIn(VALUES));
+            fail(() -> assertThat(ko).hasFailureNotIn(VALUES));
+            pass(() -> assertThat(ko).hasFailureThat());
+            fail(() -> assertThat(ok).hasFailureThat());
+            pass(() -> assertThat(ko).hasFailureThat(InstanceOfAssertFactories.STRING));
+            fail(() -> assertThat(ok).hasFailureThat(InstanceOfAssertFactories.STRING));
+            pass(() -> assertThat(ko).hasFailureThatString());
+            fail(() -> assertThat(failure(1)).hasFailureThatString());
+            pass(() -> assertThat(failure(1)).hasFailureThatInteger());
+            fail(() -> assertThat(ko).hasFailureThatInteger());
+            pass(() -> assertThat(failure(1L)).hasFailureThatLong());
+            fail(() -> assertThat(ko).hasFailureThatLong());
+            pass(() -> assertThat(failure(VALUES)).hasFailureThatList());
+            fail(() -> assertThat(ko).hasFailureThatList());
+            pass(() -> assertThat(failure(Collections.emptyMap())).hasFailureThatMap());
+            fail(() -> assertThat(ko).hasFailureThatMap());
+            return new ArrayList<>(RecordingListener.EVENTS);
+        }
+
+        private static void pass(Runnable assertion) {
+            assertion.run();
+        }
+
+        private static void fail(Runnable assertion) {
+            try {
+                assertion.run();
+            } catch (AssertionError e) {
+                return;
+            }
+            throw new IllegalStateException("The assertion should have failed");
+        }
+
+        private static boolean sleep() {
+            try {
+                Thread.sleep(SLOW_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return true;
+        }
+    }
+}
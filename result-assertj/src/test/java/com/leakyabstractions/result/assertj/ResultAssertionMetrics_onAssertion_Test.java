@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ResultAssertionMetrics#onAssertion(String, boolean, long)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultAssertionMetrics onAssertion")
+class ResultAssertionMetrics_onAssertion_Test {
+
+    @Test
+    void should_count_passed_and_failed_assertions_by_method() {
+        // Given
+        final ResultAssertionMetrics metrics = new ResultAssertionMetrics();
+        // When
+        metrics.onAssertion("hasSuccess", true, 10);
+        metrics.onAssertion("hasSuccess", true, 20);
+        metrics.onAssertion("hasSuccess", false, 30);
+        metrics.onAssertion("hasFailure", false, 40);
+        // Then
+        then(metrics.getPassedCounts()).isEqualTo(counts(0L, 2L));
+        then(metrics.getFailedCounts()).isEqualTo(counts(1L, 1L));
+        then(metrics.getElapsedNanos()).isEqualTo(counts(40L, 60L));
+        then(metrics.getAssertionCount()).isEqualTo(4L);
+    }
+
+    @Test
+    void should_reset_counters() {
+        // Given
+        final ResultAssertionMetrics metrics = new ResultAssertionMetrics();
+        metrics.onAssertion("hasSuccess", true, 10);
+        // When
+        metrics.reset();
+        // Then
+        then(metrics.getAssertionCount()).isEqualTo(0L);
+        then(metrics.getElapsedNanos()).isEqualTo(Collections.singletonMap("hasSuccess", 0L));
+    }
+
+    @Test
+    void should_not_notify_listeners_when_none_is_installed() {
+        // Then
+        then(ResultAssertionListeners.ENABLED).isEqualTo(false);
+    }
+
+    private static Map<String, Long> counts(long hasFailure, long hasSuccess) {
+        final Map<String, Long> counts = new HashMap<>();
+        counts.put("hasFailure", hasFailure);
+        counts.put("hasSuccess", hasSuccess);
+        return counts;
+    }
+}
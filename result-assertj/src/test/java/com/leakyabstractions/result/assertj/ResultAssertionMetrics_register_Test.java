@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ResultAssertionMetrics#register()}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultAssertionMetrics register")
+class ResultAssertionMetrics_register_Test {
+
+    private final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+    @AfterEach
+    void unregister() throws Exception {
+        final ObjectName name = new ObjectName(ResultAssertionMetrics.OBJECT_NAME);
+        if (this.server.isRegistered(name)) {
+            this.server.unregisterMBean(name);
+        }
+    }
+
+    @Test
+    void should_not_register_new_instances() throws Exception {
+        // When
+        new ResultAssertionMetrics();
+        // Then
+        then(this.server.isRegistered(new ObjectName(ResultAssertionMetrics.OBJECT_NAME))).isEqualTo(false);
+    }
+
+    @Test
+    void should_register_instance() throws Exception {
+        // Given
+        final ResultAssertionMetrics metrics = new ResultAssertionMetrics();
+        metrics.register().onAssertion("hasSuccess", true, 10);
+        // When
+        final Object count = this.server.getAttribute(
+                new ObjectName(ResultAssertionMetrics.OBJECT_NAME), "AssertionCount");
+        // Then
+        then(count).isEqualTo(1L);
+    }
+
+    @Test
+    void should_report_registration_failures() throws Exception {
+        // Given
+        new ResultAssertionMetrics().register();
+        // When
+        final ThrowingCallable callable = () -> new ResultAssertionMetrics().register();
+        // Then
+        assertThatExceptionOfType(InstanceAlreadyExistsException.class).isThrownBy(callable);
+    }
+}
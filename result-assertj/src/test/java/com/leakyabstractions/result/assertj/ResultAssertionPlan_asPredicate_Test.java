@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.assertj.core.api.Condition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultAssertionPlan#asPredicate()}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultAssertionPlan asPredicate")
+class ResultAssertionPlan_asPredicate_Test {
+
+    private static final Condition<Object> UPPER_CASE = new Condition<>(
+            x -> x.equals(x.toString().toUpperCase()), "upper case");
+
+    private final Predicate<Result<Integer, Object>> predicate = ResultAssertionPlan.<Integer, Object>create()
+            .hasFailureInstanceOf(String.class)
+            .hasFailureSatisfying(UPPER_CASE)
+            .hasFailureNotIn(asList("NOPE", "NEVER"))
+            .asPredicate();
+
+    @Test
+    void should_accept_result_that_meets_plan() {
+        // Given
+        final Result<Integer, Object> result = failure("ERROR");
+        // When
+        final boolean accepted = predicate.test(result);
+        // Then
+        assertThat(accepted).isTrue();
+    }
+
+    @Test
+    void should_reject_results_that_do_not_meet_plan() {
+        // Given
+        final List<Result<Integer, Object>> results = asList(success(1), failure(2), failure("error"), failure("NOPE"));
+        // When
+        final long accepted = results.stream().filter(predicate).count();
+        // Then
+        assertThat(accepted).isEqualTo(0L);
+    }
+
+    @Test
+    void should_agree_with_checks() {
+        // Given
+        final List<Result<Integer, Object>> results = asList(success(1), success(2), failure("ERROR"), failure(3));
+        final List<ResultAssertionPlan<Integer, Object>> plans = asList(
+                ResultAssertionPlan.<Integer, Object>create().hasSuccess(),
+                ResultAssertionPlan.<Integer, Object>create().hasSuccess(1),
+                ResultAssertionPlan.<Integer, Object>create().hasSuccessInstanceOf(Integer.class),
+                ResultAssertionPlan.<Integer, Object>create().hasSuccessSatisfying(new Condition<>(x -> x > 1, "big")),
+                ResultAssertionPlan.<Integer, Object>create().hasSuccessIn(asList(2, 4)),
+                ResultAssertionPlan.<Integer, Object>create().hasSuccessNotIn(asList(2, 4)),
+                ResultAssertionPlan.<Integer, Object>create().hasFailure(),
+                ResultAssertionPlan.<Integer, Object>create().hasFailure("ERROR"),
+                ResultAssertionPlan.<Integer, Object>create().hasFailureInstanceOf(String.class),
+                ResultAssertionPlan.<Integer, Object>create().hasFailureSatisfying(UPPER_CASE),
+                ResultAssertionPlan.<Integer, Object>create().hasFailureIn(asList("ERROR")),
+                ResultAssertionPlan.<Integer, Object>create().hasFailureNotIn(asList("ERROR")));
+        for (final ResultAssertionPlan<Integer, Object> plan : plans) {
+            for (final Result<Integer, Object> result : results) {
+                // When
+                final boolean accepted = plan.asPredicate().test(result);
+                // Then
+                assertThat(accepted).as("%s accepts %s", plan, result).isEqualTo(plan.check(result).passed());
+            }
+        }
+    }
+
+    @Test
+    void should_reject_null_result() {
+        // Given
+        final Result<Integer, Object> result = null;
+        // When
+        final boolean accepted = predicate.test(result);
+        // Then
+        assertThat(accepted).isFalse();
+    }
+
+    @Test
+    void should_describe_plan() {
+        // Given
+        final ResultAssertionPlan<Integer, Object> plan = ResultAssertionPlan.<Integer, Object>create().hasSuccess(1);
+        // When
+        final String description = plan.asPredicate().toString();
+        // Then
+        assertThat(description).isEqualTo("hasSuccess(1)");
+    }
+}
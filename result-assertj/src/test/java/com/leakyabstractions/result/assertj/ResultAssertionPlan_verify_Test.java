@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultShouldBe.shouldBeSuccess;
+import static com.leakyabstractions.result.assertj.ResultShouldHave.shouldHaveInstanceOf;
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.error.ShouldBe.shouldBe;
+import static org.assertj.core.error.ShouldNotBeNull.shouldNotBeNull;
+
+import org.assertj.core.api.Condition;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultAssertionPlan#verify(Result)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultAssertionPlan verify")
+class ResultAssertionPlan_verify_Test {
+
+    private static final Condition<Object> POSITIVE = new Condition<>(x -> ((Integer) x) > 0, "positive");
+
+    private final ResultAssertionPlan<Object, String> plan = ResultAssertionPlan.<Object, String>create()
+            .hasSuccessInstanceOf(Integer.class)
+            .hasSuccessSatisfying(POSITIVE);
+
+    @Test
+    void should_pass_if_result_meets_plan() {
+        // Given
+        final Result<Object, String> result = success(123);
+        // When
+        final ThrowingCallable callable = () -> plan.verify(result);
+        // Then
+        assertThatCode(callable).doesNotThrowAnyException();
+        assertThat(plan.matches(result)).isTrue();
+    }
+
+    @Test
+    void should_fail_if_result_is_null() {
+        // Given
+        final Result<Object, String> result = null;
+        // When
+        final ThrowingCallable callable = () -> plan.verify(result);
+        // Then
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(callable)
+                .withMessage(shouldNotBeNull().create());
+    }
+
+    @Test
+    void should_fail_if_result_is_failure() {
+        // Given
+        final Result<Object, String> result = failure("nope");
+        // When
+        final ThrowingCallable callable = () -> plan.verify(result);
+        // Then
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(callable)
+                .withMessage(shouldBeSuccess(result).create());
+    }
+
+    @Test
+    void should_fail_at_first_expectation_that_does_not_hold() {
+        // Given
+        final Result<Object, String> result = success("123");
+        // When
+        final ThrowingCallable callable = () -> plan.verify(result);
+        // Then
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(callable)
+                .withMessage(shouldHaveInstanceOf(result, Integer.class, "123").create());
+    }
+
+    @Test
+    void should_fail_if_condition_does_not_hold() {
+        // Given
+        final Result<Object, String> result = success(-1);
+        // When
+        final ThrowingCallable callable = () -> plan.verify(result);
+        // Then
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(callable)
+                .withMessage(shouldBe(-1, POSITIVE).create());
+        assertThat(plan.check(result).kind()).isEqualTo("shouldBe");
+    }
+
+    @Test
+    void should_not_change_plan_when_extended() {
+        // Given
+        final ResultAssertionPlan<Object, String> extended = plan.hasSuccess(456);
+        // When
+        final boolean matches = plan.matches(success(123));
+        // Then
+        assertThat(matches).isTrue();
+        assertThat(extended.matches(success(123))).isFalse();
+        assertThat(extended.size()).isEqualTo(plan.size() + 1);
+    }
+
+    @Test
+    void should_throw_exception_if_expected_value_is_null() {
+        // Given
+        final ResultAssertionPlan<Object, String> empty = ResultAssertionPlan.create();
+        // When
+        final ThrowingCallable callable = () -> empty.hasFailure(null);
+        // Then
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(callable)
+                .withMessage("The expected value should not be <null>.");
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultAssertions.awaitResult;
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.assertj.core.api.Condition;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultAwait#untilSuccess()}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultAwait untilSuccess")
+class ResultAwait_untilSuccess_Test {
+
+    @Test
+    void should_fail_when_jitter_is_out_of_range() {
+        // Given
+        final Supplier<Result<String, Integer>> supplier = () -> success("OK");
+        // When
+        final ThrowingCallable callable = () -> awaitResult(supplier).withJitter(1.5);
+        // Then
+        assertThatIllegalArgumentException()
+                .isThrownBy(callable)
+                .withMessage("The jitter should be between 0 and 1.");
+    }
+
+    @Test
+    void should_fail_when_timeout_expires() {
+        // Given
+        final AtomicInteger attempts = new AtomicInteger();
+        final Supplier<Result<String, Integer>> supplier = () -> failure(attempts.incrementAndGet());
+        // When
+        final ThrowingCallable callable = () -> awaitResult(supplier)
+                .atMost(Duration.ofMillis(200))
+                .pollInterval(Duration.ofMillis(10))
+                .untilSuccess();
+        // Then
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(callable)
+                .withMessageContaining("Expecting supplied result to be a success within")
+                .withMessageContaining("attempts the last observed result was")
+                .withMessageContaining("Failure[");
+    }
+
+    @Test
+    void should_propagate_supplier_exceptions() {
+        // Given
+        final Supplier<Result<String, Integer>> supplier = () -> {
+            throw new IllegalStateException("boom");
+        };
+        // When
+        final ThrowingCallable callable = () -> awaitResult(supplier).untilSuccess();
+        // Then
+        assertThatIllegalStateException().isThrownBy(callable).withMessage("boom");
+    }
+
+    @Test
+    void should_propagate_requirements_exceptions() {
+        // Given
+        final Supplier<Result<Integer, String>> supplier = () -> success(1);
+        // When
+        final ThrowingCallable callable = () -> awaitResult(supplier)
+                .atMost(Duration.ofSeconds(10))
+                .untilSuccessSatisfying(i -> {
+                    throw new IllegalStateException("boom");
+                });
+        // Then
+        assertThatIllegalStateException().isThrownBy(callable).withMessage("boom");
+    }
+
+    @Test
+    void should_pass_when_result_becomes_success() {
+        // Given
+        final AtomicInteger attempts = new AtomicInteger();
+        final Supplier<Result<String, Integer>> supplier =
+                () -> attempts.incrementAndGet() < 5 ? failure(attempts.get()) : success("OK");
+        // When
+        final ThrowingCallable callable = () -> awaitResult(supplier)
+                .exponentialBackoff(Duration.ofMillis(1), Duration.ofMillis(20))
+                .withJitter(0.5)
+                .untilSuccess()
+                .hasSuccess("OK");
+        // Then
+        assertThatCode(callable).doesNotThrowAnyException();
+        assertThat(attempts.get()).isEqualTo(5);
+    }
+
+    @Test
+    void should_pass_when_success_satisfies_condition() {
+        // Given
+        final AtomicInteger attempts = new AtomicInteger();
+        final Supplier<Result<Integer, String>> supplier = () -> success(attempts.incrementAndGet());
+        final Condition<Integer> condition = new Condition<>(i -> i >= 3, "at least three");
+        // When
+        final ThrowingCallable callable = () -> awaitResult(supplier)
+                .pollInterval(Duration.ofMillis(1))
+                .untilSuccessSatisfying(condition)
+                .hasSuccess(3);
+        // Then
+        assertThatCode(callable).doesNotThrowAnyException();
+    }
+
+    @Test
+    void should_report_last_requirements_error() {
+        // Given
+        final Supplier<Result<Integer, String>> supplier = () -> success(1);
+        // When
+        final ThrowingCallable callable = () -> awaitResult(supplier)
+                .atMost(Duration.ofMillis(100))
+                .pollInterval(Duration.ofMillis(10))
+                .untilSuccessSatisfying(i -> assertThat(i).isEqualTo(2));
+        // Then
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(callable)
+                .withMessageContaining("the last requirements error was")
+                .withMessageContaining("Success[1]");
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultAssertions.assertThatResultCall;
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultCallAssert#allocatesAtMostBytesPerCall(long)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultCallAssert allocatesAtMostBytesPerCall")
+class ResultCallAssert_allocatesAtMostBytesPerCall_Test {
+
+    @Test
+    void should_fail_when_budget_is_negative() {
+        // Given
+        final Supplier<Result<String, Integer>> supplier = () -> success("OK");
+        // When
+        final ThrowingCallable callable = () -> assertThatResultCall(supplier).allocatesAtMostBytesPerCall(-1);
+        // Then
+        assertThatIllegalArgumentException()
+                .isThrownBy(callable)
+                .withMessage("The allocation budget should not be negative.");
+    }
+
+    @Test
+    void should_pass_when_supplier_does_not_allocate() {
+        // Given
+        final Result<String, Integer> result = success("OK");
+        final Supplier<Result<String, Integer>> supplier = () -> result;
+        // When
+        final ThrowingCallable callable = () -> assertThatResultCall(supplier)
+                .allocatesAtMostBytesPerCall(8)
+                .hasSuccessAllocatingAtMost(8)
+                .hasSuccess("OK");
+        // Then
+        assertThatCode(callable).doesNotThrowAnyException();
+    }
+
+    @Test
+    void should_fail_when_supplier_allocates_too_much() {
+        // Given
+        final Supplier<Result<byte[], Integer>> supplier = () -> success(new byte[1024]);
+        // When
+        final ThrowingCallable callable = () -> assertThatResultCall(supplier)
+                .warmUp(1_000)
+                .iterations(1_000)
+                .allocatesAtMostBytesPerCall(256);
+        // Then
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(callable)
+                .withMessageContaining("Expecting each call to the supplier to allocate at most:")
+                .withMessageContaining("<256 bytes>")
+                .withMessageContaining("but on average over 1000 calls it allocated:");
+    }
+
+    @Test
+    void should_fail_when_supplier_allocates_less_than_one_byte_per_call_over_budget() {
+        // Given
+        final Result<String, Integer> result = success("OK");
+        final AtomicInteger calls = new AtomicInteger();
+        final Object[] allocations = new Object[1];
+        final Supplier<Result<String, Integer>> supplier = () -> {
+            if (calls.incrementAndGet() == 1_001) {
+                allocations[0] = new byte[64];
+            }
+            return result;
+        };
+        // When
+        final ThrowingCallable callable = () -> assertThatResultCall(supplier)
+                .warmUp(1_000)
+                .iterations(1_000)
+                .allocatesAtMostBytesPerCall(0);
+        // Then
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(callable)
+                .withMessageContaining("<0 bytes>")
+                .withMessageContaining("but on average over 1000 calls it allocated:")
+                .withMessageContaining("<0.");
+    }
+
+    @Test
+    void should_fail_when_supplier_returns_failure() {
+        // Given
+        final Result<String, Integer> result = failure(123);
+        final Supplier<Result<String, Integer>> supplier = () -> result;
+        // When
+        final ThrowingCallable callable = () -> assertThatResultCall(supplier).hasSuccessAllocatingAtMost(8);
+        // Then
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(callable)
+                .withMessageContaining("to be a success but was not");
+    }
+
+    @Test
+    void should_fail_when_supplier_returns_null() {
+        // Given
+        final Supplier<Result<String, Integer>> supplier = () -> null;
+        // When
+        final Throwable error = catchThrowable(() -> assertThatResultCall(supplier).hasSuccessAllocatingAtMost(8));
+        // Then
+        assertThat(error)
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("Expecting actual not to be null");
+        assertThatCode(() -> ResultFailureReport.of(error)).doesNotThrowAnyException();
+        assertThatCode(() -> new ObjectOutputStream(new ByteArrayOutputStream()).writeObject(error))
+                .doesNotThrowAnyException();
+    }
+}
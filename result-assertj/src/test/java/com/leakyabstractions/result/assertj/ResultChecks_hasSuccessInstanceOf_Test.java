@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultShouldBe.shouldBeSuccess;
+import static com.leakyabstractions.result.assertj.ResultShouldHave.shouldHaveInstanceOf;
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultChecks#hasSuccessInstanceOf(Class)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultChecks hasSuccessInstanceOf")
+class ResultChecks_hasSuccessInstanceOf_Test {
+
+    @Test
+    void should_pass_if_result_has_expected_success() {
+        // Given
+        final Result<String, Integer> result = success("something");
+        // When
+        final ResultVerdict verdict = ResultChecks.of(result).hasSuccessInstanceOf(String.class);
+        // Then
+        assertThat(verdict).isSameAs(ResultVerdict.PASSED);
+    }
+
+    @Test
+    void should_fail_if_success_does_not_match() {
+        // Given
+        final Result<String, Integer> result = success("something");
+        // When
+        final ResultVerdict verdict = ResultChecks.of(result).hasSuccessInstanceOf(Integer.class);
+        // Then
+        assertThat(verdict.failed()).isEqualTo(true);
+        assertThat(verdict.kind()).isEqualTo("shouldHaveInstanceOf");
+        assertThat(verdict.message()).isEqualTo(shouldHaveInstanceOf(result, Integer.class, "something").create());
+    }
+
+    @Test
+    void should_fail_if_expected_value_is_null() {
+        // Given
+        final Result<String, Integer> result = success("something");
+        // When
+        final ThrowingCallable callable = () -> ResultChecks.of(result).hasSuccessInstanceOf((Class<?>) null);
+        // Then
+        assertThatIllegalArgumentException()
+                .isThrownBy(callable)
+                .withMessage("The expected value should not be <null>.");
+    }
+
+    @Test
+    void should_check_result_before_argument() {
+        // Given
+        final Result<String, Integer> result = failure(123);
+        // When
+        final ResultVerdict verdict = ResultChecks.of(result).hasSuccessInstanceOf((Class<?>) null);
+        // Then
+        assertThat(verdict.kind()).isEqualTo("shouldBeSuccess");
+    }
+
+    @Test
+    void should_fail_if_result_is_failure() {
+        // Given
+        final Result<String, Integer> result = failure(123);
+        // When
+        final ResultVerdict verdict = ResultChecks.of(result).hasSuccessInstanceOf(String.class);
+        // Then
+        assertThat(verdict.kind()).isEqualTo("shouldBeSuccess");
+        assertThat(verdict.message()).isEqualTo(shouldBeSuccess(result).create());
+    }
+
+    @Test
+    void should_fail_if_result_is_null() {
+        // Given
+        final Result<String, Integer> result = null;
+        // When
+        final ResultVerdict verdict = ResultChecks.of(result).hasSuccessInstanceOf(String.class);
+        // Then
+        assertThat(verdict.kind()).isEqualTo("shouldNotBeNull");
+    }
+}
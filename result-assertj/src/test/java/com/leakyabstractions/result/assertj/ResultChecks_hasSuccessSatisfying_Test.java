@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultShouldBe.shouldBeSuccess;
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.error.ShouldBe.shouldBe;
+
+import org.assertj.core.api.Condition;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultChecks#hasSuccessSatisfying(Condition)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultChecks hasSuccessSatisfying")
+class ResultChecks_hasSuccessSatisfying_Test {
+
+    @Test
+    void should_pass_if_result_has_expected_success() {
+        // Given
+        final Result<String, Integer> result = success("something");
+        final Condition<String> condition = new Condition<>("something"::equals, "expected");
+        // When
+        final ResultVerdict verdict = ResultChecks.of(result).hasSuccessSatisfying(condition);
+        // Then
+        assertThat(verdict).isSameAs(ResultVerdict.PASSED);
+    }
+
+    @Test
+    void should_fail_if_success_does_not_match() {
+        // Given
+        final Result<String, Integer> result = success("not-expected");
+        final Condition<String> condition = new Condition<>("something"::equals, "expected");
+        // When
+        final ResultVerdict verdict = ResultChecks.of(result).hasSuccessSatisfying(condition);
+        // Then
+        assertThat(verdict.failed()).isEqualTo(true);
+        assertThat(verdict.kind()).isEqualTo("shouldBe");
+        assertThat(verdict.message()).isEqualTo(shouldBe("not-expected", condition).create());
+    }
+
+    @Test
+    void should_fail_if_condition_is_null() {
+        // Given
+        final Result<String, Integer> result = success("something");
+        // When
+        final ThrowingCallable callable = () -> ResultChecks.of(result).hasSuccessSatisfying((Condition<String>) null);
+        // Then
+        assertThatNullPointerException()
+                .isThrownBy(callable)
+                .withMessage("The condition to evaluate should not be null");
+    }
+
+    @Test
+    void should_check_result_before_argument() {
+        // Given
+        final Result<String, Integer> result = failure(123);
+        // When
+        final ResultVerdict verdict = ResultChecks.of(result).hasSuccessSatisfying((Condition<String>) null);
+        // Then
+        assertThat(verdict.kind()).isEqualTo("shouldBeSuccess");
+    }
+
+    @Test
+    void should_fail_if_result_is_failure() {
+        // Given
+        final Result<String, Integer> result = failure(123);
+        final Condition<String> condition = new Condition<>("something"::equals, "expected");
+        // When
+        final ResultVerdict verdict = ResultChecks.of(result).hasSuccessSatisfying(condition);
+        // Then
+        assertThat(verdict.kind()).isEqualTo("shouldBeSuccess");
+        assertThat(verdict.message()).isEqualTo(shouldBeSuccess(result).create());
+    }
+
+    @Test
+    void should_fail_if_result_is_null() {
+        // Given
+        final Result<String, Integer> result = null;
+        final Condition<String> condition = new Condition<>("something"::equals, "expected");
+        // When
+        final ResultVerdict verdict = ResultChecks.of(result).hasSuccessSatisfying(condition);
+        // Then
+        assertThat(verdict.kind()).isEqualTo("shouldNotBeNull");
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultRepresentation.RESULT_REPRESENTATION;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ResultDiff#diff(Object, Object, org.assertj.core.presentation.Representation)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultDiff diff")
+class ResultDiff_diff_Test {
+
+    private static final String NL = String.format("%n");
+
+    record Person(String name, int age) {}
+
+    @Test
+    void should_not_diff_simple_values() {
+        // Given
+        final Object expected = 123;
+        final Object actual = 456;
+        // When
+        final String diff = ResultDiff.diff(expected, actual, RESULT_REPRESENTATION);
+        // Then
+        assertThat(diff).isEmpty();
+    }
+
+    @Test
+    void should_diff_long_strings() {
+        // Given
+        final String expected = "The quick brown fox jumps over the lazy dog";
+        final String actual = "The quick brown cat jumps over the lazy dog!";
+        // When
+        final String diff = ResultDiff.diff(expected, actual, RESULT_REPRESENTATION);
+        // Then
+        assertThat(diff).isEqualTo(NL + "Differences:"
+                + NL + "  offset 16: expected <\"fox\"> but was <\"cat\">"
+                + NL + "  offset 43: unexpected <\"!\">");
+    }
+
+    @Test
+    void should_diff_lists() {
+        // Given
+        final List<Integer> expected = numbers(100_000);
+        final List<Integer> actual = numbers(100_000);
+        actual.set(500, -1);
+        actual.remove(90_000);
+        // When
+        final String diff = ResultDiff.diff(expected, actual, RESULT_REPRESENTATION);
+        // Then
+        assertThat(diff).isEqualTo(NL + "Differences:"
+                + NL + "  [500]: expected <500> but was <-1>"
+                + NL + "  [90000]: missing <[90000]>");
+    }
+
+    @Test
+    void should_diff_lists_without_random_access() {
+        // Given
+        final List<Integer> expected = new LinkedList<>(numbers(100_000));
+        final List<Integer> actual = new LinkedList<>(numbers(100_000));
+        actual.set(500, -1);
+        actual.remove(90_000);
+        // When
+        final String diff = ResultDiff.diff(expected, actual, RESULT_REPRESENTATION);
+        // Then
+        assertThat(diff).isEqualTo(NL + "Differences:"
+                + NL + "  [500]: expected <500> but was <-1>"
+                + NL + "  [90000]: missing <[90000]>");
+    }
+
+    @Test
+    void should_not_copy_lists_whose_lengths_differ_beyond_limits() {
+        // Given
+        final List<Integer> expected = new LinkedList<>(numbers(100_000));
+        final List<Integer> actual = new LinkedList<>(numbers(10));
+        // When
+        final String diff = ResultDiff.diff(expected, actual, RESULT_REPRESENTATION);
+        // Then
+        assertThat(diff).isEqualTo(NL + "Differences:"
+                + NL + "  value: first mismatch at offset 10 (diff limits exceeded)");
+    }
+
+    @Test
+    void should_diff_maps_and_records() {
+        // Given
+        final Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("owner", new Person("Alice", 30));
+        expected.put("pets", Arrays.asList("cat", "dog"));
+        final Map<String, Object> actual = new LinkedHashMap<>();
+        actual.put("owner", new Person("Alice", 31));
+        actual.put("tags", Arrays.asList("new"));
+        // When
+        final String diff = ResultDiff.diff(expected, actual, RESULT_REPRESENTATION);
+        // Then
+        assertThat(diff).isEqualTo(NL + "Differences:"
+                + NL + "  [\"owner\"].age: expected <30> but was <31>"
+                + NL + "  [\"pets\"]: missing, expected <[\"cat\", \"dog\"]>"
+                + NL + "  [\"tags\"]: unexpected <[\"new\"]>");
+    }
+
+    @Test
+    void should_diff_record_against_null_element() {
+        // Given
+        final List<Person> expected = Arrays.asList(new Person("Alice", 30), new Person("Bob", 40));
+        final List<Person> actual = Arrays.asList(new Person("Alice", 30), null);
+        // When
+        final String diff = ResultDiff.diff(expected, actual, RESULT_REPRESENTATION);
+        // Then
+        assertThat(diff).isEqualTo(NL + "Differences:"
+                + NL + "  [1]: expected <Person[name=Bob, age=40]> but was <null>");
+    }
+
+    @Test
+    void should_diff_record_against_null_map_value() {
+        // Given
+        final Map<String, Person> expected = new LinkedHashMap<>();
+        expected.put("owner", new Person("Alice", 30));
+        final Map<String, Person> actual = new LinkedHashMap<>();
+        actual.put("owner", null);
+        // When
+        final String diff = ResultDiff.diff(expected, actual, RESULT_REPRESENTATION);
+        // Then
+        assertThat(diff).isEqualTo(NL + "Differences:"
+                + NL + "  [\"owner\"]: expected <Person[name=Alice, age=30]> but was <null>");
+    }
+
+    @Test
+    void should_not_diff_record_against_null() {
+        // Given
+        final Object expected = new Person("Alice", 30);
+        // When
+        final String diff = ResultDiff.diff(expected, null, RESULT_REPRESENTATION);
+        // Then
+        assertThat(diff).isEmpty();
+    }
+
+    @Test
+    void should_fall_back_to_first_mismatch_when_limits_are_exceeded() {
+        // Given
+        final String expected = "x" + repeat('a', 5_000);
+        final String actual = "x" + repeat('b', 5_000);
+        // When
+        final String diff = ResultDiff.diff(expected, actual, RESULT_REPRESENTATION);
+        // Then
+        assertThat(diff).isEqualTo(NL + "Differences:"
+                + NL + "  value: first mismatch at offset 1 (diff limits exceeded)");
+    }
+
+    @Test
+    void should_cap_number_of_differences() {
+        // Given
+        final List<Integer> expected = numbers(1_000);
+        final List<Integer> actual = numbers(1_000);
+        for (int i = 0; i < 1_000; i += 10) {
+            actual.set(i, -i);
+        }
+        // When
+        final String diff = ResultDiff.diff(expected, actual, RESULT_REPRESENTATION);
+        // Then
+        assertThat(diff.split(NL).length).isEqualTo(ResultDiff.MAX_DIFFERENCES + 3);
+        assertThat(diff).endsWith(NL + "  ...");
+    }
+
+    private static List<Integer> numbers(int size) {
+        return IntStream.range(0, size).boxed().collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private static String repeat(char c, int times) {
+        final char[] chars = new char[times];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultAssertions.assertThat;
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ResultFailureReportWriter#writeAll(Iterable)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultFailureReportWriter writeAll")
+class ResultFailureReportWriter_writeAll_Test {
+
+    @Test
+    void should_write_one_line_per_report() throws IOException {
+        // Given
+        final StringWriter out = new StringWriter();
+        final List<Throwable> errors = Arrays.asList(
+                catchThrowable(() -> assertThat(failure("multi\nline")).hasSuccess()),
+                new AssertionError("Not a result assertion"),
+                catchThrowable(() -> assertThat(success(123)).hasFailure()));
+        // When
+        final int written;
+        try (ResultFailureReportWriter writer = new ResultFailureReportWriter(out)) {
+            written = writer.writeAll(errors);
+        }
+        // Then
+        assertThat(written).isEqualTo(2);
+        assertThat(out.toString()).isEqualTo(""
+                + "{\"kind\":\"shouldBeSuccess\",\"expectedSide\":\"success\",\"actualSide\":\"failure\","
+                + "\"expectedType\":null,\"expectedValue\":null,\"actualType\":\"java.lang.String\","
+                + "\"actualValue\":\"\\\"multi\\nline\\\"\",\"description\":null}\n"
+                + "{\"kind\":\"shouldBeFailure\",\"expectedSide\":\"failure\",\"actualSide\":\"success\","
+                + "\"expectedType\":null,\"expectedValue\":null,\"actualType\":\"java.lang.Integer\","
+                + "\"actualValue\":\"123\",\"description\":null}\n");
+    }
+}
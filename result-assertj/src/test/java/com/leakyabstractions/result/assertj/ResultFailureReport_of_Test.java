@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultAssertions.assertThat;
+import static com.leakyabstractions.result.assertj.ResultRepresentation.RESULT_REPRESENTATION;
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.description.EmptyTextDescription.emptyDescription;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.assertj.ResultFailureReport.Side;
+
+/**
+ * Tests for {@link ResultFailureReport#of(Throwable)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultFailureReport of")
+class ResultFailureReport_of_Test {
+
+    @Test
+    void should_report_unexpected_side() {
+        // Given
+        final Throwable error = catchThrowable(() -> assertThat(failure(123)).hasSuccess());
+        // When
+        final ResultFailureReport report = ResultFailureReport.of(error).orElse(null);
+        // Then
+        assertThat(report).isNotNull();
+        assertThat(report.kind()).isEqualTo("shouldBeSuccess");
+        assertThat(report.expectedSide()).isEqualTo(Side.SUCCESS);
+        assertThat(report.actualSide()).isEqualTo(Side.FAILURE);
+        assertThat(report.expectedType()).isNull();
+        assertThat(report.expectedValue()).isNull();
+        assertThat(report.actualType()).isEqualTo("java.lang.Integer");
+        assertThat(report.actualValue()).isEqualTo("123");
+    }
+
+    @Test
+    void should_report_unexpected_value() {
+        // Given
+        final Throwable error = catchThrowable(() -> assertThat(success("world")).as("greeting").hasSuccess("hello"));
+        // When
+        final ResultFailureReport report = ResultFailureReport.of(error).orElse(null);
+        // Then
+        assertThat(report).isNotNull();
+        assertThat(report.toString()).isEqualTo(""
+                + "{\"kind\":\"shouldHave\",\"expectedSide\":\"success\",\"actualSide\":\"success\","
+                + "\"expectedType\":\"java.lang.String\",\"expectedValue\":\"\\\"hello\\\"\","
+                + "\"actualType\":\"java.lang.String\",\"actualValue\":\"\\\"world\\\"\","
+                + "\"description\":\"greeting\"}");
+    }
+
+    @Test
+    void should_report_unexpected_type() {
+        // Given
+        final Throwable error = catchThrowable(() -> assertThat(failure(123)).hasFailureInstanceOf(String.class));
+        // When
+        final ResultFailureReport report = ResultFailureReport.of(error).orElse(null);
+        // Then
+        assertThat(report).isNotNull();
+        assertThat(report.kind()).isEqualTo("shouldHaveInstanceOf");
+        assertThat(report.expectedSide()).isEqualTo(Side.FAILURE);
+        assertThat(report.expectedType()).isEqualTo("java.lang.String");
+        assertThat(report.expectedValue()).isNull();
+        assertThat(report.actualType()).isEqualTo("java.lang.Integer");
+    }
+
+    @Test
+    void should_not_report_other_errors() {
+        // Given
+        final Throwable error = new AssertionError("Nope");
+        // When
+        final boolean present = ResultFailureReport.of(error).isPresent();
+        // Then
+        assertThat(present).isEqualTo(false);
+    }
+
+    @Test
+    void should_report_null_result() {
+        // Given
+        final ResultErrorMessageFactory factory = ResultShouldBe.shouldBeSuccess(null);
+        // When
+        final ResultFailureReport report = factory.report(emptyDescription(), RESULT_REPRESENTATION);
+        // Then
+        assertThat(report.kind()).isEqualTo("shouldBeSuccess");
+        assertThat(report.expectedSide()).isEqualTo(Side.SUCCESS);
+        assertThat(report.actualSide()).isNull();
+        assertThat(report.actualType()).isNull();
+        assertThat(report.actualValue()).isEqualTo("null");
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultAssertions.assertThatResultFuture;
+import static com.leakyabstractions.result.assertj.ResultShouldBe.shouldBeFailure;
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultFutureAssert#succeedsWithin(Duration)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultFutureAssert succeedsWithin")
+class ResultFutureAssert_succeedsWithin_Test {
+
+    @Test
+    void should_fail_when_timeout_is_null() {
+        // Given
+        final CompletableFuture<Result<String, Integer>> future = completedFuture(success("OK"));
+        // When
+        final ThrowingCallable callable = () -> assertThatResultFuture(future).succeedsWithin(null);
+        // Then
+        assertThatIllegalArgumentException()
+                .isThrownBy(callable)
+                .withMessage("The timeout should not be <null> or negative.");
+    }
+
+    @Test
+    void should_fail_when_future_does_not_complete() {
+        // Given
+        final CompletableFuture<Result<String, Integer>> future = new CompletableFuture<>();
+        // When
+        final ThrowingCallable callable =
+                () -> assertThatResultFuture(future).succeedsWithin(Duration.ofMillis(10));
+        // Then
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(callable)
+                .withMessageContaining("to be completed within");
+    }
+
+    @Test
+    void should_fail_when_future_completes_exceptionally() {
+        // Given
+        final CompletableFuture<Result<String, Integer>> future = new CompletableFuture<>();
+        future.completeExceptionally(new IllegalStateException("boom"));
+        // When
+        final ThrowingCallable callable = () -> assertThatResultFuture(future).succeedsWithin(Duration.ofSeconds(1));
+        // Then
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(callable)
+                .withMessageContaining("boom");
+    }
+
+    @Test
+    void should_fail_when_result_is_not_failure() {
+        // Given
+        final Result<String, Integer> result = success("OK");
+        final CompletableFuture<Result<String, Integer>> future = completedFuture(result);
+        // When
+        final ThrowingCallable callable = () -> assertThatResultFuture(future).completesWithFailure();
+        // Then
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(callable)
+                .withMessage(shouldBeFailure(result).create());
+    }
+
+    @Test
+    void should_pass_when_future_completes_in_time() {
+        // Given
+        final CompletableFuture<Result<String, Integer>> future = new CompletableFuture<>();
+        CompletableFuture.runAsync(() -> future.complete(failure(123)));
+        // When
+        final ThrowingCallable callable = () -> assertThatResultFuture(future)
+                .withTimeout(Duration.ofSeconds(5))
+                .completesWithFailure()
+                .hasFailure(123);
+        // Then
+        assertThatCode(callable).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultAssertions.assertThatResultFutures;
+import static com.leakyabstractions.result.test.Results.success;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultFuturesAssert#succeedWithin(Duration)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultFuturesAssert succeedWithin")
+class ResultFuturesAssert_succeedWithin_Test {
+
+    @Test
+    void should_fail_when_any_future_does_not_complete_normally() {
+        // Given
+        final CompletableFuture<Result<Integer, String>> exceptional = new CompletableFuture<>();
+        exceptional.completeExceptionally(new IllegalStateException());
+        final List<CompletableFuture<Result<Integer, String>>> futures = new ArrayList<>();
+        futures.add(completedFuture(success(1)));
+        futures.add(new CompletableFuture<>());
+        futures.add(exceptional);
+        // When
+        final ThrowingCallable callable =
+                () -> assertThatResultFutures(futures).succeedWithin(Duration.ofMillis(10));
+        // Then
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(callable)
+                .withMessageContaining("Expecting all 3 futures to complete normally")
+                .withMessageContaining("but 1 did not complete and 1 completed exceptionally")
+                .withMessageContaining("[1, 2]");
+    }
+
+    @Test
+    void should_fail_when_any_future_is_null() {
+        // Given
+        final List<CompletableFuture<Result<Integer, String>>> futures = new ArrayList<>();
+        futures.add(completedFuture(success(1)));
+        futures.add(new CompletableFuture<>());
+        futures.add(null);
+        // When
+        final ThrowingCallable callable =
+                () -> assertThatResultFutures(futures).succeedWithin(Duration.ofSeconds(10));
+        // Then
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(callable)
+                .withMessageContaining("Expecting all futures not to be null but the one at index 2 was.");
+    }
+
+    @Test
+    void should_pass_when_all_futures_complete_in_time() {
+        // Given
+        final List<CompletableFuture<Result<Integer, String>>> futures = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            final int value = i;
+            futures.add(CompletableFuture.supplyAsync(() -> success(value)));
+        }
+        // When
+        final ThrowingCallable callable = () -> assertThatResultFutures(futures)
+                .succeedWithin(Duration.ofSeconds(10))
+                .allSucceed()
+                .hasSuccessCount(1000);
+        // Then
+        assertThatCode(callable).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultAssertions.assertThatResults;
+import static com.leakyabstractions.result.assertj.ResultsShouldBe.shouldAllBeFailures;
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.List;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultIterableAssert#allFail()}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultIterableAssert allFail")
+class ResultIterableAssert_allFail_Test {
+
+    @Test
+    void should_fail_when_any_result_is_success_or_null() {
+        // Given
+        final List<Result<String, Integer>> results = asList(failure(1), success("a"), null);
+        final ResultScan<String, Integer> scan = new ResultScan<String, Integer>(Result::hasFailure).inspectAll(results);
+        // When
+        final ThrowingCallable callable = () -> assertThatResults(results).allFail();
+        // Then
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(callable)
+                .withMessage(shouldAllBeFailures(scan).create())
+                .withMessageContaining("[1, 2]");
+    }
+
+    @Test
+    void should_pass_when_all_results_are_failure() {
+        // Given
+        final List<Result<String, Integer>> results = asList(failure(1), failure(2));
+        // When
+        final ThrowingCallable callable = () -> assertThatResults(results).allFail();
+        // Then
+        assertThatCode(callable).doesNotThrowAnyException();
+    }
+}
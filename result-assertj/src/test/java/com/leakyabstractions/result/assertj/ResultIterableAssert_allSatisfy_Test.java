@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultAssertions.assertThatResults;
+import static com.leakyabstractions.result.assertj.ResultsShouldBe.shouldAllSatisfy;
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultIterableAssert#allSatisfy(ResultAssertionPlan)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultIterableAssert allSatisfy")
+class ResultIterableAssert_allSatisfy_Test {
+
+    private final ResultAssertionPlan<String, Integer> plan = ResultAssertionPlan.<String, Integer>create()
+            .hasSuccessIn(asList("a", "b", "c"));
+
+    @Test
+    void should_pass_when_all_results_meet_plan() {
+        // Given
+        final List<Result<String, Integer>> results = asList(success("a"), success("b"), success("c"));
+        // When
+        final ThrowingCallable callable = () -> assertThatResults(results).allSatisfy(plan);
+        // Then
+        assertThatCode(callable).doesNotThrowAnyException();
+    }
+
+    @Test
+    void should_fail_when_any_result_does_not_meet_plan() {
+        // Given
+        final List<Result<String, Integer>> results = asList(success("a"), failure(1), success("b"), success("z"));
+        final ResultScan<String, Integer> scan = new ResultScan<>(plan::matches).inspectAll(results);
+        // When
+        final ThrowingCallable callable = () -> assertThatResults(results).allSatisfy(plan);
+        // Then
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(callable)
+                .withMessage(shouldAllSatisfy(plan, scan).create())
+                .withMessageContaining("hasSuccessIn(3 values)")
+                .withMessageContaining("but 2 of 4 inspected did not")
+                .withMessageContaining("[1, 3]");
+    }
+
+    @Test
+    void should_fail_in_parallel_when_any_result_does_not_meet_plan() {
+        // Given
+        final List<Result<String, Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            results.add(i == 7777 ? failure(i) : success("b"));
+        }
+        // When
+        final ThrowingCallable callable = () -> assertThatResults(results).inParallel().allSatisfy(plan);
+        // Then
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(callable)
+                .withMessageContaining("but 1 of 10000 inspected did not")
+                .withMessageContaining("[7777]");
+    }
+
+    @Test
+    void should_throw_exception_when_plan_is_null() {
+        // Given
+        final List<Result<String, Integer>> results = asList(success("a"), success("b"));
+        // When
+        final ThrowingCallable callable = () -> assertThatResults(results).allSatisfy(null);
+        // Then
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(callable)
+                .withMessage("The plan should not be <null>.");
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultAssertions.assertThatResults;
+import static com.leakyabstractions.result.assertj.ResultsShouldBe.shouldAllBeSuccesses;
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultIterableAssert#allSucceed()}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultIterableAssert allSucceed")
+class ResultIterableAssert_allSucceed_Test {
+
+    @Test
+    void should_fail_when_results_are_null() {
+        // Given
+        final List<Result<String, Integer>> results = null;
+        // When
+        final ThrowingCallable callable = () -> assertThatResults(results).allSucceed();
+        // Then
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(callable)
+                .withMessage(actualIsNull());
+    }
+
+    @Test
+    void should_fail_when_any_result_is_failure() {
+        // Given
+        final List<Result<String, Integer>> results = asList(success("a"), failure(1), success("b"), failure(2));
+        final ResultScan<String, Integer> scan = new ResultScan<String, Integer>(Result::hasSuccess).inspectAll(results);
+        // When
+        final ThrowingCallable callable = () -> assertThatResults(results).allSucceed();
+        // Then
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(callable)
+                .withMessage(shouldAllBeSuccesses(scan).create())
+                .withMessageContaining("but 2 of 4 inspected were not")
+                .withMessageContaining("[1, 3]");
+    }
+
+    @Test
+    void should_report_bounded_indices_and_sample() {
+        // Given
+        final List<Result<String, Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            results.add(failure(i));
+        }
+        // When
+        final ThrowingCallable callable = () -> assertThatResults(results).allSucceed();
+        // Then
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(callable)
+                .withMessageContaining("but 1000 of 1000 inspected were not")
+                .withMessageContaining("98, 99, ...]")
+                .withMessageNotContaining("100, ")
+                .withMessageNotContaining("Failure[10]");
+    }
+
+    @Test
+    void should_pass_when_all_results_are_success() {
+        // Given
+        final List<Result<String, Integer>> results = asList(success("a"), success("b"));
+        // When
+        final ThrowingCallable callable = () -> assertThatResults(results).allSucceed();
+        // Then
+        assertThatCode(callable).doesNotThrowAnyException();
+    }
+}
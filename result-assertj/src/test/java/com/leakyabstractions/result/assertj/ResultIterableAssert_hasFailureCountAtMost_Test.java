@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultAssertions.assertThatResults;
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.List;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultIterableAssert#hasFailureCountAtMost(long)},
+ * {@link ResultIterableAssert#hasFailureCount(long)} and {@link ResultIterableAssert#hasSuccessCount(long)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultIterableAssert hasFailureCountAtMost")
+class ResultIterableAssert_hasFailureCountAtMost_Test {
+
+    @Test
+    void should_fail_when_count_is_negative() {
+        // Given
+        final List<Result<String, Integer>> results = asList(success("a"));
+        // When
+        final ThrowingCallable callable = () -> assertThatResults(results).hasFailureCountAtMost(-1);
+        // Then
+        assertThatIllegalArgumentException()
+                .isThrownBy(callable)
+                .withMessage("The expected count should not be negative.");
+    }
+
+    @Test
+    void should_fail_when_there_are_too_many_failures() {
+        // Given
+        final List<Result<String, Integer>> results = asList(failure(1), success("a"), failure(2));
+        // When
+        final ThrowingCallable callable = () -> assertThatResults(results).hasFailureCountAtMost(1);
+        // Then
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(callable)
+                .withMessageContaining("at most 1 failures but found 2 (3 results inspected)")
+                .withMessageContaining("[0, 2]");
+    }
+
+    @Test
+    void should_report_null_elements_apart_from_failures() {
+        // Given
+        final List<Result<String, Integer>> results = asList(null, failure(1), null, failure(2));
+        // When
+        final ThrowingCallable callable = () -> assertThatResults(results).hasFailureCountAtMost(1);
+        // Then
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(callable)
+                .withMessageContaining("at most 1 failures but found 2 (4 results inspected)")
+                .withMessageContaining(String.format("Null elements, which are not failures:%n  <2>"))
+                .withMessageContaining(String.format("Indices of failures:%n  <[1, 3]>"));
+    }
+
+    @Test
+    void should_not_count_null_elements_as_failures() {
+        // Given
+        final List<Result<String, Integer>> results = asList(null, failure(1), success("a"));
+        // When
+        final ThrowingCallable callable = () -> assertThatResults(results).inParallel().hasFailureCount(2);
+        // Then
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(callable)
+                .withMessageContaining("2 failures but found 1 (3 results inspected)")
+                .withMessageContaining(String.format("Null elements, which are not failures:%n  <1>"))
+                .withMessageContaining(String.format("Indices of failures:%n  <[1]>"));
+    }
+
+    @Test
+    void should_fail_when_success_count_differs() {
+        // Given
+        final List<Result<String, Integer>> results = asList(failure(1), success("a"), failure(2));
+        // When
+        final ThrowingCallable callable = () -> assertThatResults(results).hasSuccessCount(2);
+        // Then
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(callable)
+                .withMessageContaining("2 successes but found 1 (3 results inspected)");
+    }
+
+    @Test
+    void should_pass_when_counts_match() {
+        // Given
+        final List<Result<String, Integer>> results = asList(failure(1), success("a"), success("b"));
+        // When
+        final ThrowingCallable callable =
+                () -> assertThatResults(results).hasFailureCountAtMost(1).hasFailureCount(1).hasSuccessCount(2);
+        // Then
+        assertThatCode(callable).doesNotThrowAnyException();
+    }
+}
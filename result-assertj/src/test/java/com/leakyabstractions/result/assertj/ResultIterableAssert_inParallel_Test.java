@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultAssertions.assertThatResults;
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.assertj.core.api.Condition;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultIterableAssert#inParallel()}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultIterableAssert inParallel")
+class ResultIterableAssert_inParallel_Test {
+
+    @Test
+    void should_fail_when_pool_is_null() {
+        // Given
+        final List<Result<Integer, Integer>> results = new ArrayList<>();
+        // When
+        final ThrowingCallable callable = () -> assertThatResults(results).inParallel(null);
+        // Then
+        assertThatIllegalArgumentException()
+                .isThrownBy(callable)
+                .withMessage("The fork/join pool should not be <null>.");
+    }
+
+    @Test
+    void should_produce_same_message_as_sequential_inspection() {
+        // Given
+        final List<Result<Integer, Integer>> results = results(new ArrayList<>());
+        // When
+        final AssertionError sequential =
+                catchThrowableOfType(AssertionError.class, () -> assertThatResults(results).allSucceed());
+        final AssertionError parallel = catchThrowableOfType(
+                AssertionError.class, () -> assertThatResults(results).inParallel(new ForkJoinPool(4)).allSucceed());
+        // Then
+        then(parallel).hasMessage(sequential.getMessage());
+    }
+
+    @Test
+    void should_inspect_lists_that_are_not_random_access() {
+        // Given
+        final List<Result<Integer, Integer>> results = results(new LinkedList<>());
+        // When
+        final AssertionError sequential =
+                catchThrowableOfType(AssertionError.class, () -> assertThatResults(results).hasFailureCount(0));
+        final AssertionError parallel = catchThrowableOfType(
+                AssertionError.class, () -> assertThatResults(results).inParallel().hasFailureCount(0));
+        // Then
+        then(parallel).hasMessage(sequential.getMessage());
+    }
+
+    @Test
+    void should_pass_when_all_results_satisfy_condition() {
+        // Given
+        final List<Result<Integer, Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            results.add(success(i));
+        }
+        final Condition<Integer> condition = new Condition<>(i -> i >= 0, "not negative");
+        // When
+        final ThrowingCallable callable =
+                () -> assertThatResults(results).inParallel().allSucceedSatisfying(condition).hasSuccessCount(100_000);
+        // Then
+        assertThatCode(callable).doesNotThrowAnyException();
+    }
+
+    private static List<Result<Integer, Integer>> results(List<Result<Integer, Integer>> results) {
+        for (int i = 0; i < 100_000; i++) {
+            results.add(i % 997 == 0 ? failure(i) : success(i));
+        }
+        return results;
+    }
+}
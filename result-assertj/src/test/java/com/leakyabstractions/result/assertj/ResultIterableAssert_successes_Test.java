@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultAssertions.assertThatResults;
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.List;
+
+import org.assertj.core.api.Condition;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultIterableAssert#successes()} and {@link ResultIterableAssert#failures()}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultIterableAssert successes")
+class ResultIterableAssert_successes_Test {
+
+    @Test
+    void should_chain_success_values() {
+        // Given
+        final List<Result<String, Integer>> results = asList(success("a"), failure(1), success("b"));
+        // When
+        final ThrowingCallable callable = () -> assertThatResults(results).successes().containsExactly("a", "b");
+        // Then
+        assertThatCode(callable).doesNotThrowAnyException();
+    }
+
+    @Test
+    void should_chain_failure_values() {
+        // Given
+        final List<Result<String, Integer>> results = asList(success("a"), failure(1), success("b"));
+        // When
+        final ThrowingCallable callable = () -> assertThatResults(results).failures().containsExactly(1);
+        // Then
+        assertThatCode(callable).doesNotThrowAnyException();
+    }
+
+    @Test
+    void should_fail_when_success_does_not_satisfy_condition() {
+        // Given
+        final List<Result<String, Integer>> results = asList(success("a"), success("bb"));
+        final Condition<String> condition = new Condition<>(s -> s.length() == 1, "one character");
+        // When
+        final ThrowingCallable callable = () -> assertThatResults(results).allSucceedSatisfying(condition);
+        // Then
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(callable)
+                .withMessageContaining("one character")
+                .withMessageContaining("but 1 of 2 inspected were not");
+    }
+}
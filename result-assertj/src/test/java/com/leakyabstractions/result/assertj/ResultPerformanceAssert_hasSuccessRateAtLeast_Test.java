@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultAssertions.assertThatResultPerformance;
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultPerformanceAssert#hasSuccessRateAtLeast(double)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultPerformanceAssert hasSuccessRateAtLeast")
+class ResultPerformanceAssert_hasSuccessRateAtLeast_Test {
+
+    @Test
+    void should_fail_when_rate_is_out_of_range() {
+        // Given
+        final Supplier<Result<String, Integer>> supplier = () -> success("OK");
+        // When
+        final ThrowingCallable callable = () -> assertThatResultPerformance(supplier).hasSuccessRateAtLeast(1.5);
+        // Then
+        assertThatIllegalArgumentException()
+                .isThrownBy(callable)
+                .withMessage("The success rate should be between 0 and 1.");
+    }
+
+    @Test
+    void should_pass_when_all_calls_succeed() {
+        // Given
+        final Supplier<Result<String, Integer>> supplier = () -> success("OK");
+        // When
+        final ThrowingCallable callable = () -> assertThatResultPerformance(supplier)
+                .warmUp(10)
+                .iterations(100)
+                .hasSuccessRateAtLeast(1)
+                .hasLatencyPercentileBelow(0.5, Duration.ofSeconds(1))
+                .hasMeanThroughputAtLeast(1);
+        // Then
+        assertThatCode(callable).doesNotThrowAnyException();
+    }
+
+    @Test
+    void should_measure_only_once() {
+        // Given
+        final AtomicInteger calls = new AtomicInteger();
+        final Supplier<Result<Integer, String>> supplier = () -> success(calls.incrementAndGet());
+        // When
+        assertThatResultPerformance(supplier)
+                .warmUp(10)
+                .iterations(100)
+                .hasSuccessRateAtLeast(1)
+                .hasSuccessRateAtLeast(0.5);
+        // Then
+        assertThat(calls.get()).isEqualTo(110);
+    }
+
+    @Test
+    void should_fail_with_percentile_table_and_failure_breakdown() {
+        // Given
+        final AtomicInteger calls = new AtomicInteger();
+        final Supplier<Result<String, String>> supplier =
+                () -> calls.incrementAndGet() % 4 == 0 ? failure("timeout") : success("OK");
+        // When
+        final ThrowingCallable callable = () -> assertThatResultPerformance(supplier)
+                .warmUp(0)
+                .iterations(1_000)
+                .hasSuccessRateAtLeast(0.999);
+        // Then
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(callable)
+                .withMessageContaining("Expecting success rate of supplied results to be at least:")
+                .withMessageContaining("<99.9000%>")
+                .withMessageContaining("<75.0000%>")
+                .withMessageContaining("Latency percentiles over 1000 calls:")
+                .withMessageContaining("p99.9")
+                .withMessageContaining("Outcomes: 750 successes, 250 failures, 0 null results")
+                .withMessageContaining("250 x \"timeout\"");
+    }
+
+    @Test
+    void should_fail_when_latency_percentile_is_not_below_limit() {
+        // Given
+        final Supplier<Result<String, Integer>> supplier = () -> success("OK");
+        // When
+        final ThrowingCallable callable = () -> assertThatResultPerformance(supplier)
+                .warmUp(0)
+                .iterations(10)
+                .hasLatencyPercentileBelow(0.99, Duration.ZERO);
+        // Then
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(callable)
+                .withMessageContaining("Expecting p99 latency of supplied results to be below:")
+                .withMessageContaining("<0 ns>");
+    }
+}
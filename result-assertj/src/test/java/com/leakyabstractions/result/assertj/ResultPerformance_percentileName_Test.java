@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ResultPerformance#percentileName(double)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultPerformance percentileName")
+class ResultPerformance_percentileName_Test {
+
+    @Test
+    void should_drop_trailing_zeros() {
+        // When
+        final String name = ResultPerformance.percentileName(0.5);
+        // Then
+        assertThat(name).isEqualTo("p50");
+    }
+
+    @Test
+    void should_not_print_floating_point_noise() {
+        // When
+        final String name = ResultPerformance.percentileName(0.29);
+        // Then
+        assertThat(name).isEqualTo("p29");
+    }
+
+    @Test
+    void should_keep_fractional_digits() {
+        // When
+        final String name = ResultPerformance.percentileName(0.999);
+        // Then
+        assertThat(name).isEqualTo("p99.9");
+    }
+
+    @Test
+    void should_name_maximum_percentile() {
+        // When
+        final String name = ResultPerformance.percentileName(1.0);
+        // Then
+        assertThat(name).isEqualTo("p100");
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultAssertions.assertThat;
+import static com.leakyabstractions.result.assertj.ResultRepresentation.RESULT_REPRESENTATION;
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultRepresentation#toStringOf(Object)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultRepresentation toStringOf")
+class ResultRepresentation_toStringOf_Test {
+
+    @Test
+    void should_represent_success() {
+        // Given
+        final Result<String, Integer> result = success("OK");
+        // When
+        final String string = RESULT_REPRESENTATION.toStringOf(result);
+        // Then
+        then(string).isEqualTo("Success[\"OK\"]");
+    }
+
+    @Test
+    void should_represent_failure() {
+        // Given
+        final Result<String, Integer> result = failure(123);
+        // When
+        final String string = RESULT_REPRESENTATION.toStringOf(result);
+        // Then
+        then(string).isEqualTo("Failure[123]");
+    }
+
+    @Test
+    void should_represent_containers() {
+        // Given
+        final Object value = singletonMap("key", asList(1, 2, 3));
+        // When
+        final String string = RESULT_REPRESENTATION.toStringOf(value);
+        // Then
+        then(string).isEqualTo("{\"key\"=[1, 2, 3]}");
+    }
+
+    @Test
+    void should_elide_middle_elements() {
+        // Given
+        final ResultRepresentation representation = new ResultRepresentation(1000, 4, 5);
+        final int[] value = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+        // When
+        final String string = representation.toStringOf(value);
+        // Then
+        then(string).isEqualTo("[0, 1, ..., 8, 9]");
+    }
+
+    @Test
+    void should_elide_deep_elements() {
+        // Given
+        final ResultRepresentation representation = new ResultRepresentation(1000, 100, 2);
+        final Object value = success(singletonList(singletonList(123)));
+        // When
+        final String string = representation.toStringOf(value);
+        // Then
+        then(string).isEqualTo("Success[[[...]]]");
+    }
+
+    @Test
+    void should_elide_middle_characters() {
+        // Given
+        final ResultRepresentation representation = new ResultRepresentation(20, 100, 5);
+        final String value = repeat('a', 50) + repeat('b', 50);
+        // When
+        final String string = representation.toStringOf(value);
+        // Then
+        then(string).isEqualTo("\"aaaaaaaaa...(82 characters omitted)...bbbbbbbbb\"");
+    }
+
+    @Test
+    void should_keep_region_where_values_differ() {
+        // Given
+        final ResultRepresentation representation = new ResultRepresentation(20, 100, 5);
+        final String expected = repeat('a', 200) + "expected" + repeat('a', 200);
+        final String actual = repeat('a', 200) + "actual" + repeat('a', 200);
+        // When
+        final String[] strings = representation.toStringOf(expected, actual);
+        // Then
+        then(strings[0]).contains("expec").contains("characters omitted");
+        then(strings[1]).contains("actua").contains("characters omitted");
+    }
+
+    @Test
+    void should_abbreviate_error_messages() {
+        // Given
+        final String expected = repeat('x', 10000) + "expected";
+        final String actual = repeat('x', 10000) + "actual";
+        final Result<String, Integer> result = success(actual);
+        // When
+        final AssertionError error =
+                catchThrowableOfType(AssertionError.class, () -> assertThat(result).hasSuccess(expected));
+        // Then
+        then(error.getMessage())
+                .hasSizeLessThan(4 * RESULT_REPRESENTATION.maxChars())
+                .contains("expected")
+                .contains("actual")
+                .contains("characters omitted");
+    }
+
+    @Test
+    void should_fail_when_limits_are_not_positive() {
+        // When
+        final ThrowingCallable callable = () -> new ResultRepresentation(0, 100, 5);
+        // Then
+        assertThatIllegalArgumentException().isThrownBy(callable);
+    }
+
+    @Test
+    void should_use_custom_representation() {
+        // Given
+        final Result<String, Integer> result = failure(123);
+        // When
+        final ThrowingCallable callable =
+                () -> assertThat(result).withRepresentation(new ResultRepresentation(5, 1, 1)).hasSuccess();
+        // Then
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(callable)
+                .withMessageContaining("Fai...(7 characters omitted)...3]");
+    }
+
+    @Test
+    void should_not_materialize_huge_texts() {
+        // Given
+        final CharSequence value = new HugeText(Integer.MAX_VALUE);
+        // When
+        final String string = RESULT_REPRESENTATION.toStringOf(value);
+        // Then
+        then(string)
+                .hasSizeLessThan(2 * RESULT_REPRESENTATION.maxChars())
+                .contains("characters omitted");
+    }
+
+    private static String repeat(char character, int times) {
+        final StringBuilder builder = new StringBuilder(times);
+        for (int i = 0; i < times; i++) {
+            builder.append(character);
+        }
+        return builder.toString();
+    }
+
+    /** Text that is too long to be copied into a string. */
+    static class HugeText implements CharSequence {
+
+        private final int length;
+
+        HugeText(int length) {
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return this.length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return 'x';
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return end - start == this.length ? this : repeat('x', end - start);
+        }
+
+        @Override
+        public String toString() {
+            throw new UnsupportedOperationException("Too long");
+        }
+    }
+}
@@ -17,6 +17,7 @@
 package com.leakyabstractions.result.assertj;
 
 import static com.leakyabstractions.result.assertj.ResultShouldBe.shouldBeFailure;
+import static com.leakyabstractions.result.test.Results.failure;
 import static com.leakyabstractions.result.test.Results.success;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -60,4 +61,39 @@ class ResultSoftAssertion_assertThat_Test {
         // Then
         assertThatCode(assertAll).doesNotThrowAnyException();
     }
+
+    @Test
+    void should_collect_one_error_per_failed_assertion() {
+        // Given
+        final Result<String, Integer> result = failure(123);
+        final ResultSoftAssertions softly = new ResultSoftAssertions();
+        // When
+        softly.assertThat(result).hasSuccess("hello").hasFailure(456).hasFailure(123);
+        // Then
+        assertThat(softly.assertionErrorsCollected()).hasSize(2);
+    }
+
+    @Test
+    void should_return_null_when_navigation_fails() {
+        // Given
+        final Result<String, Integer> result = failure(123);
+        final ResultSoftAssertions softly = new ResultSoftAssertions();
+        // When
+        final Object navigation = softly.assertThat(result).hasSuccessThat();
+        // Then
+        assertThat(navigation).isNull();
+        assertThat(softly.assertionErrorsCollected()).hasSize(1);
+    }
+
+    @Test
+    void should_not_create_proxy() {
+        // Given
+        final Result<String, Integer> result = success("hello");
+        final ResultSoftAssertions softly = new ResultSoftAssertions();
+        // When
+        final ResultAssert<String, Integer> softAssert = softly.assertThat(result).hasSuccess();
+        // Then
+        assertThat(softAssert).isExactlyInstanceOf(SoftResultAssert.class);
+        assertThat(softly.wasSuccess()).isTrue();
+    }
 }
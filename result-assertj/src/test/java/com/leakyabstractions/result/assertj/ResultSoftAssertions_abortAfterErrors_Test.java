@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ResultSoftAssertions#abortAfterErrors(int)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultSoftAssertions abortAfterErrors")
+class ResultSoftAssertions_abortAfterErrors_Test {
+
+    @Test
+    void should_not_abort_below_threshold() {
+        // Given
+        final ResultSoftAssertions softly = new ResultSoftAssertions().abortAfterErrors(2);
+        // When
+        softly.assertThat(failure(123)).hasSuccess();
+        final Throwable error = catchThrowable(() -> softly.assertThat(success("hello")).hasSuccess());
+        // Then
+        assertThat(error).isNull();
+        assertThat(softly.assertionErrorsCollected()).hasSize(1);
+    }
+
+    @Test
+    void should_abort_when_threshold_is_reached() {
+        // Given
+        final ResultSoftAssertions softly = new ResultSoftAssertions().abortAfterErrors(2);
+        softly.assertThat(failure(123)).hasSuccess();
+        // When
+        final Throwable error = catchThrowable(() -> softly.assertThat(success("hello")).hasFailure());
+        // Then
+        assertThat(error)
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("to be a success")
+                .hasMessageContaining("to be a failure");
+    }
+
+    @Test
+    void should_abort_when_threshold_is_reached_by_other_assertions() {
+        // Given
+        final ResultSoftAssertions softly = new ResultSoftAssertions().abortAfterErrors(1);
+        // When
+        final Throwable error = catchThrowable(() -> softly.assertThat("hello").isEqualTo("world"));
+        // Then
+        assertThat(error)
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("world");
+    }
+
+    @Test
+    void should_keep_aborting_after_threshold() {
+        // Given
+        final ResultSoftAssertions softly = new ResultSoftAssertions().abortAfterErrors(1);
+        catchThrowable(() -> softly.assertThat(failure(123)).hasSuccess());
+        // When
+        final Throwable error = catchThrowable(() -> softly.assertThat(success("world")));
+        // Then
+        assertThat(error)
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("to be a success");
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultSoftAssertions#assertionErrorsCollected()}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultSoftAssertions assertionErrorsCollected")
+class ResultSoftAssertions_assertionErrorsCollected_Test {
+
+    @Test
+    void should_report_values_as_they_were_when_assertion_failed() {
+        // Given
+        final ResultSoftAssertions softly = new ResultSoftAssertions();
+        final List<String> value = new ArrayList<>();
+        value.add("before");
+        final Result<List<String>, Integer> result = success(value);
+        softly.assertThat(result).hasSuccess(new ArrayList<>());
+        // When
+        value.set(0, "after");
+        final List<AssertionError> errors = softly.assertionErrorsCollected();
+        // Then
+        assertThat(errors.get(0))
+                .hasMessageContaining("before")
+                .hasMessageNotContaining("after");
+    }
+
+    @Test
+    void should_add_line_number_and_keep_report() {
+        // Given
+        final ResultSoftAssertions softly = new ResultSoftAssertions();
+        softly.assertThat(success(123)).hasSuccess(456);
+        // When
+        final List<AssertionError> errors = softly.assertionErrorsCollected();
+        // Then
+        assertThat(errors.get(0))
+                .hasMessageContaining(".should_add_line_number_and_keep_report(")
+                .hasMessageContaining("(ResultSoftAssertions_assertionErrorsCollected_Test.java:");
+        assertThat(ResultFailureReport.of(errors.get(0))).isPresent();
+    }
+
+    @Test
+    void should_add_line_numbers_to_concurrent_errors() {
+        // Given
+        final ResultSoftAssertions softly = new ConcurrentResultSoftAssertions();
+        softly.assertThat(success(123)).hasSuccess(456);
+        softly.assertThat("abc").isEqualTo("xyz");
+        // When
+        final List<AssertionError> errors = softly.assertionErrorsCollected();
+        // Then
+        assertThat(errors).hasSize(2);
+        assertThat(errors.get(0)).hasMessageContaining("(ResultSoftAssertions_assertionErrorsCollected_Test.java:");
+        assertThat(errors.get(1)).hasMessageContaining("(ResultSoftAssertions_assertionErrorsCollected_Test.java:");
+        assertThat(ResultFailureReport.of(errors.get(0))).isPresent();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.List;
+
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultSoftAssertions#skipAfterErrors(int)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultSoftAssertions skipAfterErrors")
+class ResultSoftAssertions_skipAfterErrors_Test {
+
+    @Test
+    void should_fail_when_threshold_is_not_positive() {
+        // Given
+        final ResultSoftAssertions softly = new ResultSoftAssertions();
+        // When
+        final ThrowingCallable callable = () -> softly.skipAfterErrors(0);
+        // Then
+        assertThatIllegalArgumentException()
+                .isThrownBy(callable)
+                .withMessage("The error threshold should be positive.");
+    }
+
+    @Test
+    void should_evaluate_assertions_below_threshold() {
+        // Given
+        final ResultSoftAssertions softly = new ResultSoftAssertions().skipAfterErrors(3);
+        // When
+        softly.assertThat(failure(123)).hasSuccess();
+        softly.assertThat(success("hello")).hasFailure();
+        // Then
+        assertThat(softly.skippedAssertions()).isEqualTo(0L);
+        assertThat(softly.assertionErrorsCollected()).hasSize(2);
+    }
+
+    @Test
+    void should_skip_assertions_after_threshold() {
+        // Given
+        final ResultSoftAssertions softly = new ResultSoftAssertions().skipAfterErrors(2);
+        // When
+        for (int i = 0; i < 10; i++) {
+            softly.assertThat(failure(i)).hasSuccess();
+        }
+        // Then
+        final List<AssertionError> errors = softly.assertionErrorsCollected();
+        assertThat(softly.skippedAssertions()).isEqualTo(8L);
+        assertThat(errors).hasSize(3);
+        assertThat(errors.get(2))
+                .hasMessage("Soft assertions skipped: 8 after reaching the threshold of 2 errors");
+    }
+
+    @Test
+    void should_chain_navigation_methods_when_skipped() {
+        // Given
+        final ResultSoftAssertions softly = new ResultSoftAssertions().skipAfterErrors(1);
+        softly.assertThat(failure(123)).hasSuccess();
+        final Result<String, Integer> result = success("hello");
+        // When
+        final ThrowingCallable callable = () -> {
+            softly.assertThat(result).hasSuccessThat().isEqualTo("world");
+            softly.assertThat(result).hasSuccessThat(InstanceOfAssertFactories.STRING).startsWith("w");
+            softly.assertThat(result).hasSuccessThatString().startsWith("w");
+            softly.assertThat(result).hasFailureThat().isNotNull();
+            softly.assertThat(result).hasFailureThatInteger().isPositive();
+            softly.assertThat(result).hasFailureThatLong().isPositive();
+            softly.assertThat(result).hasFailureThatList().isNotNull();
+            softly.assertThat(result).hasFailureThatMap().isNotNull();
+        };
+        // Then
+        assertThatCode(callable).doesNotThrowAnyException();
+        assertThat(softly.skippedAssertions()).isEqualTo(8L);
+        assertThat(softly.assertionErrorsCollected()).hasSize(2);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.List;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ResultSoftAssertions#withMaxRetainedErrors(int)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultSoftAssertions withMaxRetainedErrors")
+class ResultSoftAssertions_withMaxRetainedErrors_Test {
+
+    @Test
+    void should_fail_when_max_errors_is_negative() {
+        // Given
+        final ResultSoftAssertions softly = new ResultSoftAssertions();
+        // When
+        final ThrowingCallable callable = () -> softly.withMaxRetainedErrors(-1);
+        // Then
+        assertThatIllegalArgumentException()
+                .isThrownBy(callable)
+                .withMessage("The maximum number of retained errors should not be negative.");
+    }
+
+    @Test
+    void should_retain_all_errors_below_limit() {
+        // Given
+        final ResultSoftAssertions softly = new ResultSoftAssertions().withMaxRetainedErrors(10);
+        // When
+        softly.assertThat(failure(123)).hasSuccess();
+        softly.assertThat(success("hello")).hasFailure();
+        // Then
+        assertThat(softly.assertionErrorsCollected()).hasSize(2);
+    }
+
+    @Test
+    void should_retain_errors_up_to_limit_and_add_summary() {
+        // Given
+        final ResultSoftAssertions softly = new ResultSoftAssertions().withMaxRetainedErrors(3);
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            softly.assertThat(failure(i)).hasSuccess();
+            softly.assertThat(success(i)).hasSuccess(-1);
+        }
+        // Then
+        final List<AssertionError> errors = softly.assertionErrorsCollected();
+        assertThat(errors).hasSize(4);
+        assertThat(errors.get(3))
+                .hasMessageContaining("Soft assertion errors: 20000 in 2 groups (3 retained in full):")
+                .hasMessageContaining("10000 x [ResultShouldBe] Expecting result: <%s> to be a success but was not.")
+                .hasMessageContaining("10000 x [ResultShouldHave]");
+    }
+
+    @Test
+    void should_report_summary_on_assert_all() {
+        // Given
+        final ResultSoftAssertions softly = new ResultSoftAssertions().withMaxRetainedErrors(0);
+        // When
+        softly.assertThat(failure(123)).hasSuccess();
+        final Throwable error = catchThrowable(softly::assertAll);
+        // Then
+        assertThat(error).hasMessageContaining("Soft assertion errors: 1 in 1 groups (0 retained in full):");
+    }
+
+    @Test
+    void should_not_summarize_by_default() {
+        // Given
+        final ResultSoftAssertions softly = new ResultSoftAssertions();
+        // When
+        softly.assertThat(failure(123)).hasSuccess();
+        // Then
+        assertThat(softly.errorSummary()).isEmpty();
+        assertThat(softly.assertionErrorsCollected()).hasSize(1);
+    }
+
+    @Test
+    void should_not_report_discarded_errors_as_success() {
+        // Given
+        final ResultSoftAssertions softly = new ResultSoftAssertions().withMaxRetainedErrors(0);
+        // When
+        softly.assertThat(failure(123)).hasSuccess();
+        // Then
+        assertThat(softly.wasSuccess()).isFalse();
+        softly.assertThat(success("hello")).hasSuccess();
+        assertThat(softly.wasSuccess()).isTrue();
+    }
+
+    @Test
+    void should_not_report_discarded_concurrent_errors_as_success() {
+        // Given
+        final ResultSoftAssertions softly = new ConcurrentResultSoftAssertions().withMaxRetainedErrors(0);
+        // When
+        softly.assertThat(failure(123)).hasSuccess();
+        // Then
+        assertThat(softly.wasSuccess()).isFalse();
+        softly.assertThat(success("hello")).hasSuccess();
+        assertThat(softly.wasSuccess()).isTrue();
+    }
+}
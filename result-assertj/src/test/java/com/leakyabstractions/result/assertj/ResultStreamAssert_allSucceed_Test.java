@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultAssertions.assertThatResults;
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultStreamAssert#allSucceed()}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultStreamAssert allSucceed")
+class ResultStreamAssert_allSucceed_Test {
+
+    @Test
+    void should_fail_when_stream_is_null() {
+        // Given
+        final Stream<Result<Integer, Integer>> results = null;
+        // When
+        final ThrowingCallable callable = () -> assertThatResults(results).allSucceed();
+        // Then
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(callable)
+                .withMessage(actualIsNull());
+    }
+
+    @Test
+    void should_stop_at_first_failure() {
+        // Given
+        final Stream<Result<Integer, Integer>> results =
+                Stream.iterate(0, i -> i + 1).map(i -> i == 3 ? failure(i) : success(i));
+        // When
+        final ThrowingCallable callable = () -> assertThatResults(results).allSucceed();
+        // Then
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(callable)
+                .withMessageContaining("but 1 of 4 inspected were not")
+                .withMessageContaining("[3]")
+                .withMessageContaining("Failure[3]");
+    }
+
+    @Test
+    void should_stop_when_too_many_failures() {
+        // Given
+        final Stream<Result<Integer, Integer>> results =
+                Stream.iterate(0, i -> i + 1).map(i -> i % 2 == 0 ? failure(i) : success(i));
+        // When
+        final ThrowingCallable callable = () -> assertThatResults(results).hasFailureCountAtMost(2);
+        // Then
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(callable)
+                .withMessageContaining("at most 2 failures but found 3 (5 results inspected)");
+    }
+
+    @Test
+    void should_not_stop_at_null_elements_when_counting_failures() {
+        // Given
+        final Stream<Result<Integer, Integer>> results = Stream.of(null, null, null, failure(1), failure(2));
+        // When
+        final ThrowingCallable callable = () -> assertThatResults(results).hasFailureCountAtMost(1);
+        // Then
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(callable)
+                .withMessageContaining("at most 1 failures but found 2 (5 results inspected)");
+    }
+
+    @Test
+    void should_pass_when_all_results_are_success() {
+        // Given
+        final Stream<Result<Integer, Integer>> results = IntStream.range(0, 1_000_000).mapToObj(i -> success(i));
+        // When
+        final ThrowingCallable callable = () -> assertThatResults(results).allSucceed();
+        // Then
+        assertThatCode(callable).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultAssertions.assertThatResults;
+import static com.leakyabstractions.result.test.Results.failure;
+import static com.leakyabstractions.result.test.Results.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultStreamAssert#successes()} and {@link ResultStreamAssert#failures()}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultStreamAssert successes")
+class ResultStreamAssert_successes_Test {
+
+    @Test
+    void should_chain_success_values_and_close_stream() {
+        // Given
+        final AtomicBoolean closed = new AtomicBoolean();
+        final Stream<Result<String, Integer>> results = Stream
+                .<Result<String, Integer>>of(success("a"), failure(1), success("b"))
+                .onClose(() -> closed.set(true));
+        // When
+        final ThrowingCallable callable = () -> assertThatResults(results).successes().containsExactly("a", "b");
+        // Then
+        assertThatCode(callable).doesNotThrowAnyException();
+        assertThat(closed.get()).isTrue();
+    }
+
+    @Test
+    void should_chain_failure_values_and_close_stream() {
+        // Given
+        final AtomicBoolean closed = new AtomicBoolean();
+        final Stream<Result<String, Integer>> results = Stream
+                .<Result<String, Integer>>of(success("a"), failure(1), success("b"))
+                .onClose(() -> closed.set(true));
+        // When
+        final ThrowingCallable callable = () -> assertThatResults(results).failures().containsExactly(1);
+        // Then
+        assertThatCode(callable).doesNotThrowAnyException();
+        assertThat(closed.get()).isTrue();
+    }
+
+    @Test
+    void should_close_stream_when_assertion_stops_early() {
+        // Given
+        final AtomicBoolean closed = new AtomicBoolean();
+        final Stream<Result<String, Integer>> results = Stream.iterate(0, i -> i + 1)
+                .<Result<String, Integer>>map(i -> i == 3 ? failure(i) : success("a"))
+                .onClose(() -> closed.set(true));
+        // When
+        final ThrowingCallable callable = () -> assertThatResults(results).allSucceed();
+        // Then
+        assertThatExceptionOfType(AssertionError.class).isThrownBy(callable);
+        assertThat(closed.get()).isTrue();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ResultValueIndex#of(Collection)}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultValueIndex of")
+class ResultValueIndex_of_Test {
+
+    @Test
+    void should_fail_if_values_are_null() {
+        // When
+        final ThrowingCallable callable = () -> ResultValueIndex.of(null);
+        // Then
+        assertThatIllegalArgumentException()
+                .isThrownBy(callable)
+                .withMessage("The values should not be <null>.");
+    }
+
+    @Test
+    void should_contain_the_same_values() {
+        // Given
+        final List<Integer> values = numbers(100);
+        // When
+        final Set<Integer> index = ResultValueIndex.of(values);
+        // Then
+        assertThat(index).hasSize(100).containsAll(values);
+    }
+
+    @Test
+    void should_take_a_snapshot_of_values() {
+        // Given
+        final List<Integer> values = numbers(100);
+        final Set<Integer> index = ResultValueIndex.of(values);
+        // When
+        values.set(0, 100);
+        // Then
+        assertThat(index.contains(0)).isEqualTo(true);
+        assertThat(index.contains(100)).isEqualTo(false);
+    }
+
+    @Test
+    void should_be_unmodifiable() {
+        // Given
+        final Set<Integer> index = ResultValueIndex.of(numbers(100));
+        // When
+        final ThrowingCallable callable = () -> index.add(100);
+        // Then
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(callable);
+    }
+
+    private static List<Integer> numbers(int size) {
+        return IntStream.range(0, size).boxed().collect(Collectors.toCollection(ArrayList::new));
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.assertj.ResultShouldHave.shouldHaveInstanceOf;
+import static com.leakyabstractions.result.test.Results.failure;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests for {@link ResultVerdict#orElseThrow()}.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("ResultVerdict orElseThrow")
+class ResultVerdict_orElseThrow_Test {
+
+    @Test
+    void should_not_throw_if_passed() {
+        // Given
+        final ResultVerdict verdict = ResultChecks.of(failure(123)).hasFailureInstanceOf(Integer.class);
+        // When
+        final ThrowingCallable callable = verdict::orElseThrow;
+        // Then
+        assertThatCode(callable).doesNotThrowAnyException();
+    }
+
+    @Test
+    void should_throw_verdict_message_if_failed() {
+        // Given
+        final Result<Object, Integer> result = failure(123);
+        final ResultVerdict verdict = ResultChecks.of(result).hasFailureInstanceOf(String.class);
+        // When
+        final Throwable error = catchThrowable(verdict::orElseThrow);
+        // Then
+        assertThat(error)
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(shouldHaveInstanceOf(result, String.class, 123).create())
+                .hasMessage(verdict.message());
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 Guillermo Calvo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.leakyabstractions.result.assertj;
+
+import static com.leakyabstractions.result.test.Results.success;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.api.Condition;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.assertj.core.api.InstanceOfAssertFactory;
+import org.assertj.core.api.ThrowingConsumer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.leakyabstractions.result.api.Result;
+
+/**
+ * Tests that every assertion method of {@link SoftResultAssert} collects errors instead of throwing them.
+ *
+ * @author Guillermo Calvo
+ */
+@DisplayName("SoftResultAssert assertion methods")
+class SoftResultAssert_assertionMethods_Test {
+
+    private static final Result<Object, Object> RESULT = success("value");
+    private static final Object MISMATCH = 123456;
+
+    @Test
+    void should_know_arguments_of_every_result_assertion_method() {
+        for (final Method method : AbstractResultAssert.class.getDeclaredMethods()) {
+            if (isAssertion(method) && Modifier.isPublic(method.getModifiers())) {
+                // When
+                final Object[] arguments = argumentsOf(method, false);
+                // Then
+                assertThat(arguments).as("arguments of %s", method).isNotNull();
+            }
+        }
+    }
+
+    @Test
+    void should_collect_errors_of_every_assertion_method() {
+        for (final Method method : ResultAssert.class.getMethods()) {
+            // Assertions inherited from AssertJ may take arguments of types unknown to this test
+            if (isAssertion(method) && argumentsOf(method, false) != null) {
+                // When
+                final int collected = invoke(method, null, false)
+                        + invoke(method, RESULT, false)
+                        + invoke(method, RESULT, true);
+                // Then
+                assertThat(collected).as("errors collected by %s", method).isPositive();
+            }
+        }
+    }
+
+    @Test
+    void should_override_every_assertion_method() {
+        for (final Method method : ResultAssert.class.getMethods()) {
+            if (isAssertion(method) && !Modifier.isFinal(method.getModifiers())) {
+                // When
+                final Throwable thrown = catchThrowable(
+                        () -> SoftResultAssert.class.getDeclaredMethod(method.getName(), method.getParameterTypes()));
+                // Then
+                assertThat(thrown).as("override of %s", method).isNull();
+            }
+        }
+    }
+
+    private static boolean isAssertion(Method method) {
+        final String name = method.getName();
+        final Class<?> returnType = method.getReturnType();
+        return !Modifier.isStatic(method.getModifiers())
+                && !method.isBridge()
+                && (returnType == void.class || AbstractAssert.class.isAssignableFrom(returnType))
+                && (name.startsWith("is") || name.startsWith("has") || name.startsWith("doesNot")
+                        || name.startsWith("satisfies") || name.startsWith("matches"));
+    }
+
+    // Invokes the assertion method on a soft assertion object and returns the number of errors collected
+    private static int invoke(Method method, Result<Object, Object> actual, boolean matching) {
+        // Given
+        final Object[] arguments = argumentsOf(method, matching);
+        final ResultSoftAssertions softly = new ResultSoftAssertions();
+        final ResultAssert<Object, Object> softAssert = softly.assertThat(actual);
+        // When
+        final Throwable thrown = catchThrowable(() -> method.invoke(softAssert, arguments));
+        // Then
+        assertThat(thrown).as("error thrown by %s", method).isNull();
+        return softly.assertionErrorsCollected().size();
+    }
+
+    // Arguments that make assertions fail, or make negated assertions fail when matching
+    private static Object[] argumentsOf(Method method, boolean matching) {
+        final boolean value = method.getName().contains("Success") || method.getName().contains("Failure");
+        final Object expected = !matching ? MISMATCH : value ? successOf(RESULT) : RESULT;
+        final Class<?>[] types = method.getParameterTypes();
+        final Object[] arguments = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            arguments[i] = argumentOf(types[i], expected, matching);
+            if (arguments[i] == null) {
+                return null;
+            }
+        }
+        return arguments;
+    }
+
+    private static Object argumentOf(Class<?> type, Object expected, boolean matching) {
+        final ThrowingConsumer<Object> requirement = x -> {
+            if (!matching) {
+                throw new AssertionError("requirement");
+            }
+        };
+        if (type == Object.class) {
+            return expected;
+        } else if (type == String.class) {
+            return expected.toString();
+        } else if (type == Class.class) {
+            return expected.getClass();
+        } else if (type == Object[].class) {
+            return new Object[] {expected};
+        } else if (type == Class[].class) {
+            return new Class<?>[] {expected.getClass()};
+        } else if (type == Iterable.class || type == Collection.class) {
+            return singletonList(expected);
+        } else if (type == Condition.class) {
+            return new Condition<>(x -> matching, "matching");
+        } else if (type == Predicate.class) {
+            return (Predicate<Object>) x -> matching;
+        } else if (type == Consumer.class) {
+            return requirement;
+        } else if (type == ThrowingConsumer[].class) {
+            return new ThrowingConsumer<?>[] {requirement};
+        } else if (type == InstanceOfAssertFactory.class) {
+            return matching ? InstanceOfAssertFactories.STRING : InstanceOfAssertFactories.INTEGER;
+        }
+        return null;
+    }
+
+    private static Object successOf(Result<Object, Object> result) {
+        return result.orElse(null);
+    }
+}
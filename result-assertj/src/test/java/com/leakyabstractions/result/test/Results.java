@@ -132,19 +132,49 @@ public interface Results<S, F> extends Result<S, F> {
 
     static <S, F> Results<S, F> success(S value) {
         return new Results<S, F>() {
+            @Override
+            public boolean hasSuccess() {
+                return true;
+            }
+
             @Override
             public Optional<S> getSuccess() {
                 return Optional.of(value);
             }
+
+            @Override
+            public S orElse(S other) {
+                return value;
+            }
+
+            @Override
+            public S orElseMap(Function<? super F, ? extends S> mapper) {
+                return value;
+            }
         };
     }
 
     static <S, F> Results<S, F> failure(F value) {
         return new Results<S, F>() {
+            @Override
+            public boolean hasFailure() {
+                return true;
+            }
+
             @Override
             public Optional<F> getFailure() {
                 return Optional.of(value);
             }
+
+            @Override
+            public S orElse(S other) {
+                return other;
+            }
+
+            @Override
+            public S orElseMap(Function<? super F, ? extends S> mapper) {
+                return mapper.apply(value);
+            }
         };
     }
 }